@@ -0,0 +1,255 @@
+package com.miniprojet;
+
+import com.miniprojet.analytics.RapportVentes;
+import com.miniprojet.analytics.VentesMaterialisees;
+import com.miniprojet.database.Database;
+import com.miniprojet.database.Table;
+import com.miniprojet.factory.ReflectionFactory;
+import com.miniprojet.ingestion.RapportImport;
+import com.miniprojet.model.Monnaie;
+import com.miniprojet.model.StatutCommande;
+import com.miniprojet.service.IAsyncClientService;
+import com.miniprojet.service.IAsyncCommandeService;
+import com.miniprojet.service.IAsyncProduitService;
+import com.miniprojet.service.impl.ClientService;
+import com.miniprojet.service.impl.CommandeService;
+import com.miniprojet.service.impl.ImportCommandesService;
+import com.miniprojet.service.impl.ProduitService;
+import com.miniprojet.service.impl.RapportVentesService;
+import com.miniprojet.service.impl.StockService;
+import com.miniprojet.view.ClientView;
+import com.miniprojet.view.CommandeView;
+import com.miniprojet.view.ProduitView;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Application principale - Système de Gestion Commerciale v3.0
+ * 
+ * Architecture et Design Patterns:
+ * 
+ * SINGLETON PATTERN:
+ * - Database: instance unique de la base de données en mémoire
+ * - Repositories: instances uniques (ProduitRepository, ClientRepository,
+ * CommandeRepository)
+ * - ReflectionFactory: instance unique pour gérer les beans
+ * 
+ * FACTORY METHOD PATTERN avec RÉFLEXION:
+ * - ReflectionFactory: création automatique avec détection des dépendances
+ * - Configuration YAML externe
+ * - Cache intelligent des instances (Map-based)
+ * 
+ * BUILDER PATTERN:
+ * - Toutes les entités (Produit, Client, Commande)
+ * - Tous les DTOs (ProduitDTO, ClientDTO, CommandeDTO)
+ * 
+ * PROTOTYPE PATTERN:
+ * - Clone pour toutes les entités et DTOs
+ * 
+ * OBSERVER PATTERN:
+ * - StockAlertObserver surveille les changements de stock
+ * 
+ * STRATEGY PATTERN:
+ * - EntreeStockStrategy, SortieStockStrategy
+ * 
+ * DEPENDENCY INJECTION via RÉFLEXION:
+ * - Détection automatique des dépendances
+ * - Injection par constructeur
+ * - Résolution récursive
+ * 
+ * DATA TRANSFER OBJECTS (DTOs):
+ * - Séparation entre la couche métier (Entity) et présentation (DTO)
+ * - Conversion via Builder Pattern dans les services
+ */
+public class Main {
+    public static void main(String[] args) {
+
+        Scanner scanner = new Scanner(System.in);
+
+        ReflectionFactory factory = ReflectionFactory.getInstance("factory-config.yml");
+
+        StockService stockService = factory.getBean("IStockService");
+        ProduitService produitService = factory.getBean("IProduitService");
+        ClientService clientService = factory.getBean("IClientService");
+        CommandeService commandeService = factory.getBean("ICommandeService");
+        ImportCommandesService importService = factory.getBean("IImportCommandesService");
+        RapportVentesService rapportVentesService = factory.getBean("IRapportVentesService");
+        VentesMaterialisees ventes = factory.getBean("VentesMaterialisees");
+        IAsyncProduitService produitsAsync = factory.getBean("IAsyncProduitService");
+        IAsyncClientService clientsAsync = factory.getBean("IAsyncClientService");
+        IAsyncCommandeService commandesAsync = factory.getBean("IAsyncCommandeService");
+
+        ProduitView produitView = new ProduitView(produitService, stockService);
+        ClientView clientView = new ClientView(clientService, scanner);
+        CommandeView commandeView = new CommandeView(
+                commandeService,
+                clientService,
+                produitService,
+                scanner);
+
+
+        boolean running = true;
+
+        while (running) {
+            afficherMenuPrincipal();
+            String choice = scanner.nextLine().trim();
+
+            switch (choice) {
+                case "1" -> gererProduits(produitView);
+                case "2" -> gererClients(clientView, scanner);
+                case "3" -> gererCommandes(commandeView, scanner);
+                case "4" -> afficherStatistiques(produitsAsync, clientsAsync, commandesAsync);
+                case "5" -> importerCommandes(importService, scanner);
+                case "6" -> afficherRapportVentes(rapportVentesService, ventes, scanner);
+                case "0" -> {
+                    running = false;
+                    System.out.println("\n╔═══════════════════════════════════════╗");
+                    System.out.println("║   Merci d'avoir utilisé le système   ║");
+                    System.out.println("║          Au revoir!                  ║");
+                    System.out.println("╚═══════════════════════════════════════╝");
+                }
+                default -> System.out.println("❌ Choix invalide.");
+            }
+        }
+
+        scanner.close();
+    }
+
+    private static void afficherMenuPrincipal() {
+        System.out.println("\n" + "═".repeat(70));
+        System.out.println("         SYSTÈME DE GESTION COMMERCIALE");
+        System.out.println("═".repeat(70));
+        System.out.println("1) 📦 Gestion des Produits");
+        System.out.println("2) 👥 Gestion des Clients");
+        System.out.println("3) 🛒 Gestion des Commandes");
+        System.out.println("4) 📊 Statistiques du stockage");
+        System.out.println("5) 📥 Importer des commandes (CSV / JSONL)");
+        System.out.println("6) 📈 Rapport des ventes");
+        System.out.println("0) 🚪 Quitter");
+        System.out.println("═".repeat(50));
+        System.out.print("Votre choix: ");
+    }
+
+    private static void afficherStatistiques(IAsyncProduitService produitsAsync, IAsyncClientService clientsAsync,
+            IAsyncCommandeService commandesAsync) {
+        // Les trois comptages partent ensemble sur l'exécuteur des services
+        CompletableFuture<Integer> produits = produitsAsync.listAll().thenApply(List::size);
+        CompletableFuture<Integer> clients = clientsAsync.listAll().thenApply(List::size);
+        CompletableFuture<Integer> commandes = commandesAsync.listAll().thenApply(List::size);
+
+        System.out.println("\n=== Statistiques de la Database (repositories en mémoire) ===");
+        for (Table.Statistiques statistiques : Database.getInstance().statistiques()) {
+            System.out.println(statistiques);
+        }
+        try {
+            CompletableFuture.allOf(produits, clients, commandes).join();
+            System.out.println("Services: " + produits.join() + " produit(s), " + clients.join() + " client(s), "
+                    + commandes.join() + " commande(s)");
+        } catch (CompletionException e) {
+            System.out.println("❌ Comptage impossible: " + e.getCause().getMessage());
+        }
+    }
+
+    private static void importerCommandes(ImportCommandesService importService, Scanner scanner) {
+        System.out.print("Fichier (.csv, .jsonl): ");
+        String chemin = scanner.nextLine().trim();
+        try {
+            RapportImport rapport = importService.importer(Path.of(chemin));
+            System.out.println(rapport);
+            rapport.getErreurs().stream()
+                    .limit(20)
+                    .forEach(erreur -> System.out.println("  ❌ " + erreur));
+            if (rapport.getErreurs().size() > 20) {
+                System.out.println("  ... " + (rapport.getErreurs().size() - 20) + " autre(s) rejet(s)");
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("❌ Import impossible: " + e.getMessage());
+        }
+    }
+
+    private static void afficherRapportVentes(RapportVentesService rapportVentesService, VentesMaterialisees ventes,
+            Scanner scanner) {
+        // Compteurs tenus en continu: lecture immédiate
+        System.out.println("CA en cours (hors annulées): " + Monnaie.formater(ventes.getChiffreAffairesCentimes())
+                + " FCFA");
+        for (StatutCommande statut : StatutCommande.values()) {
+            System.out.println("  " + statut + ": " + ventes.getNombreCommandes(statut) + " commande(s), "
+                    + Monnaie.formater(ventes.getMontantStatut(statut)) + " FCFA");
+        }
+
+        System.out.print("Nombre de jours (vide = tout l'historique): ");
+        String jours = scanner.nextLine().trim();
+        System.out.print("Statuts (" + Arrays.stream(StatutCommande.values()).map(Enum::name)
+                .collect(Collectors.joining(", ")) + "; vide = tous): ");
+        String saisieStatuts = scanner.nextLine().trim();
+        try {
+            LocalDateTime debut = jours.isEmpty() ? null
+                    : LocalDate.now().minusDays(Integer.parseInt(jours) - 1L).atStartOfDay();
+            Set<StatutCommande> statuts = EnumSet.noneOf(StatutCommande.class);
+            if (!saisieStatuts.isEmpty()) {
+                for (String statut : saisieStatuts.split(",")) {
+                    statuts.add(StatutCommande.valueOf(statut.trim().toUpperCase()));
+                }
+            }
+
+            RapportVentes rapport = rapportVentesService.calculer(debut, null, statuts);
+            System.out.println(rapport);
+            System.out.println("--- Top produits ---");
+            rapport.getParProduit().stream().limit(10).forEach(cumul -> System.out.println(
+                    "  Produit #" + cumul.cle() + ": " + Monnaie.formater(cumul.montantCentimes()) + " FCFA ("
+                            + cumul.quantite() + " vendu(s))"));
+            System.out.println("--- Top clients ---");
+            rapport.getParClient().stream().limit(10).forEach(cumul -> System.out.println(
+                    "  Client #" + cumul.cle() + ": " + Monnaie.formater(cumul.montantCentimes()) + " FCFA ("
+                            + cumul.quantite() + " commande(s))"));
+            System.out.println("--- Par jour ---");
+            rapport.getParJour().forEach(jour -> System.out.println(
+                    "  " + jour.jour() + ": " + Monnaie.formater(jour.montantCentimes()) + " FCFA ("
+                            + jour.commandes() + " commande(s))"));
+        } catch (IllegalArgumentException e) {
+            System.out.println("❌ Saisie invalide: " + e.getMessage());
+        }
+    }
+
+    private static void gererProduits(ProduitView view) {
+        view.start();
+    }
+
+    private static void gererClients(ClientView view, Scanner scanner) {
+        boolean continuer = true;
+        while (continuer) {
+            view.displayMenu();
+            String choice = scanner.nextLine().trim();
+            if ("0".equals(choice)) {
+                continuer = false;
+            } else {
+                view.handleChoice(choice);
+            }
+        }
+    }
+
+    private static void gererCommandes(CommandeView view, Scanner scanner) {
+        boolean continuer = true;
+        while (continuer) {
+            view.displayMenu();
+            String choice = scanner.nextLine().trim();
+            if ("0".equals(choice)) {
+                continuer = false;
+            } else {
+                view.handleChoice(choice);
+            }
+        }
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.miniprojet.analytics;
+
+import java.util.List;
+
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.LigneCommande;
+import com.miniprojet.model.Monnaie;
+
+/**
+ * Accumulateur d'une tâche: totaux primitifs et cumuls par produit,
+ * client et jour
+ */
+final class AgregatVentes {
+
+    long chiffreAffaires;
+    long commandes;
+    long lignes;
+    long articles;
+    // montant des lignes, quantité vendue
+    CumulVentes parProduit = new CumulVentes();
+    // montant des commandes, nombre de commandes
+    CumulVentes parClient = new CumulVentes();
+    // clé = jour epoch (LocalDate.toEpochDay)
+    CumulVentes parJour = new CumulVentes();
+
+    void ajouter(Commande commande) {
+        long montant = commande.getMontantTotalCentimes();
+        chiffreAffaires = Monnaie.additionner(chiffreAffaires, montant);
+        commandes++;
+        lignes += commande.getNombreLignes();
+        articles += commande.getNombreArticles();
+        parClient.ajouter(commande.getClient().getId(), montant, 1);
+        parJour.ajouter((int) commande.getDateCommande().toLocalDate().toEpochDay(), montant, 1);
+
+        List<LigneCommande> lignesCommande = commande.getLignes();
+        for (int i = 0, n = lignesCommande.size(); i < n; i++) {
+            LigneCommande ligne = lignesCommande.get(i);
+            parProduit.ajouter(ligne.getProduit().getId(), ligne.getSousTotalCentimes(), ligne.getQuantite());
+        }
+    }
+
+    AgregatVentes fusionner(AgregatVentes autre) {
+        chiffreAffaires = Monnaie.additionner(chiffreAffaires, autre.chiffreAffaires);
+        commandes += autre.commandes;
+        lignes += autre.lignes;
+        articles += autre.articles;
+        parProduit = parProduit.fusionner(autre.parProduit);
+        parClient = parClient.fusionner(autre.parClient);
+        parJour = parJour.fusionner(autre.parJour);
+        return this;
+    }
+}
@@ -0,0 +1,100 @@
+package com.miniprojet.analytics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.StatutCommande;
+
+/**
+ * Agrégation parallèle des ventes (fork-join)
+ *
+ * La liste des commandes est coupée en deux jusqu'à des tranches de
+ * quelques milliers de commandes; chaque tranche remplit son propre
+ * AgregatVentes (compteurs long, cumuls en tableaux primitifs) sans
+ * aucune synchronisation, puis les résultats sont fusionnés deux à deux
+ * en remontant. Les commandes sont lues, jamais modifiées.
+ */
+public final class AnalyseVentes {
+
+    private static final int TRANCHE_MIN = 2048;
+
+    private AnalyseVentes() {
+    }
+
+    /**
+     * @param statuts statuts retenus (null ou vide = tous)
+     * @param debut   borne incluse, null = non bornée
+     * @param fin     borne exclue, null = non bornée
+     */
+    public static RapportVentes analyser(List<Commande> commandes, Set<StatutCommande> statuts,
+            LocalDateTime debut, LocalDateTime fin, ForkJoinPool pool) {
+        Set<StatutCommande> filtreStatuts = statuts == null ? Set.of() : statuts;
+        boolean[] retenus = new boolean[StatutCommande.values().length];
+        for (StatutCommande statut : filtreStatuts.isEmpty() ? EnumSet.allOf(StatutCommande.class)
+                : filtreStatuts) {
+            retenus[statut.ordinal()] = true;
+        }
+        // Découpage par index: il faut un accès direct
+        List<Commande> source = commandes instanceof RandomAccess ? commandes : new ArrayList<>(commandes);
+        Filtre filtre = new Filtre(retenus, debut, fin);
+        // Assez de tranches pour équilibrer les commandes de tailles inégales
+        int tranche = Math.max(TRANCHE_MIN, source.size() / (pool.getParallelism() * 8));
+
+        AgregatVentes agregat = pool.invoke(new Tache(source, 0, source.size(), tranche, filtre));
+        return new RapportVentes(agregat, filtreStatuts, debut, fin);
+    }
+
+    private record Filtre(boolean[] statuts, LocalDateTime debut, LocalDateTime fin) {
+
+        boolean accepte(Commande commande) {
+            if (!statuts[commande.getStatut().ordinal()]) {
+                return false;
+            }
+            LocalDateTime date = commande.getDateCommande();
+            return (debut == null || !date.isBefore(debut)) && (fin == null || date.isBefore(fin));
+        }
+    }
+
+    private static final class Tache extends RecursiveTask<AgregatVentes> {
+
+        private final List<Commande> commandes;
+        private final int debut;
+        private final int fin;
+        private final int tranche;
+        private final Filtre filtre;
+
+        Tache(List<Commande> commandes, int debut, int fin, int tranche, Filtre filtre) {
+            this.commandes = commandes;
+            this.debut = debut;
+            this.fin = fin;
+            this.tranche = tranche;
+            this.filtre = filtre;
+        }
+
+        @Override
+        protected AgregatVentes compute() {
+            if (fin - debut <= tranche) {
+                AgregatVentes agregat = new AgregatVentes();
+                for (int i = debut; i < fin; i++) {
+                    Commande commande = commandes.get(i);
+                    if (filtre.accepte(commande)) {
+                        agregat.ajouter(commande);
+                    }
+                }
+                return agregat;
+            }
+            int milieu = (debut + fin) >>> 1;
+            Tache gauche = new Tache(commandes, debut, milieu, tranche, filtre);
+            gauche.fork();
+            AgregatVentes droite = new Tache(commandes, milieu, fin, tranche, filtre).compute();
+            return gauche.join().fusionner(droite);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.miniprojet.analytics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cumuls par clé int (id produit, id client, jour): montant en centimes et
+ * quantité dans des tableaux parallèles, adressage ouvert linéaire.
+ * Aucun objet par clé ni boxing pendant l'agrégation. Non thread-safe:
+ * chaque tâche a les siens, fusionnés ensuite.
+ */
+final class CumulVentes {
+
+    private static final int VIDE = Integer.MIN_VALUE;
+
+    private int[] cles;
+    private long[] montants;
+    private long[] quantites;
+    private int taille;
+
+    CumulVentes() {
+        this(16);
+    }
+
+    CumulVentes(int capaciteAttendue) {
+        int capacite = Integer.highestOneBit(Math.max(16, capaciteAttendue * 2 - 1)) << 1;
+        cles = new int[capacite];
+        Arrays.fill(cles, VIDE);
+        montants = new long[capacite];
+        quantites = new long[capacite];
+    }
+
+    void ajouter(int cle, long montant, long quantite) {
+        if (cle == VIDE) {
+            throw new IllegalArgumentException("Clé réservée: " + cle);
+        }
+        int masque = cles.length - 1;
+        int i = melanger(cle) & masque;
+        while (cles[i] != VIDE && cles[i] != cle) {
+            i = (i + 1) & masque;
+        }
+        if (cles[i] == VIDE) {
+            cles[i] = cle;
+            if (++taille * 4 > cles.length * 3) {
+                montants[i] = montant;
+                quantites[i] = quantite;
+                agrandir();
+                return;
+            }
+        }
+        montants[i] += montant;
+        quantites[i] += quantite;
+    }
+
+    /**
+     * Ajoute les cumuls de l'autre à celui-ci (le plus petit est parcouru)
+     */
+    CumulVentes fusionner(CumulVentes autre) {
+        CumulVentes grand = taille >= autre.taille ? this : autre;
+        CumulVentes petit = grand == this ? autre : this;
+        for (int i = 0; i < petit.cles.length; i++) {
+            if (petit.cles[i] != VIDE) {
+                grand.ajouter(petit.cles[i], petit.montants[i], petit.quantites[i]);
+            }
+        }
+        return grand;
+    }
+
+    int taille() {
+        return taille;
+    }
+
+    List<RapportVentes.Cumul> cumuls() {
+        List<RapportVentes.Cumul> cumuls = new ArrayList<>(taille);
+        for (int i = 0; i < cles.length; i++) {
+            if (cles[i] != VIDE) {
+                cumuls.add(new RapportVentes.Cumul(cles[i], montants[i], quantites[i]));
+            }
+        }
+        return cumuls;
+    }
+
+    private void agrandir() {
+        int[] anciennesCles = cles;
+        long[] anciensMontants = montants;
+        long[] anciennesQuantites = quantites;
+        cles = new int[anciennesCles.length * 2];
+        Arrays.fill(cles, VIDE);
+        montants = new long[cles.length];
+        quantites = new long[cles.length];
+        taille = 0;
+        for (int i = 0; i < anciennesCles.length; i++) {
+            if (anciennesCles[i] != VIDE) {
+                ajouter(anciennesCles[i], anciensMontants[i], anciennesQuantites[i]);
+            }
+        }
+    }
+
+    private static int melanger(int cle) {
+        int h = cle * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
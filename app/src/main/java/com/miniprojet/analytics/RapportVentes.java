@@ -0,0 +1,116 @@
+package com.miniprojet.analytics;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import com.miniprojet.model.Monnaie;
+import com.miniprojet.model.StatutCommande;
+
+/**
+ * Résultat d'une analyse des ventes. Montants en centimes (voir Monnaie).
+ */
+public final class RapportVentes {
+
+    /**
+     * Cumul d'une clé. Par produit: montant des lignes et quantité vendue;
+     * par client ou par jour: montant et nombre de commandes.
+     */
+    public record Cumul(int cle, long montantCentimes, long quantite) {
+    }
+
+    public record CumulJour(LocalDate jour, long montantCentimes, long commandes) {
+    }
+
+    private static final Comparator<Cumul> PAR_MONTANT_DECROISSANT = Comparator
+            .comparingLong(Cumul::montantCentimes).reversed()
+            .thenComparingInt(Cumul::cle);
+
+    private final Set<StatutCommande> statuts;
+    private final LocalDateTime debut;
+    private final LocalDateTime fin;
+    private final long chiffreAffairesCentimes;
+    private final long nombreCommandes;
+    private final long nombreLignes;
+    private final long nombreArticles;
+    private final List<Cumul> parProduit;
+    private final List<Cumul> parClient;
+    private final List<CumulJour> parJour;
+
+    RapportVentes(AgregatVentes agregat, Set<StatutCommande> statuts, LocalDateTime debut, LocalDateTime fin) {
+        this.statuts = Set.copyOf(statuts);
+        this.debut = debut;
+        this.fin = fin;
+        this.chiffreAffairesCentimes = agregat.chiffreAffaires;
+        this.nombreCommandes = agregat.commandes;
+        this.nombreLignes = agregat.lignes;
+        this.nombreArticles = agregat.articles;
+        this.parProduit = agregat.parProduit.cumuls().stream().sorted(PAR_MONTANT_DECROISSANT).toList();
+        this.parClient = agregat.parClient.cumuls().stream().sorted(PAR_MONTANT_DECROISSANT).toList();
+        this.parJour = agregat.parJour.cumuls().stream()
+                .sorted(Comparator.comparingInt(Cumul::cle))
+                .map(cumul -> new CumulJour(LocalDate.ofEpochDay(cumul.cle()), cumul.montantCentimes(),
+                        cumul.quantite()))
+                .toList();
+    }
+
+    public long getChiffreAffairesCentimes() {
+        return chiffreAffairesCentimes;
+    }
+
+    public long getNombreCommandes() {
+        return nombreCommandes;
+    }
+
+    public long getNombreLignes() {
+        return nombreLignes;
+    }
+
+    public long getNombreArticles() {
+        return nombreArticles;
+    }
+
+    /**
+     * Panier moyen en centimes (arrondi à l'inférieur), 0 sans commande
+     */
+    public long getPanierMoyenCentimes() {
+        return nombreCommandes == 0 ? 0 : chiffreAffairesCentimes / nombreCommandes;
+    }
+
+    public double getArticlesParCommande() {
+        return nombreCommandes == 0 ? 0 : (double) nombreArticles / nombreCommandes;
+    }
+
+    /**
+     * Par produit, du plus gros chiffre d'affaires au plus petit
+     */
+    public List<Cumul> getParProduit() {
+        return parProduit;
+    }
+
+    /**
+     * Par client, du plus gros chiffre d'affaires au plus petit
+     */
+    public List<Cumul> getParClient() {
+        return parClient;
+    }
+
+    /**
+     * Par jour, chronologique
+     */
+    public List<CumulJour> getParJour() {
+        return parJour;
+    }
+
+    @Override
+    public String toString() {
+        return "Ventes" + (statuts.isEmpty() ? "" : " " + statuts)
+                + (debut != null ? " depuis " + debut : "") + (fin != null ? " jusqu'à " + fin : "") + ": "
+                + nombreCommandes + " commande(s), " + nombreLignes + " ligne(s), "
+                + Monnaie.formater(chiffreAffairesCentimes) + " FCFA, panier moyen "
+                + Monnaie.formater(getPanierMoyenCentimes()) + " FCFA ("
+                + String.format("%.1f", getArticlesParCommande()) + " article(s))";
+    }
+}
@@ -0,0 +1,275 @@
+package com.miniprojet.analytics;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.LigneCommande;
+import com.miniprojet.model.Monnaie;
+import com.miniprojet.model.StatutCommande;
+import com.miniprojet.repository.ICommandeRepository;
+import com.miniprojet.repository.index.IntHashIndex;
+
+/**
+ * Compteurs de ventes tenus à jour à chaque écriture de commande, lus en
+ * O(1) (montants en centimes):
+ * - par statut: nombre de commandes et montant, tous statuts
+ * - par produit, client et jour: chiffre d'affaires hors commandes annulées
+ *
+ * Les services passent chaque écriture par enregistrer(): l'écriture se
+ * fait sous le verrou partagé, puis l'écart (nouvelle contribution moins
+ * l'ancienne) est appliqué. Une vérification périodique
+ * (-Dminiprojet.ventes.verification.minutes, 10 par défaut, 0 = jamais)
+ * recalcule tout depuis un instantané du repository, sans bloquer les
+ * écritures, puis prend brièvement le verrou exclusif pour corriger les
+ * commandes écrites entre-temps et remplacer les compteurs s'ils ont dérivé.
+ *
+ * Une lecture pendant un lot peut voir une partie seulement de ses écarts.
+ */
+public class VentesMaterialisees {
+
+    private static final System.Logger JOURNAL = System.getLogger(VentesMaterialisees.class.getName());
+    private static final long PERIODE_VERIFICATION = Long.getLong("miniprojet.ventes.verification.minutes", 10);
+
+    private final ICommandeRepository commandeRepository;
+    private final ReentrantReadWriteLock verrou = new ReentrantReadWriteLock();
+    private final ReentrantLock verification = new ReentrantLock();
+    private final AtomicLong derives = new AtomicLong();
+    private volatile Compteurs compteurs;
+    // Ids des commandes écrites pendant une vérification, null hors vérification
+    private volatile Set<Integer> ecritesPendantVerification;
+
+    public VentesMaterialisees(ICommandeRepository commandeRepository) {
+        this.commandeRepository = commandeRepository;
+        this.compteurs = Compteurs.de(commandeRepository.findAll());
+        if (PERIODE_VERIFICATION > 0) {
+            ScheduledExecutorService verifications = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("verification-ventes").daemon().factory());
+            verifications.scheduleWithFixedDelay(this::verifier, PERIODE_VERIFICATION, PERIODE_VERIFICATION,
+                    TimeUnit.MINUTES);
+        }
+    }
+
+    // ========== Écritures ==========
+
+    /**
+     * Exécute l'écriture puis remplace la contribution des commandes avant
+     * par celle des commandes après (listes vides pour une création ou une
+     * suppression). Rien n'est compté si l'écriture échoue.
+     */
+    public <T> T enregistrer(Collection<Commande> avant, Collection<Commande> apres, Supplier<T> ecriture) {
+        Lock partage = verrou.readLock();
+        partage.lock();
+        try {
+            T resultat = ecriture.get();
+            noterEcrites(avant);
+            noterEcrites(apres);
+            Compteurs courants = compteurs;
+            avant.forEach(commande -> courants.ajouter(commande, -1));
+            apres.forEach(commande -> courants.ajouter(commande, 1));
+            return resultat;
+        } finally {
+            partage.unlock();
+        }
+    }
+
+    public void enregistrer(Collection<Commande> avant, Collection<Commande> apres, Runnable ecriture) {
+        enregistrer(avant, apres, () -> {
+            ecriture.run();
+            return null;
+        });
+    }
+
+    /**
+     * Suppression: la contribution n'est retirée que si la suppression a
+     * bien eu lieu
+     */
+    public boolean retirer(Collection<Commande> supprimees, BooleanSupplier suppression) {
+        return enregistrer(List.of(), List.of(), () -> {
+            boolean supprime = suppression.getAsBoolean();
+            if (supprime) {
+                noterEcrites(supprimees);
+                Compteurs courants = compteurs;
+                supprimees.forEach(commande -> courants.ajouter(commande, -1));
+            }
+            return supprime;
+        });
+    }
+
+    // ========== Lectures ==========
+
+    public long getChiffreAffairesCentimes() {
+        return compteurs.total.get();
+    }
+
+    public long getChiffreAffairesProduit(int produitId) {
+        return compteurs.parProduit.getOrDefault(produitId, 0L);
+    }
+
+    public long getChiffreAffairesClient(int clientId) {
+        return compteurs.parClient.getOrDefault(clientId, 0L);
+    }
+
+    public long getChiffreAffairesJour(LocalDate jour) {
+        return compteurs.parJour.getOrDefault(jour, 0L);
+    }
+
+    public long getMontantStatut(StatutCommande statut) {
+        return compteurs.montantParStatut.get(statut.ordinal());
+    }
+
+    public long getNombreCommandes(StatutCommande statut) {
+        return compteurs.nombreParStatut.get(statut.ordinal());
+    }
+
+    /**
+     * Nombre de vérifications qui ont trouvé des compteurs faux
+     */
+    public long getDerives() {
+        return derives.get();
+    }
+
+    // ========== Vérification ==========
+
+    /**
+     * Recalcule tous les compteurs depuis un instantané du repository et
+     * les remplace en cas d'écart. Les écritures continuent pendant le
+     * recalcul; les commandes écrites entre-temps sont notées, puis, sous
+     * le verrou exclusif, leur contribution dans l'instantané est remplacée
+     * par celle de leur état courant avant la comparaison.
+     *
+     * @return true si les compteurs étaient justes
+     */
+    public boolean verifier() {
+        verification.lock();
+        try {
+            Lock exclusif = verrou.writeLock();
+            exclusif.lock();
+            try {
+                // Aucune écriture en cours: toutes les suivantes seront notées
+                ecritesPendantVerification = ConcurrentHashMap.newKeySet();
+            } finally {
+                exclusif.unlock();
+            }
+
+            List<Commande> instantane = commandeRepository.findAll();
+            Compteurs recalcules = Compteurs.de(instantane);
+            IntHashIndex<Commande> parId = new IntHashIndex<>(instantane.size());
+            for (Commande commande : instantane) {
+                parId.put(commande.getId(), commande);
+            }
+
+            Compteurs faux;
+            exclusif.lock();
+            try {
+                for (int id : ecritesPendantVerification) {
+                    Commande photographiee = parId.get(id);
+                    if (photographiee != null) {
+                        recalcules.ajouter(photographiee, -1);
+                    }
+                    commandeRepository.findById(id).ifPresent(courante -> recalcules.ajouter(courante, 1));
+                }
+                ecritesPendantVerification = null;
+                if (recalcules.memes(compteurs)) {
+                    return true;
+                }
+                faux = compteurs;
+                compteurs = recalcules;
+            } finally {
+                exclusif.unlock();
+            }
+
+            derives.incrementAndGet();
+            JOURNAL.log(System.Logger.Level.WARNING, "Compteurs de ventes faux (CA {0} au lieu de {1}), reconstruits",
+                    Monnaie.formater(faux.total.get()), Monnaie.formater(recalcules.total.get()));
+            return false;
+        } finally {
+            ecritesPendantVerification = null;
+            verification.unlock();
+        }
+    }
+
+    private void noterEcrites(Collection<Commande> commandes) {
+        Set<Integer> ecrites = ecritesPendantVerification;
+        if (ecrites != null) {
+            commandes.forEach(commande -> ecrites.add(commande.getId()));
+        }
+    }
+
+    private static final class Compteurs {
+
+        private final AtomicLong total = new AtomicLong();
+        private final ConcurrentHashMap<Integer, Long> parProduit = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Integer, Long> parClient = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<LocalDate, Long> parJour = new ConcurrentHashMap<>();
+        private final AtomicLongArray montantParStatut = new AtomicLongArray(StatutCommande.values().length);
+        private final AtomicLongArray nombreParStatut = new AtomicLongArray(StatutCommande.values().length);
+
+        static Compteurs de(List<Commande> commandes) {
+            Compteurs compteurs = new Compteurs();
+            for (Commande commande : commandes) {
+                compteurs.ajouter(commande, 1);
+            }
+            return compteurs;
+        }
+
+        /**
+         * Ajoute (signe 1) ou retire (signe -1) la contribution de la commande
+         */
+        void ajouter(Commande commande, int signe) {
+            long montant = signe * commande.getMontantTotalCentimes();
+            int statut = commande.getStatut().ordinal();
+            montantParStatut.addAndGet(statut, montant);
+            nombreParStatut.addAndGet(statut, signe);
+            if (commande.getStatut() == StatutCommande.ANNULEE) {
+                return;
+            }
+            total.addAndGet(montant);
+            cumuler(parClient, commande.getClient().getId(), montant);
+            cumuler(parJour, commande.getDateCommande().toLocalDate(), montant);
+            List<LigneCommande> lignes = commande.getLignes();
+            for (int i = 0, n = lignes.size(); i < n; i++) {
+                LigneCommande ligne = lignes.get(i);
+                cumuler(parProduit, ligne.getProduit().getId(), signe * ligne.getSousTotalCentimes());
+            }
+        }
+
+        // Ni montant nul ni clé revenue à zéro: les cartes ne gardent que les
+        // ventes, comme après une reconstruction
+        private static <K> void cumuler(ConcurrentHashMap<K, Long> cumuls, K cle, long montant) {
+            if (montant == 0) {
+                return;
+            }
+            cumuls.merge(cle, montant, (ancien, ecart) -> {
+                long somme = Monnaie.additionner(ancien, ecart);
+                return somme == 0 ? null : somme;
+            });
+        }
+
+        boolean memes(Compteurs autre) {
+            for (int i = 0; i < montantParStatut.length(); i++) {
+                if (montantParStatut.get(i) != autre.montantParStatut.get(i)
+                        || nombreParStatut.get(i) != autre.nombreParStatut.get(i)) {
+                    return false;
+                }
+            }
+            return total.get() == autre.total.get()
+                    && parProduit.equals(autre.parProduit)
+                    && parClient.equals(autre.parClient)
+                    && parJour.equals(autre.parJour);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.miniprojet.database;
+
+import com.miniprojet.model.Client;
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.Produit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Singleton Pattern - Base de données en mémoire
+ * Garantit une seule instance de la base de données dans toute l'application
+ *
+ * Moteur de stockage partagé par les repositories en mémoire:
+ * - une Table par entité (index primaire par id + index secondaires
+ * déclarés par les repositories)
+ * - snapshot() copie les trois tables de façon cohérente
+ * - statistiques() donne lignes, capacité, clés d'index et mémoire estimée
+ *
+ * Capacité initiale des tables: propriété système miniprojet.db.capacite
+ */
+public class Database {
+
+    private static Database instance;
+    private static final Object lock = new Object();
+
+    private final Table<Produit> produits;
+    private final Table<Client> clients;
+    private final Table<Commande> commandes;
+
+    // Ordre fixe de verrouillage des tables pour le snapshot
+    private final List<Table<?>> tables;
+
+    // Constructeur privé pour empêcher l'instanciation directe
+    private Database() {
+        int capacite = Integer.getInteger("miniprojet.db.capacite", 16);
+        this.produits = new Table<>("produits", capacite);
+        this.clients = new Table<>("clients", capacite);
+        this.commandes = new Table<>("commandes", capacite);
+        this.tables = List.of(produits, clients, commandes);
+        System.out.println("Database initialisée (Singleton)");
+    }
+
+    /**
+     * Double-Checked Locking pour thread-safety
+     */
+    public static Database getInstance() {
+        if (instance == null) {
+            synchronized (lock) {
+                if (instance == null) {
+                    instance = new Database();
+                }
+            }
+        }
+        return instance;
+    }
+
+    // Getters pour accéder aux tables
+    public Table<Produit> getProduits() {
+        return produits;
+    }
+
+    public Table<Client> getClients() {
+        return clients;
+    }
+
+    public Table<Commande> getCommandes() {
+        return commandes;
+    }
+
+    /**
+     * Copie cohérente des trois tables: aucune écriture ne peut
+     * s'intercaler entre la copie d'une table et celle d'une autre
+     */
+    public record Snapshot(LocalDateTime date, List<Produit> produits,
+            List<Client> clients, List<Commande> commandes) {
+    }
+
+    public Snapshot snapshot() {
+        for (Table<?> table : tables) {
+            table.verrouiller();
+        }
+        try {
+            return new Snapshot(LocalDateTime.now(),
+                    produits.instantaneVerrouille(),
+                    clients.instantaneVerrouille(),
+                    commandes.instantaneVerrouille());
+        } finally {
+            for (int i = tables.size() - 1; i >= 0; i--) {
+                tables.get(i).deverrouiller();
+            }
+        }
+    }
+
+    public List<Table.Statistiques> statistiques() {
+        return tables.stream().map(Table::statistiques).toList();
+    }
+
+    // Méthodes utilitaires
+    public void clear() {
+        for (Table<?> table : tables) {
+            table.vider();
+        }
+    }
+}
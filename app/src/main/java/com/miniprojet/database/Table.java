@@ -0,0 +1,469 @@
+package com.miniprojet.database;
+
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.miniprojet.exception.OptimisticLockException;
+import com.miniprojet.model.IEntity;
+import com.miniprojet.repository.index.IntHashIndex;
+import com.miniprojet.repository.query.AccesIndex;
+
+/**
+ * Table d'entités de la Database: index primaire par id + index secondaires
+ *
+ * - Les ids sont attribués par la table (dernier id + 1)
+ * - ecrire() est un upsert et réindexe la ligne; une ligne existante n'est
+ * remplacée que si la version fournie est la version enregistrée
+ * (compare-and-set), sinon OptimisticLockException
+ * - Une clé déjà prise dans un index unique fait échouer l'écriture
+ * (IllegalStateException) avant toute modification de la table
+ * - Verrou lecture/écriture: les lectures (get, index, pages) se font en
+ * parallèle, les écritures sont exclusives. La Database prend le verrou de
+ * lecture de plusieurs tables pour un snapshot cohérent.
+ * - instantane() renvoie une version immuable des lignes (copy-on-write par
+ * époque): chaque écriture périme la version publiée, la première lecture
+ * suivante en publie une nouvelle. Le verrou n'est tenu que le temps de
+ * copier les références; la liste est construite et publiée ensuite
+ * (compare-and-set, la plus récente gagne). Les lectures d'une version
+ * publiée ne prennent aucun verrou et ne voient jamais d'écriture partielle.
+ * - parcourir() lit la table page par page, sans la copier en entier
+ */
+public class Table<T extends IEntity> {
+
+    private static final int TAILLE_PAGE_PARCOURS = 1024;
+
+    private final String nom;
+    private final IntHashIndex<T> lignes;
+    private final Map<String, TableIndex<T, ?>> index = new LinkedHashMap<>();
+    // Lectures en parallèle; écritures exclusives
+    private final ReentrantReadWriteLock verrou = new ReentrantReadWriteLock();
+    private final Lock lecture = verrou.readLock();
+    private final Lock ecriture = verrou.writeLock();
+
+    // Écritures effectuées, modifié sous le verrou
+    private volatile long modifications;
+    // Dernière version publiée des lignes, valide si aucune écriture depuis
+    private final AtomicReference<Instantane<T>> instantane = new AtomicReference<>();
+
+    private record Instantane<T>(long modifications, List<T> lignes) {
+    }
+
+    Table(String nom, int capaciteInitiale) {
+        this.nom = nom;
+        this.lignes = new IntHashIndex<>(capaciteInitiale);
+    }
+
+    public String getNom() {
+        return nom;
+    }
+
+    /**
+     * Déclare un index secondaire (ou renvoie celui déjà déclaré sous ce nom).
+     * Les lignes existantes sont indexées immédiatement.
+     */
+    public <K> TableIndex<T, K> creerIndex(String nomIndex, Function<T, K> extracteur, boolean unique) {
+        return declarerIndex(new TableIndex<>(nomIndex, extracteur, unique, new HashMap<>()));
+    }
+
+    /**
+     * Déclare un index sur une clé enum (EnumMap, une entrée par constante)
+     */
+    public <K extends Enum<K>> TableIndex<T, K> creerIndexEnum(String nomIndex, Class<K> type,
+            Function<T, K> extracteur) {
+        return declarerIndex(new TableIndex<>(nomIndex, extracteur, false, new EnumMap<>(type)));
+    }
+
+    /**
+     * Déclare un index trié, pour les requêtes par intervalle
+     */
+    public <K extends Comparable<? super K>> TableIndex<T, K> creerIndexTrie(String nomIndex,
+            Function<T, K> extracteur) {
+        return declarerIndex(new TableIndex<>(nomIndex, extracteur, false, new TreeMap<>()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K> TableIndex<T, K> declarerIndex(TableIndex<T, K> nouveau) {
+        ecriture.lock();
+        try {
+            TableIndex<T, ?> existant = index.get(nouveau.getNom());
+            if (existant != null) {
+                return (TableIndex<T, K>) existant;
+            }
+            for (T ligne : lignes.values()) {
+                nouveau.indexer(ligne);
+            }
+            index.put(nouveau.getNom(), nouveau);
+            return nouveau;
+        } finally {
+            ecriture.unlock();
+        }
+    }
+
+    public Optional<TableIndex<T, ?>> index(String nomIndex) {
+        lecture.lock();
+        try {
+            return Optional.ofNullable(index.get(nomIndex));
+        } finally {
+            lecture.unlock();
+        }
+    }
+
+    /**
+     * Index déclarés, exposés au planificateur de requêtes sous leur nom
+     */
+    public List<AccesIndex<T>> accesIndex() {
+        lecture.lock();
+        try {
+            List<AccesIndex<T>> acces = new ArrayList<>(index.size());
+            for (TableIndex<T, ?> idx : index.values()) {
+                acces.add(acces(idx));
+            }
+            return acces;
+        } finally {
+            lecture.unlock();
+        }
+    }
+
+    private <K> AccesIndex<T> acces(TableIndex<T, K> idx) {
+        if (!idx.isTrie()) {
+            return AccesIndex.<T, K>parCle(idx.getNom(), cle -> chercher(idx, cle), cle -> compter(idx, cle));
+        }
+        return AccesIndex.<T, K>trie(idx.getNom(), cle -> chercher(idx, cle), cle -> compter(idx, cle),
+                (debut, fin) -> chercherIntervalle(idx, debut, fin),
+                (debut, fin, plafond) -> compterIntervalle(idx, debut, fin, plafond));
+    }
+
+    // ========== Lecture ==========
+
+    public T get(int id) {
+        lecture.lock();
+        try {
+            return lignes.get(id);
+        } finally {
+            lecture.unlock();
+        }
+    }
+
+    public int taille() {
+        lecture.lock();
+        try {
+            return lignes.size();
+        } finally {
+            lecture.unlock();
+        }
+    }
+
+    /**
+     * Lignes dans l'ordre d'insertion, telles qu'à la dernière écriture.
+     * Liste immuable: elle ne change plus, même si la table est modifiée.
+     */
+    public List<T> instantane() {
+        Instantane<T> publiee = instantane.get();
+        if (publiee != null && publiee.modifications() == modifications) {
+            return publiee.lignes();
+        }
+        long version;
+        Object[] references;
+        lecture.lock();
+        try {
+            version = modifications;
+            references = lignes.values().toArray();
+        } finally {
+            lecture.unlock();
+        }
+        return publier(version, references);
+    }
+
+    /**
+     * Parcours paresseux par id croissant, une page à la fois sous le
+     * verrou: pas de copie de la table entière. Faiblement cohérent, une
+     * écriture concurrente peut être vue ou non.
+     */
+    public Stream<T> parcourir() {
+        return Stream.iterate(page(0, TAILLE_PAGE_PARCOURS), page -> !page.isEmpty(),
+                page -> page(page.get(page.size() - 1).getId(), TAILLE_PAGE_PARCOURS))
+                .flatMap(List::stream);
+    }
+
+    public List<T> page(int apresId, int limite) {
+        lecture.lock();
+        try {
+            return lignes.page(apresId, limite);
+        } finally {
+            lecture.unlock();
+        }
+    }
+
+    public <K> List<T> chercher(TableIndex<T, K> idx, K cle) {
+        lecture.lock();
+        try {
+            return idx.chercher(cle);
+        } finally {
+            lecture.unlock();
+        }
+    }
+
+    /**
+     * Lignes dont la clé est dans [debut, fin) pour un index trié
+     * (borne null = non bornée), par clé croissante
+     */
+    public <K> List<T> chercherIntervalle(TableIndex<T, K> idx, K debut, K fin) {
+        lecture.lock();
+        try {
+            return idx.chercherIntervalle(debut, fin);
+        } finally {
+            lecture.unlock();
+        }
+    }
+
+    public <K> long compterIntervalle(TableIndex<T, K> idx, K debut, K fin, long plafond) {
+        lecture.lock();
+        try {
+            return idx.compterIntervalle(debut, fin, plafond);
+        } finally {
+            lecture.unlock();
+        }
+    }
+
+    public <K> Optional<T> chercherUnique(TableIndex<T, K> idx, K cle) {
+        List<T> trouves = chercher(idx, cle);
+        return trouves.isEmpty() ? Optional.empty() : Optional.of(trouves.get(0));
+    }
+
+    public <K> int compter(TableIndex<T, K> idx, K cle) {
+        lecture.lock();
+        try {
+            return idx.compter(cle);
+        } finally {
+            lecture.unlock();
+        }
+    }
+
+    // ========== Écriture ==========
+
+    /**
+     * Insère une ligne avec un nouvel id
+     */
+    public T inserer(T entite) {
+        ecriture.lock();
+        try {
+            int id = lignes.lastKey(0) + 1;
+            verifierUnicite(entite, id);
+            entite.setId(id);
+            entite.setVersion(1);
+            lignes.put(id, entite);
+            indexer(entite);
+            modifications++;
+            return entite;
+        } finally {
+            ecriture.unlock();
+        }
+    }
+
+    /**
+     * Insère un lot: bloc d'ids réservé en une fois, index primaire agrandi
+     * une seule fois
+     */
+    public List<T> insererTout(List<T> lot) {
+        ecriture.lock();
+        try {
+            for (TableIndex<T, ?> idx : index.values()) {
+                idx.verifierUnicite(lot);
+            }
+            int id = lignes.lastKey(0);
+            lignes.ensureCapacity(lignes.size() + lot.size());
+            for (T entite : lot) {
+                entite.setId(++id);
+                entite.setVersion(1);
+                lignes.put(id, entite);
+                indexer(entite);
+            }
+            modifications++;
+            return lot;
+        } finally {
+            ecriture.unlock();
+        }
+    }
+
+    /**
+     * Insère ou remplace la ligne de même id, si sa version n'a pas changé.
+     * La version de l'entité écrite est incrémentée.
+     */
+    public void ecrire(T entite) {
+        ecriture.lock();
+        try {
+            T enregistree = lignes.get(entite.getId());
+            if (enregistree != null && enregistree.getVersion() != entite.getVersion()) {
+                throw new OptimisticLockException(entite.getClass().getSimpleName(), entite.getId(),
+                        entite.getVersion(), enregistree.getVersion());
+            }
+            verifierUnicite(entite, entite.getId());
+            entite.setVersion(entite.getVersion() + 1);
+            lignes.put(entite.getId(), entite);
+            desindexer(entite.getId());
+            indexer(entite);
+            modifications++;
+        } finally {
+            ecriture.unlock();
+        }
+    }
+
+    /**
+     * Écrit le lot dans l'ordre; un conflit de version arrête le lot
+     * (les lignes précédentes restent écrites)
+     */
+    public void ecrireTout(List<T> lot) {
+        ecriture.lock();
+        try {
+            for (T entite : lot) {
+                ecrire(entite);
+            }
+        } finally {
+            ecriture.unlock();
+        }
+    }
+
+    public boolean supprimer(int id) {
+        ecriture.lock();
+        try {
+            if (lignes.remove(id) == null) {
+                return false;
+            }
+            desindexer(id);
+            modifications++;
+            return true;
+        } finally {
+            ecriture.unlock();
+        }
+    }
+
+    public int supprimerTout(Collection<Integer> ids) {
+        ecriture.lock();
+        try {
+            int supprimes = 0;
+            for (Integer id : ids) {
+                if (id != null && supprimer(id)) {
+                    supprimes++;
+                }
+            }
+            return supprimes;
+        } finally {
+            ecriture.unlock();
+        }
+    }
+
+    /**
+     * Réserve la place pour capacite lignes
+     */
+    public void reserver(int capacite) {
+        ecriture.lock();
+        try {
+            lignes.ensureCapacity(capacite);
+        } finally {
+            ecriture.unlock();
+        }
+    }
+
+    public void vider() {
+        ecriture.lock();
+        try {
+            lignes.clear();
+            modifications++;
+            for (TableIndex<T, ?> idx : index.values()) {
+                idx.vider();
+            }
+        } finally {
+            ecriture.unlock();
+        }
+    }
+
+    // ========== Snapshot et statistiques ==========
+
+    void verrouiller() {
+        lecture.lock();
+    }
+
+    void deverrouiller() {
+        lecture.unlock();
+    }
+
+    /**
+     * Version publiée des lignes, à appeler avec le verrou de lecture de la table
+     */
+    List<T> instantaneVerrouille() {
+        Instantane<T> publiee = instantane.get();
+        if (publiee != null && publiee.modifications() == modifications) {
+            return publiee.lignes();
+        }
+        return publier(modifications, lignes.values().toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> publier(long version, Object[] references) {
+        Instantane<T> nouvelle = new Instantane<>(version, (List<T>) (List<?>) List.of(references));
+        instantane.accumulateAndGet(nouvelle, (courante, proposee) ->
+                courante == null || courante.modifications() < proposee.modifications() ? proposee : courante);
+        return nouvelle.lignes();
+    }
+
+    /**
+     * Statistiques d'une table à un instant donné
+     *
+     * @param octetsEstimes mémoire des structures d'index (hors entités)
+     */
+    public record Statistiques(String table, int lignes, int capacite,
+            Map<String, Integer> clesParIndex, long octetsEstimes) {
+
+        @Override
+        public String toString() {
+            return table + ": " + lignes + " ligne(s), capacité " + capacite
+                    + ", index " + clesParIndex + ", ~" + (octetsEstimes / 1024) + " Ko";
+        }
+    }
+
+    public Statistiques statistiques() {
+        lecture.lock();
+        try {
+            Map<String, Integer> clesParIndex = new LinkedHashMap<>();
+            long octets = lignes.footprintBytes();
+            for (TableIndex<T, ?> idx : index.values()) {
+                clesParIndex.put(idx.getNom(), idx.nombreDeCles());
+                octets += idx.footprintBytes();
+            }
+            return new Statistiques(nom, lignes.size(), lignes.capacity(), Collections.unmodifiableMap(clesParIndex), octets);
+        } finally {
+            lecture.unlock();
+        }
+    }
+
+    private void verifierUnicite(T entite, int id) {
+        for (TableIndex<T, ?> idx : index.values()) {
+            idx.verifierUnicite(entite, id);
+        }
+    }
+
+    private void indexer(T entite) {
+        for (TableIndex<T, ?> idx : index.values()) {
+            idx.indexer(entite);
+        }
+    }
+
+    private void desindexer(int id) {
+        for (TableIndex<T, ?> idx : index.values()) {
+            idx.desindexer(id);
+        }
+    }
+}
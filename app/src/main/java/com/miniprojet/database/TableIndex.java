@@ -0,0 +1,207 @@
+package com.miniprojet.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.miniprojet.model.IEntity;
+import com.miniprojet.repository.index.IntHashIndex;
+import com.miniprojet.repository.query.AccesIndex;
+
+/**
+ * Index secondaire d'une table: clé extraite -> lignes
+ *
+ * - La clé sous laquelle chaque ligne est indexée est mémorisée, ce qui
+ * permet de réindexer une entité modifiée sur place
+ * - Une clé null n'est pas indexée
+ * - Index unique: une clé déjà prise par une autre ligne est refusée
+ * (IllegalStateException); la Table vérifie avant toute modification
+ * - Index trié: clés rangées dans un TreeMap, ce qui permet les requêtes
+ * par intervalle en O(log n + k) et leur comptage exact pour le planificateur
+ * - Index sur une clé enum: EnumMap, une case par constante
+ *
+ * Modifié par la Table sous son verrou d'écriture, lu sous son verrou de
+ * lecture: les lectures ne modifient pas l'index.
+ */
+public class TableIndex<T extends IEntity, K> {
+
+    private final String nom;
+    private final Function<T, K> extracteur;
+    private final boolean unique;
+
+    private final Map<K, IntHashIndex<T>> entrees;
+    // id -> clé sous laquelle la ligne est indexée
+    private final IntHashIndex<K> clesIndexees = new IntHashIndex<>();
+
+    /**
+     * @param entrees carte vide des clés: HashMap, EnumMap pour une clé enum,
+     *                NavigableMap pour un index trié
+     */
+    TableIndex(String nom, Function<T, K> extracteur, boolean unique, Map<K, IntHashIndex<T>> entrees) {
+        this.nom = nom;
+        this.extracteur = extracteur;
+        this.unique = unique;
+        this.entrees = entrees;
+    }
+
+    public String getNom() {
+        return nom;
+    }
+
+    public boolean isUnique() {
+        return unique;
+    }
+
+    public boolean isTrie() {
+        return entrees instanceof NavigableMap;
+    }
+
+    /**
+     * Clé sous laquelle une entité serait indexée
+     */
+    public K cle(T entite) {
+        return extracteur.apply(entite);
+    }
+
+    /**
+     * Nombre de clés distinctes
+     */
+    public int nombreDeCles() {
+        return entrees.size();
+    }
+
+    long footprintBytes() {
+        long octets = clesIndexees.footprintBytes() + 48L * entrees.size();
+        for (IntHashIndex<T> lignes : entrees.values()) {
+            octets += lignes.footprintBytes();
+        }
+        return octets;
+    }
+
+    List<T> chercher(K cle) {
+        IntHashIndex<T> lignes = entrees.get(cle);
+        return lignes == null ? List.of() : List.copyOf(lignes.values());
+    }
+
+    /**
+     * Lignes dont la clé est dans [debut, fin), par clé croissante.
+     * Une borne null n'est pas bornée.
+     */
+    List<T> chercherIntervalle(K debut, K fin) {
+        List<T> resultat = new ArrayList<>();
+        for (IntHashIndex<T> lignes : intervalle(debut, fin).values()) {
+            resultat.addAll(lignes.values());
+        }
+        return resultat;
+    }
+
+    /**
+     * Nombre de lignes dans [debut, fin), compté jusqu'à plafond au plus
+     */
+    long compterIntervalle(K debut, K fin, long plafond) {
+        return AccesIndex.sommer(intervalle(debut, fin).values(), IntHashIndex::size, plafond);
+    }
+
+    @SuppressWarnings("unchecked")
+    private NavigableMap<K, IntHashIndex<T>> intervalle(K debut, K fin) {
+        if (!(entrees instanceof NavigableMap<K, IntHashIndex<T>> triees)) {
+            throw new IllegalStateException("L'index " + nom + " n'est pas trié");
+        }
+        if (debut != null && fin != null) {
+            if (((Comparable<? super K>) debut).compareTo(fin) >= 0) {
+                return Collections.emptyNavigableMap();
+            }
+            return triees.subMap(debut, true, fin, false);
+        } else if (debut != null) {
+            return triees.tailMap(debut, true);
+        } else if (fin != null) {
+            return triees.headMap(fin, false);
+        }
+        return triees;
+    }
+
+    int compter(K cle) {
+        IntHashIndex<T> lignes = entrees.get(cle);
+        return lignes == null ? 0 : lignes.size();
+    }
+
+    /**
+     * Index unique: échoue si la clé de l'entité est déjà prise par une
+     * autre ligne que id
+     */
+    void verifierUnicite(T entite, int id) {
+        if (!unique) {
+            return;
+        }
+        K cle = extracteur.apply(entite);
+        if (cle == null) {
+            return;
+        }
+        IntHashIndex<T> lignes = entrees.get(cle);
+        if (lignes != null && !lignes.containsKey(id)) {
+            throw cleDejaPrise(cle);
+        }
+    }
+
+    /**
+     * Lot de nouvelles lignes: ni clé déjà prise, ni doublon dans le lot
+     */
+    void verifierUnicite(List<T> lot) {
+        if (!unique) {
+            return;
+        }
+        Set<K> cles = new HashSet<>();
+        for (T entite : lot) {
+            verifierUnicite(entite, 0);
+            K cle = extracteur.apply(entite);
+            if (cle != null && !cles.add(cle)) {
+                throw cleDejaPrise(cle);
+            }
+        }
+    }
+
+    private IllegalStateException cleDejaPrise(K cle) {
+        return new IllegalStateException("Index unique " + nom + ": la clé " + cle + " existe déjà");
+    }
+
+    void indexer(T entite) {
+        K cle = extracteur.apply(entite);
+        if (cle == null) {
+            return;
+        }
+        int id = entite.getId();
+        IntHashIndex<T> lignes = entrees.get(cle);
+        if (lignes == null) {
+            lignes = new IntHashIndex<>(unique ? 1 : 16);
+            entrees.put(cle, lignes);
+        } else if (unique && !lignes.containsKey(id)) {
+            throw cleDejaPrise(cle);
+        }
+        lignes.put(id, entite);
+        clesIndexees.put(id, cle);
+    }
+
+    void desindexer(int id) {
+        K cle = clesIndexees.remove(id);
+        if (cle == null) {
+            return;
+        }
+        IntHashIndex<T> lignes = entrees.get(cle);
+        if (lignes != null) {
+            lignes.remove(id);
+            if (lignes.isEmpty()) {
+                entrees.remove(cle);
+            }
+        }
+    }
+
+    void vider() {
+        entrees.clear();
+        clesIndexees.clear();
+    }
+}
@@ -1,7 +1,16 @@
 package com.miniprojet.dto;
 
+import com.miniprojet.mapping.GenererMapper;
+import com.miniprojet.model.Client;
+
+/**
+ * Client pour la couche de présentation
+ * ClientDTOMapper.versDTO(client) est généré à la compilation (voir GenererMapper)
+ */
+@GenererMapper(source = Client.class)
 public class ClientDTO implements Cloneable {
     private int id;
+    private int version;
     private String nom;
     private String prenom;
     private String email;
@@ -10,6 +19,7 @@ public class ClientDTO implements Cloneable {
 
     private ClientDTO(Builder builder) {
         this.id = builder.id;
+        this.version = builder.version;
         this.nom = builder.nom;
         this.prenom = builder.prenom;
         this.email = builder.email;
@@ -20,11 +30,26 @@ public class ClientDTO implements Cloneable {
     public ClientDTO() {
     }
 
+    // Copie directe des champs, utilisée par le mapper généré
+    ClientDTO(int id, int version, String nom, String prenom, String email, String telephone, String adresse) {
+        this.id = id;
+        this.version = version;
+        this.nom = nom;
+        this.prenom = prenom;
+        this.email = email;
+        this.telephone = telephone;
+        this.adresse = adresse;
+    }
+
     // Getters
     public int getId() {
         return id;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
     public String getNom() {
         return nom;
     }
@@ -52,6 +77,7 @@ public class ClientDTO implements Cloneable {
     // Builder Pattern
     public static class Builder {
         private int id;
+        private int version;
         private String nom;
         private String prenom;
         private String email;
@@ -66,6 +92,11 @@ public class ClientDTO implements Cloneable {
             return this;
         }
 
+        public Builder version(int version) {
+            this.version = version;
+            return this;
+        }
+
         public Builder nom(String nom) {
             this.nom = nom;
             return this;
@@ -0,0 +1,187 @@
+package com.miniprojet.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.miniprojet.model.Monnaie;
+
+/**
+ * Commande pour la couche de présentation
+ *
+ * Les lignes peuvent être fournies par un chargeur: elles ne sont alors
+ * construites qu'au premier getLignes(), une seule fois. getNombreLignes()
+ * ne les construit pas.
+ */
+public class CommandeDTO implements Cloneable {
+    private int id;
+    private int version;
+    private ClientDTO client;
+    private volatile List<LigneCommandeDTO> lignes;
+    private Supplier<List<LigneCommandeDTO>> chargeurLignes;
+    private int nombreLignes;
+    private LocalDateTime dateCommande;
+    private String statut;
+    // Centimes (voir Monnaie)
+    private long montantTotalCentimes;
+
+    private CommandeDTO(Builder builder) {
+        this.id = builder.id;
+        this.version = builder.version;
+        this.client = builder.client;
+        this.lignes = builder.chargeurLignes == null ? builder.lignes : null;
+        this.chargeurLignes = builder.chargeurLignes;
+        this.nombreLignes = builder.chargeurLignes != null ? builder.nombreLignes
+                : builder.lignes != null ? builder.lignes.size() : 0;
+        this.dateCommande = builder.dateCommande;
+        this.statut = builder.statut;
+        this.montantTotalCentimes = builder.montantTotalCentimes;
+    }
+
+    public CommandeDTO() {
+    }
+
+    // Getters
+    public int getId() {
+        return id;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public ClientDTO getClient() {
+        return client;
+    }
+
+    public List<LigneCommandeDTO> getLignes() {
+        List<LigneCommandeDTO> chargees = lignes;
+        if (chargees == null) {
+            synchronized (this) {
+                chargees = lignes;
+                if (chargees == null) {
+                    chargees = chargeurLignes.get();
+                    lignes = chargees;
+                    chargeurLignes = null;
+                }
+            }
+        }
+        return chargees;
+    }
+
+    public int getNombreLignes() {
+        return lignes != null ? lignes.size() : nombreLignes;
+    }
+
+    /**
+     * Vrai si les lignes sont déjà construites (ou ont été fournies directement)
+     */
+    public boolean isLignesChargees() {
+        return lignes != null;
+    }
+
+    public LocalDateTime getDateCommande() {
+        return dateCommande;
+    }
+
+    public String getStatut() {
+        return statut;
+    }
+
+    public double getMontantTotal() {
+        return Monnaie.versUnites(montantTotalCentimes);
+    }
+
+    public long getMontantTotalCentimes() {
+        return montantTotalCentimes;
+    }
+
+    // Builder Pattern
+    public static class Builder {
+        private int id;
+        private int version;
+        private ClientDTO client;
+        private List<LigneCommandeDTO> lignes = new ArrayList<>();
+        private Supplier<List<LigneCommandeDTO>> chargeurLignes;
+        private int nombreLignes;
+        private LocalDateTime dateCommande;
+        private String statut;
+        private long montantTotalCentimes;
+
+        public Builder() {
+        }
+
+        public Builder id(int id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder version(int version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder client(ClientDTO client) {
+            this.client = client;
+            return this;
+        }
+
+        public Builder lignes(List<LigneCommandeDTO> lignes) {
+            this.lignes = lignes;
+            this.chargeurLignes = null;
+            return this;
+        }
+
+        /**
+         * Lignes construites à la demande par le chargeur (nombre connu d'avance)
+         */
+        public Builder lignes(int nombre, Supplier<List<LigneCommandeDTO>> chargeur) {
+            this.nombreLignes = nombre;
+            this.chargeurLignes = chargeur;
+            return this;
+        }
+
+        public Builder ajouterLigne(LigneCommandeDTO ligne) {
+            this.lignes.add(ligne);
+            return this;
+        }
+
+        public Builder dateCommande(LocalDateTime dateCommande) {
+            this.dateCommande = dateCommande;
+            return this;
+        }
+
+        public Builder statut(String statut) {
+            this.statut = statut;
+            return this;
+        }
+
+        public Builder montantTotal(double montantTotal) {
+            this.montantTotalCentimes = Monnaie.versCentimes(montantTotal);
+            return this;
+        }
+
+        public Builder montantTotalCentimes(long montantTotalCentimes) {
+            this.montantTotalCentimes = montantTotalCentimes;
+            return this;
+        }
+
+        public CommandeDTO build() {
+            return new CommandeDTO(this);
+        }
+    }
+
+    // Prototype Pattern
+    @Override
+    public CommandeDTO clone() {
+        try {
+            CommandeDTO copy = (CommandeDTO) super.clone();
+            copy.lignes = new ArrayList<>(getLignes());
+            copy.chargeurLignes = null;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException("Cloning failed", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.miniprojet.dto;
+
+import java.time.LocalDateTime;
+
+import com.miniprojet.model.Monnaie;
+
+/**
+ * En-tête de commande: ce qu'affichent les listes, sans les lignes
+ */
+public class EnTeteCommandeDTO {
+    private final int id;
+    private final int version;
+    private final ClientDTO client;
+    private final LocalDateTime dateCommande;
+    private final String statut;
+    private final long montantTotalCentimes;
+    private final int nombreLignes;
+
+    public EnTeteCommandeDTO(int id, int version, ClientDTO client, LocalDateTime dateCommande,
+            String statut, long montantTotalCentimes, int nombreLignes) {
+        this.id = id;
+        this.version = version;
+        this.client = client;
+        this.dateCommande = dateCommande;
+        this.statut = statut;
+        this.montantTotalCentimes = montantTotalCentimes;
+        this.nombreLignes = nombreLignes;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public ClientDTO getClient() {
+        return client;
+    }
+
+    public LocalDateTime getDateCommande() {
+        return dateCommande;
+    }
+
+    public String getStatut() {
+        return statut;
+    }
+
+    public double getMontantTotal() {
+        return Monnaie.versUnites(montantTotalCentimes);
+    }
+
+    public long getMontantTotalCentimes() {
+        return montantTotalCentimes;
+    }
+
+    public int getNombreLignes() {
+        return nombreLignes;
+    }
+}
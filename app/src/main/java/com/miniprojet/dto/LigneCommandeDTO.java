@@ -0,0 +1,40 @@
+package com.miniprojet.dto;
+
+import com.miniprojet.model.Monnaie;
+
+public class LigneCommandeDTO {
+    private ProduitDTO produit;
+    private int quantite;
+    // Centimes (voir Monnaie)
+    private long prixUnitaireCentimes;
+
+    public LigneCommandeDTO(ProduitDTO produit, int quantite, long prixUnitaireCentimes) {
+        this.produit = produit;
+        this.quantite = quantite;
+        this.prixUnitaireCentimes = prixUnitaireCentimes;
+    }
+
+    public ProduitDTO getProduit() {
+        return produit;
+    }
+
+    public int getQuantite() {
+        return quantite;
+    }
+
+    public double getPrixUnitaire() {
+        return Monnaie.versUnites(prixUnitaireCentimes);
+    }
+
+    public long getPrixUnitaireCentimes() {
+        return prixUnitaireCentimes;
+    }
+
+    public double getSousTotal() {
+        return Monnaie.versUnites(getSousTotalCentimes());
+    }
+
+    public long getSousTotalCentimes() {
+        return Monnaie.multiplier(prixUnitaireCentimes, quantite);
+    }
+}
\ No newline at end of file
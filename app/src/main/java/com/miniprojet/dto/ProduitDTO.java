@@ -0,0 +1,177 @@
+package com.miniprojet.dto;
+
+import com.miniprojet.mapping.Chemin;
+import com.miniprojet.mapping.GenererMapper;
+import com.miniprojet.model.Monnaie;
+import com.miniprojet.model.Produit;
+
+/**
+ * Produit pour la couche de présentation
+ * ProduitDTOMapper.versDTO(produit) est généré à la compilation (voir GenererMapper)
+ */
+@GenererMapper(source = Produit.class)
+public class ProduitDTO implements Cloneable {
+    private int id;
+    private int version;
+    private String name;
+    private String description;
+    // Centimes (voir Monnaie)
+    private long prixCentimes;
+    private int quantiteStock;
+    private int quantiteReservee;
+    private int seuilAlerte;
+
+    private ProduitDTO(Builder builder) {
+        this.id = builder.id;
+        this.version = builder.version;
+        this.name = builder.name;
+        this.description = builder.description;
+        this.prixCentimes = builder.prixCentimes;
+        this.quantiteStock = builder.quantiteStock;
+        this.quantiteReservee = builder.quantiteReservee;
+        this.seuilAlerte = builder.seuilAlerte;
+    }
+
+    public ProduitDTO() {
+    }
+
+    // Copie directe des champs, utilisée par le mapper généré
+    ProduitDTO(int id, int version, String name, String description, long prixCentimes,
+            @Chemin("stock.quantite") int quantiteStock,
+            @Chemin("stock.reserve") int quantiteReservee,
+            @Chemin("stock.seuilAlerte") int seuilAlerte) {
+        this.id = id;
+        this.version = version;
+        this.name = name;
+        this.description = description;
+        this.prixCentimes = prixCentimes;
+        this.quantiteStock = quantiteStock;
+        this.quantiteReservee = quantiteReservee;
+        this.seuilAlerte = seuilAlerte;
+    }
+
+    // Getters
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Version de l'entité lue (0 = non renseignée)
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public double getPrice() {
+        return Monnaie.versUnites(prixCentimes);
+    }
+
+    public long getPrixCentimes() {
+        return prixCentimes;
+    }
+
+    public int getQuantiteStock() {
+        return quantiteStock;
+    }
+
+    /**
+     * Part du stock réservée par les commandes en attente
+     */
+    public int getQuantiteReservee() {
+        return quantiteReservee;
+    }
+
+    public int getQuantiteDisponible() {
+        return quantiteStock - quantiteReservee;
+    }
+
+    public int getSeuilAlerte() {
+        return seuilAlerte;
+    }
+
+    public boolean isStockFaible() {
+        return getQuantiteDisponible() <= seuilAlerte;
+    }
+
+    // Builder Pattern
+    public static class Builder {
+        private int id;
+        private int version;
+        private String name;
+        private String description;
+        private long prixCentimes;
+        private int quantiteStock;
+        private int quantiteReservee;
+        private int seuilAlerte;
+
+        public Builder() {
+        }
+
+        public Builder id(int id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder version(int version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public Builder price(double price) {
+            this.prixCentimes = Monnaie.versCentimes(price);
+            return this;
+        }
+
+        public Builder prixCentimes(long prixCentimes) {
+            this.prixCentimes = prixCentimes;
+            return this;
+        }
+
+        public Builder quantiteStock(int quantiteStock) {
+            this.quantiteStock = quantiteStock;
+            return this;
+        }
+
+        public Builder quantiteReservee(int quantiteReservee) {
+            this.quantiteReservee = quantiteReservee;
+            return this;
+        }
+
+        public Builder seuilAlerte(int seuilAlerte) {
+            this.seuilAlerte = seuilAlerte;
+            return this;
+        }
+
+        public ProduitDTO build() {
+            return new ProduitDTO(this);
+        }
+    }
+
+    // Prototype Pattern
+    @Override
+    public ProduitDTO clone() {
+        try {
+            return (ProduitDTO) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException("Cloning failed", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.miniprojet.exception;
+
+/**
+ * Écriture refusée: l'entité a été modifiée depuis sa lecture
+ * (la version fournie n'est plus la version enregistrée)
+ */
+public class OptimisticLockException extends RuntimeException {
+
+    private final int id;
+
+    public OptimisticLockException(String entite, int id, int versionAttendue, int versionActuelle) {
+        super("Conflit de modification sur " + entite + " id = " + id
+                + ": version " + versionAttendue + " lue, version " + versionActuelle + " enregistrée");
+        this.id = id;
+    }
+
+    public int getId() {
+        return id;
+    }
+}
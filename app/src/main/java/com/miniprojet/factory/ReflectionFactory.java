@@ -87,8 +87,9 @@ public class ReflectionFactory {
      */
     private boolean hasGetInstanceMethod(Class<?> clazz) {
         try {
-            clazz.getMethod("getInstance");
-            return true;
+            // Une sous-classe sans getInstance() propre hérite de celle du parent,
+            // qui renverrait l'instance du parent
+            return clazz.getMethod("getInstance").getDeclaringClass() == clazz;
         } catch (NoSuchMethodException e) {
             return false;
         }
@@ -0,0 +1,19 @@
+package com.miniprojet.ingestion;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Commande telle que lue dans un fichier d'import, avant résolution
+ *
+ * @param ligne     numéro de ligne (première ligne de la commande) dans le fichier
+ * @param reference référence de la commande chez l'émetteur du fichier
+ * @param client    email ou id du client
+ * @param date      date de la commande, null = date de l'import
+ */
+public record EnregistrementCommande(int ligne, String reference, String client, LocalDateTime date,
+        List<LigneImportee> lignes) {
+
+    public record LigneImportee(int produitId, int quantite) {
+    }
+}
@@ -0,0 +1,30 @@
+package com.miniprojet.ingestion;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Lecture d'un fichier de commandes. Une ligne illisible est signalée dans
+ * le rapport et n'arrête pas la lecture.
+ */
+public interface LecteurCommandes {
+
+    List<EnregistrementCommande> lire(BufferedReader lecteur, RapportImport rapport) throws IOException;
+
+    /**
+     * Lecteur selon l'extension: .csv, .jsonl ou .ndjson
+     */
+    static LecteurCommandes pour(Path fichier) {
+        String nom = fichier.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (nom.endsWith(".csv")) {
+            return new LecteurCsv();
+        }
+        if (nom.endsWith(".jsonl") || nom.endsWith(".ndjson")) {
+            return new LecteurJsonl();
+        }
+        throw new IllegalArgumentException("Format de fichier non pris en charge: " + fichier.getFileName());
+    }
+}
@@ -0,0 +1,92 @@
+package com.miniprojet.ingestion;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * CSV d'une ligne par ligne de commande:
+ * reference,client,produit,quantite[,date]
+ *
+ * Les lignes consécutives de même référence forment une commande.
+ * En-tête facultatif (première colonne "reference"), séparateur ',' ou ';'.
+ */
+public class LecteurCsv implements LecteurCommandes {
+
+    private static final Pattern SEPARATEUR = Pattern.compile("[,;]");
+
+    @Override
+    public List<EnregistrementCommande> lire(BufferedReader lecteur, RapportImport rapport) throws IOException {
+        List<EnregistrementCommande> commandes = new ArrayList<>();
+        EnCours enCours = null;
+        String texte;
+        int numero = 0;
+        while ((texte = lecteur.readLine()) != null) {
+            numero++;
+            if (texte.isBlank() || (numero == 1 && texte.toLowerCase(Locale.ROOT).startsWith("reference"))) {
+                continue;
+            }
+            String[] colonnes = SEPARATEUR.split(texte, -1);
+            if (colonnes.length < 4) {
+                rapport.rejeter(numero, null, "4 colonnes attendues (reference,client,produit,quantite)");
+                continue;
+            }
+            String reference = colonnes[0].trim();
+            if (enCours != null && !enCours.reference.equals(reference)) {
+                enCours.terminer(commandes);
+                enCours = null;
+            }
+            if (enCours != null && enCours.invalide) {
+                continue;
+            }
+            try {
+                EnregistrementCommande.LigneImportee ligne = new EnregistrementCommande.LigneImportee(
+                        Integer.parseInt(colonnes[2].trim()), Integer.parseInt(colonnes[3].trim()));
+                if (enCours == null) {
+                    String date = colonnes.length > 4 ? colonnes[4].trim() : "";
+                    enCours = new EnCours(numero, reference, colonnes[1].trim(),
+                            date.isEmpty() ? null : LocalDateTime.parse(date));
+                }
+                enCours.lignes.add(ligne);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                rapport.rejeter(numero, reference, "Valeur illisible: " + e.getMessage());
+                if (enCours == null) {
+                    enCours = new EnCours(numero, reference, null, null);
+                }
+                // Commande incomplète: ses autres lignes sont ignorées
+                enCours.invalide = true;
+            }
+        }
+        if (enCours != null) {
+            enCours.terminer(commandes);
+        }
+        return commandes;
+    }
+
+    private static final class EnCours {
+        private final int ligne;
+        private final String reference;
+        private final String client;
+        private final LocalDateTime date;
+        private final List<EnregistrementCommande.LigneImportee> lignes = new ArrayList<>();
+        private boolean invalide;
+
+        EnCours(int ligne, String reference, String client, LocalDateTime date) {
+            this.ligne = ligne;
+            this.reference = reference;
+            this.client = client;
+            this.date = date;
+        }
+
+        void terminer(List<EnregistrementCommande> commandes) {
+            if (!invalide) {
+                commandes.add(new EnregistrementCommande(ligne, reference, client, date, lignes));
+            }
+        }
+    }
+}
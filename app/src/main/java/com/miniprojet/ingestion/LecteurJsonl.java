@@ -0,0 +1,63 @@
+package com.miniprojet.ingestion;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON Lines: une commande par ligne
+ * {"reference": "A-1", "client": "a@b.fr", "date": "2025-01-31T10:00",
+ * "lignes": [{"produit": 3, "quantite": 2}]}
+ */
+public class LecteurJsonl implements LecteurCommandes {
+
+    @Override
+    public List<EnregistrementCommande> lire(BufferedReader lecteur, RapportImport rapport) throws IOException {
+        List<EnregistrementCommande> commandes = new ArrayList<>();
+        String texte;
+        int numero = 0;
+        while ((texte = lecteur.readLine()) != null) {
+            numero++;
+            if (texte.isBlank()) {
+                continue;
+            }
+            String reference = null;
+            try {
+                if (!(JsonSimple.analyser(texte) instanceof Map<?, ?> objet)) {
+                    throw new IllegalArgumentException("objet JSON attendu");
+                }
+                reference = texte(objet.get("reference"));
+                Object date = objet.get("date");
+                List<EnregistrementCommande.LigneImportee> lignes = new ArrayList<>();
+                if (objet.get("lignes") instanceof List<?> liste) {
+                    for (Object element : liste) {
+                        if (!(element instanceof Map<?, ?> ligne)) {
+                            throw new IllegalArgumentException("ligne de commande illisible: " + element);
+                        }
+                        lignes.add(new EnregistrementCommande.LigneImportee(
+                                entier(ligne.get("produit")), entier(ligne.get("quantite"))));
+                    }
+                }
+                commandes.add(new EnregistrementCommande(numero, reference, texte(objet.get("client")),
+                        date == null ? null : LocalDateTime.parse(date.toString()), lignes));
+            } catch (RuntimeException e) {
+                rapport.rejeter(numero, reference, "Ligne illisible: " + e.getMessage());
+            }
+        }
+        return commandes;
+    }
+
+    private static String texte(Object valeur) {
+        return valeur == null ? null : valeur.toString();
+    }
+
+    private static int entier(Object valeur) {
+        if (valeur instanceof Number nombre) {
+            return nombre.intValue();
+        }
+        return Integer.parseInt(String.valueOf(valeur));
+    }
+}
@@ -0,0 +1,128 @@
+package com.miniprojet.ingestion;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Rapport d'un import: rejets ligne par ligne, durée de chaque étape,
+ * débit et latence de validation par commande
+ *
+ * Rempli par le pipeline d'import; rejeter() peut être appelé depuis
+ * plusieurs threads.
+ */
+public class RapportImport {
+
+    /**
+     * Rejet d'une commande (ou d'une ligne illisible) du fichier
+     */
+    public record Erreur(int ligne, String reference, String message) {
+
+        @Override
+        public String toString() {
+            return "ligne " + ligne + (reference != null ? " [" + reference + "]" : "") + ": " + message;
+        }
+    }
+
+    private final Path fichier;
+    private final Queue<Erreur> erreurs = new ConcurrentLinkedQueue<>();
+    // étape -> durée (ns), dans l'ordre d'exécution
+    private final Map<String, Long> etapes = new LinkedHashMap<>();
+    private int commandesLues;
+    private int commandesImportees;
+    private long[] latences = new long[0];
+
+    public RapportImport(Path fichier) {
+        this.fichier = fichier;
+    }
+
+    public void rejeter(int ligne, String reference, String message) {
+        erreurs.add(new Erreur(ligne, reference, message));
+    }
+
+    public void etape(String nom, long dureeNanos) {
+        etapes.put(nom, dureeNanos);
+    }
+
+    public void setCommandesLues(int commandesLues) {
+        this.commandesLues = commandesLues;
+    }
+
+    public void setCommandesImportees(int commandesImportees) {
+        this.commandesImportees = commandesImportees;
+    }
+
+    /**
+     * Temps de validation de chaque commande (ns)
+     */
+    public void setLatences(long[] latences) {
+        this.latences = latences.clone();
+        Arrays.sort(this.latences);
+    }
+
+    public Path getFichier() {
+        return fichier;
+    }
+
+    public int getCommandesLues() {
+        return commandesLues;
+    }
+
+    public int getCommandesImportees() {
+        return commandesImportees;
+    }
+
+    /**
+     * Rejets par numéro de ligne croissant
+     */
+    public List<Erreur> getErreurs() {
+        List<Erreur> triees = new ArrayList<>(erreurs);
+        triees.sort(Comparator.comparingInt(Erreur::ligne));
+        return Collections.unmodifiableList(triees);
+    }
+
+    public long getDureeTotaleNanos() {
+        return etapes.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Commandes lues par seconde, toutes étapes comprises
+     */
+    public double getDebit() {
+        long duree = getDureeTotaleNanos();
+        return duree == 0 ? 0 : commandesLues * 1e9 / duree;
+    }
+
+    /**
+     * Latence de validation au centile donné (ns), 0 sans mesure
+     */
+    public long latence(double centile) {
+        if (latences.length == 0) {
+            return 0;
+        }
+        int rang = (int) Math.ceil(centile / 100 * latences.length) - 1;
+        return latences[Math.max(0, Math.min(rang, latences.length - 1))];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder rapport = new StringBuilder();
+        rapport.append("Import ").append(fichier.getFileName()).append(": ")
+                .append(commandesImportees).append(" commande(s) importée(s) sur ")
+                .append(commandesLues).append(" lue(s), ")
+                .append(erreurs.size()).append(" rejet(s)\n");
+        etapes.forEach((nom, duree) -> rapport.append("  ").append(nom).append(": ")
+                .append(duree / 1_000_000).append(" ms\n"));
+        rapport.append(String.format("  débit: %.0f commandes/s%n", getDebit()));
+        rapport.append(String.format("  latence de validation: p50 %d µs, p99 %d µs, max %d µs",
+                latence(50) / 1000, latence(99) / 1000, latence(100) / 1000));
+        return rapport.toString();
+    }
+}
@@ -2,13 +2,14 @@ package com.miniprojet.model;
 
 import com.miniprojet.prototype.IPrototype;
 
-public class Client implements IPrototype {
+public class Client implements IPrototype, IEntity {
     private int id;
     private String nom;
     private String prenom;
     private String email;
     private String telephone;
     private String adresse;
+    private int version;
 
     private Client(Builder builder) {
         this.id = builder.id;
@@ -27,6 +28,10 @@ public class Client implements IPrototype {
         return id;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
     public String getNom() {
         return nom;
     }
@@ -52,6 +57,10 @@ public class Client implements IPrototype {
         this.id = id;
     }
 
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     public void setNom(String nom) {
         this.nom = nom;
     }
@@ -146,11 +155,23 @@ public class Client implements IPrototype {
         try {
             Client copy = (Client) super.clone();
             copy.id = 0;
+            copy.version = 0;
             return copy;
         } catch (CloneNotSupportedException e) {
             throw new RuntimeException("Cloning failed", e);
         }
     }
+
+    /**
+     * Copie de travail: même id et même version (voir Produit.copie())
+     */
+    public Client copie() {
+        try {
+            return (Client) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException("Cloning failed", e);
+        }
+    }
 }
 
 // creer une interface pour le prototype
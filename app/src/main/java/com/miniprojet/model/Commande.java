@@ -0,0 +1,270 @@
+package com.miniprojet.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Commande et ses lignes
+ *
+ * Le montant total et le nombre d'articles sont tenus à jour à chaque
+ * modification des lignes (ajouterLigne, retirerLigne, modifierQuantite):
+ * seul l'écart de la ligne touchée est appliqué, sans repasser sur les
+ * autres (voir CommandeService.ajouterLigne et suivantes). setLignes()
+ * remplace toutes les lignes et refait le calcul complet.
+ * getLignes() est en lecture seule pour que les totaux ne puissent pas
+ * diverger des lignes.
+ */
+public class Commande implements IEntity, Cloneable {
+    private int id;
+    private Client client;
+    private ArrayList<LigneCommande> lignes = new ArrayList<>();
+    // Vue non modifiable de lignes, créée une fois par liste
+    private List<LigneCommande> lignesLecture = Collections.unmodifiableList(lignes);
+    private LocalDateTime dateCommande;
+    private StatutCommande statut;
+    // Centimes (voir Monnaie)
+    private long montantTotalCentimes;
+    // Somme des quantités
+    private long nombreArticles;
+    private int version;
+
+    private Commande(Builder builder) {
+        this.id = builder.id;
+        this.client = builder.client;
+        this.dateCommande = builder.dateCommande;
+        this.statut = builder.statut;
+        setLignes(builder.lignes);
+    }
+
+    public Commande() {
+    }
+
+    // Getters
+    public int getId() {
+        return id;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public Client getClient() {
+        return client;
+    }
+
+    public List<LigneCommande> getLignes() {
+        return lignesLecture;
+    }
+
+    public int getNombreLignes() {
+        return lignes.size();
+    }
+
+    public long getNombreArticles() {
+        return nombreArticles;
+    }
+
+    public LocalDateTime getDateCommande() {
+        return dateCommande;
+    }
+
+    public StatutCommande getStatut() {
+        return statut;
+    }
+
+    public double getMontantTotal() {
+        return Monnaie.versUnites(montantTotalCentimes);
+    }
+
+    public long getMontantTotalCentimes() {
+        return montantTotalCentimes;
+    }
+
+    // Setters
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public void setClient(Client client) {
+        this.client = client;
+    }
+
+    public void setLignes(List<LigneCommande> lignes) {
+        this.lignes = new ArrayList<>(lignes);
+        this.lignesLecture = Collections.unmodifiableList(this.lignes);
+        calculerMontantTotal();
+    }
+
+    public void ajouterLigne(LigneCommande ligne) {
+        lignes.add(ligne);
+        appliquerEcart(ligne.getSousTotalCentimes(), ligne.getQuantite());
+    }
+
+    public LigneCommande retirerLigne(int index) {
+        LigneCommande retiree = lignes.remove(index);
+        appliquerEcart(-retiree.getSousTotalCentimes(), -retiree.getQuantite());
+        return retiree;
+    }
+
+    /**
+     * Change la quantité d'une ligne en gardant son prix unitaire figé
+     */
+    public LigneCommande modifierQuantite(int index, int quantite) {
+        if (quantite <= 0) {
+            throw new IllegalArgumentException("Quantité invalide: " + quantite);
+        }
+        LigneCommande ancienne = lignes.get(index);
+        LigneCommande nouvelle = new LigneCommande(ancienne.getProduit(), quantite,
+                ancienne.getPrixUnitaireCentimes());
+        lignes.set(index, nouvelle);
+        appliquerEcart(
+                Monnaie.multiplier(ancienne.getPrixUnitaireCentimes(), quantite - ancienne.getQuantite()),
+                quantite - ancienne.getQuantite());
+        return nouvelle;
+    }
+
+    public void setDateCommande(LocalDateTime dateCommande) {
+        this.dateCommande = dateCommande;
+    }
+
+    public void setStatut(StatutCommande statut) {
+        this.statut = statut;
+    }
+
+    /**
+     * Montant imposé (relecture d'un journal...): recalculé au prochain
+     * setLignes()
+     */
+    public void setMontantTotal(double montantTotal) {
+        this.montantTotalCentimes = Monnaie.versCentimes(montantTotal);
+    }
+
+    public void setMontantTotalCentimes(long montantTotalCentimes) {
+        this.montantTotalCentimes = montantTotalCentimes;
+    }
+
+    /**
+     * Recalcul complet: somme exacte des sous-totaux, en centimes (boucle
+     * sans itérateur ni boxing). Inutile après ajouterLigne, retirerLigne
+     * ou modifierQuantite.
+     */
+    public void calculerMontantTotal() {
+        long total = 0;
+        long articles = 0;
+        for (int i = 0, n = lignes.size(); i < n; i++) {
+            LigneCommande ligne = lignes.get(i);
+            total = Monnaie.additionner(total, ligne.getSousTotalCentimes());
+            articles += ligne.getQuantite();
+        }
+        this.montantTotalCentimes = total;
+        this.nombreArticles = articles;
+    }
+
+    private void appliquerEcart(long centimes, long articles) {
+        montantTotalCentimes = Monnaie.additionner(montantTotalCentimes, centimes);
+        nombreArticles += articles;
+    }
+
+    @Override
+    public String toString() {
+        return "Commande{" +
+                "id=" + id +
+                ", client=" + (client != null ? client.getNom() + " " + client.getPrenom() : "null") +
+                ", nombreLignes=" + (lignes != null ? lignes.size() : 0) +
+                ", dateCommande=" + dateCommande +
+                ", statut=" + statut +
+                ", montantTotal=" + Monnaie.formater(montantTotalCentimes) +
+                '}';
+    }
+
+    // Builder Pattern
+    public static class Builder {
+        private int id;
+        private Client client;
+        private List<LigneCommande> lignes = new ArrayList<>();
+        private LocalDateTime dateCommande = LocalDateTime.now();
+        private StatutCommande statut = StatutCommande.EN_ATTENTE;
+
+        public Builder() {
+        }
+
+        public Builder id(int id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder client(Client client) {
+            this.client = client;
+            return this;
+        }
+
+        public Builder lignes(List<LigneCommande> lignes) {
+            this.lignes = lignes;
+            return this;
+        }
+
+        public Builder ajouterLigne(LigneCommande ligne) {
+            this.lignes.add(ligne);
+            return this;
+        }
+
+        public Builder dateCommande(LocalDateTime dateCommande) {
+            this.dateCommande = dateCommande;
+            return this;
+        }
+
+        public Builder statut(StatutCommande statut) {
+            this.statut = statut;
+            return this;
+        }
+
+        public Commande build() {
+            if (client == null) {
+                throw new IllegalStateException("Une commande doit avoir un client");
+            }
+            if (lignes.isEmpty()) {
+                throw new IllegalStateException("Une commande doit avoir au moins une ligne");
+            }
+            // Le constructeur calcule le total en recopiant les lignes
+            return new Commande(this);
+        }
+    }
+
+    // Prototype Pattern
+    @Override
+    public Commande clone() {
+        try {
+            Commande copy = (Commande) super.clone();
+            copy.id = 0;
+            copy.version = 0;
+            copy.lignes = new ArrayList<>(this.lignes);
+            copy.lignesLecture = Collections.unmodifiableList(copy.lignes);
+            copy.dateCommande = LocalDateTime.now();
+            copy.statut = StatutCommande.EN_ATTENTE;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException("Cloning failed", e);
+        }
+    }
+
+    /**
+     * Copie de travail: même id et même version, liste des lignes copiée
+     * (voir Produit.copie())
+     */
+    public Commande copie() {
+        try {
+            Commande copy = (Commande) super.clone();
+            copy.lignes = new ArrayList<>(this.lignes);
+            copy.lignesLecture = Collections.unmodifiableList(copy.lignes);
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new RuntimeException("Cloning failed", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.miniprojet.model;
+
+/**
+ * Contrat commun des entités persistées: identifiant attribué par le repository
+ * et version incrémentée à chaque écriture (verrouillage optimiste)
+ */
+public interface IEntity {
+    int getId();
+
+    void setId(int id);
+
+    int getVersion();
+
+    void setVersion(int version);
+}
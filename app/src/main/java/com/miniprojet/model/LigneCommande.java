@@ -0,0 +1,57 @@
+package com.miniprojet.model;
+
+public class LigneCommande {
+    private Produit produit;
+    private int quantite;
+    // Centimes (voir Monnaie)
+    private long prixUnitaireCentimes;
+
+    public LigneCommande(Produit produit, int quantite) {
+        this.produit = produit;
+        this.quantite = quantite;
+        this.prixUnitaireCentimes = produit.getPrixCentimes();
+    }
+
+    /**
+     * Ligne avec un prix unitaire figé (prix au moment de la commande)
+     */
+    public LigneCommande(Produit produit, int quantite, long prixUnitaireCentimes) {
+        this.produit = produit;
+        this.quantite = quantite;
+        this.prixUnitaireCentimes = prixUnitaireCentimes;
+    }
+
+    public Produit getProduit() {
+        return produit;
+    }
+
+    public int getQuantite() {
+        return quantite;
+    }
+
+    public double getPrixUnitaire() {
+        return Monnaie.versUnites(prixUnitaireCentimes);
+    }
+
+    public long getPrixUnitaireCentimes() {
+        return prixUnitaireCentimes;
+    }
+
+    public double getSousTotal() {
+        return Monnaie.versUnites(getSousTotalCentimes());
+    }
+
+    public long getSousTotalCentimes() {
+        return Monnaie.multiplier(prixUnitaireCentimes, quantite);
+    }
+
+    @Override
+    public String toString() {
+        return "LigneCommande{" +
+                "produit=" + produit.getName() +
+                ", quantite=" + quantite +
+                ", prixUnitaire=" + Monnaie.formater(prixUnitaireCentimes) +
+                ", sousTotal=" + Monnaie.formater(getSousTotalCentimes()) +
+                '}';
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.miniprojet.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Montants en virgule fixe: entiers de centimes (long)
+ *
+ * Prix, sous-totaux et totaux sont stockés en centimes; additions et
+ * multiplications sont exactes (débordement = ArithmeticException) et ne
+ * créent aucun objet. Les double ne servent qu'aux frontières (saisie,
+ * affichage, anciens formats), convertis ici au centime le plus proche.
+ */
+public final class Monnaie {
+
+    public static final int CENTIMES_PAR_UNITE = 100;
+
+    private Monnaie() {
+    }
+
+    public static long versCentimes(double montant) {
+        if (!Double.isFinite(montant) || Math.abs(montant) >= Long.MAX_VALUE / CENTIMES_PAR_UNITE) {
+            throw new ArithmeticException("Montant hors limites: " + montant);
+        }
+        return Math.round(montant * CENTIMES_PAR_UNITE);
+    }
+
+    public static double versUnites(long centimes) {
+        return (double) centimes / CENTIMES_PAR_UNITE;
+    }
+
+    /**
+     * Sous-total d'une ligne: prix unitaire x quantité
+     */
+    public static long multiplier(long centimes, int quantite) {
+        return Math.multiplyExact(centimes, quantite);
+    }
+
+    public static long additionner(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    /**
+     * Saisie décimale exacte ("1500", "12.5", "12,50"), arrondie au centime
+     */
+    public static long lire(String texte) {
+        return new BigDecimal(texte.trim().replace(',', '.'))
+                .movePointRight(2)
+                .setScale(0, RoundingMode.HALF_EVEN)
+                .longValueExact();
+    }
+
+    /**
+     * "1500" pour un montant rond, "1500.05" sinon
+     */
+    public static String formater(long centimes) {
+        long unites = centimes / CENTIMES_PAR_UNITE;
+        long reste = Math.abs(centimes % CENTIMES_PAR_UNITE);
+        String signe = centimes < 0 && unites == 0 ? "-" : "";
+        return reste == 0
+                ? signe + unites
+                : signe + unites + "." + (reste < 10 ? "0" : "") + reste;
+    }
+}
@@ -1,17 +1,19 @@
 package com.miniprojet.model;
 
-public class Produit implements Cloneable {
+public class Produit implements IEntity, Cloneable {
     private int id;
     private String name;
     private String description;
-    private double price;
+    // Prix en centimes (voir Monnaie)
+    private long prixCentimes;
     private Stock stock;
+    private int version;
 
     private Produit(Builder b) {
         this.id = b.id;
         this.name = b.name;
         this.description = b.description;
-        this.price = b.price;
+        this.prixCentimes = b.prixCentimes;
     }
 
     public Produit() {
@@ -25,6 +27,14 @@ public class Produit implements Cloneable {
         this.id = id;
     }
 
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     public String getName() {
         return name;
     }
@@ -42,11 +52,19 @@ public class Produit implements Cloneable {
     }
 
     public double getPrice() {
-        return price;
+        return Monnaie.versUnites(prixCentimes);
     }
 
     public void setPrice(double price) {
-        this.price = price;
+        this.prixCentimes = Monnaie.versCentimes(price);
+    }
+
+    public long getPrixCentimes() {
+        return prixCentimes;
+    }
+
+    public void setPrixCentimes(long prixCentimes) {
+        this.prixCentimes = prixCentimes;
     }
 
     public Stock getStock() {
@@ -63,7 +81,7 @@ public class Produit implements Cloneable {
                 "id=" + id +
                 ", name='" + name + '\'' +
                 ", description='" + description + '\'' +
-                ", price=" + price +
+                ", price=" + Monnaie.formater(prixCentimes) +
                 '}';
     }
 
@@ -71,7 +89,7 @@ public class Produit implements Cloneable {
         private int id;
         private String name;
         private String description;
-        private double price;
+        private long prixCentimes;
         private Stock stock;
 
         public Builder() {
@@ -93,7 +111,12 @@ public class Produit implements Cloneable {
         }
 
         public Builder price(double price) {
-            this.price = price;
+            this.prixCentimes = Monnaie.versCentimes(price);
+            return this;
+        }
+
+        public Builder prixCentimes(long prixCentimes) {
+            this.prixCentimes = prixCentimes;
             return this;
         }
 
@@ -116,9 +139,32 @@ public class Produit implements Cloneable {
         try {
             Produit copy = (Produit) super.clone();
             copy.id = 0; // reset id so repo gives a new id
+            copy.version = 0;
+            if (stock != null) {
+                // Stock propre au clone, sans les réservations de l'original
+                copy.stock = new Stock(stock.getQuantite(), stock.getSeuilAlerte());
+            }
             return copy;
         } catch (CloneNotSupportedException e) {
             throw new RuntimeException("Cloning failed", e);
         }
     }
+
+    /**
+     * Copie de travail: même id et même version, stock copié.
+     * Modifiée puis passée à repository.update(), qui refuse l'écriture
+     * si l'entité a changé entre-temps.
+     */
+    public Produit copie() {
+        Produit copy = new Produit();
+        copy.id = id;
+        copy.version = version;
+        copy.name = name;
+        copy.description = description;
+        copy.prixCentimes = prixCentimes;
+        if (stock != null) {
+            copy.stock = new Stock(stock.getQuantite(), stock.getSeuilAlerte(), stock.getReserve());
+        }
+        return copy;
+    }
 }
@@ -0,0 +1,60 @@
+package com.miniprojet.model;
+
+/**
+ * Stock d'un produit
+ *
+ * quantite est le stock physique; reserve la part promise aux commandes en
+ * attente. Seule la quantité disponible (quantite - reserve) peut être
+ * réservée ou sortie.
+ */
+public class Stock {
+
+    private int quantite;
+    private int seuilAlerte;
+    private int reserve;
+
+    public Stock(int quantite, int seuilAlerte) {
+        this.quantite = quantite;
+        this.seuilAlerte = seuilAlerte;
+    }
+
+    public Stock(int quantite, int seuilAlerte, int reserve) {
+        this(quantite, seuilAlerte);
+        this.reserve = reserve;
+    }
+
+    public int getQuantite() {
+        return quantite;
+    }
+
+    public void setQuantite(int quantite) {
+        this.quantite = quantite;
+    }
+
+    public int getSeuilAlerte() {
+        return seuilAlerte;
+    }
+
+    public int getReserve() {
+        return reserve;
+    }
+
+    public void setReserve(int reserve) {
+        this.reserve = reserve;
+    }
+
+    public int getDisponible() {
+        return getQuantite() - getReserve();
+    }
+
+    public boolean estFaible() {
+        return getDisponible() <= getSeuilAlerte();
+    }
+
+    @Override
+    public String toString() {
+        return "Stock{quantite=" + getQuantite() +
+                ", reserve=" + getReserve() +
+                ", seuilAlerte=" + getSeuilAlerte() + '}';
+    }
+}
@@ -0,0 +1,16 @@
+package com.miniprojet.observer;
+
+import java.util.List;
+
+import com.miniprojet.model.Produit;
+
+public interface StockObserver {
+    void onStockChange(Produit produit);
+
+    /**
+     * Notification groupée pour un lot de mouvements
+     */
+    default void onStockChanges(List<Produit> produits) {
+        produits.forEach(this::onStockChange);
+    }
+}
@@ -0,0 +1,34 @@
+package com.miniprojet.observer.impl;
+
+import java.util.List;
+
+import com.miniprojet.model.Produit;
+import com.miniprojet.observer.StockObserver;
+
+public class StockAlertObserver implements StockObserver {
+
+    @Override
+    public void onStockChange(Produit produit) {
+        if (produit.getStock().estFaible()) {
+            System.out.println("⚠️ ALERTE : Stock faible pour "
+                    + produit.getName()
+                    + " (" + produit.getStock().getDisponible() + ")");
+        }
+    }
+
+    @Override
+    public void onStockChanges(List<Produit> produits) {
+        List<Produit> faibles = produits.stream()
+                .filter(p -> p.getStock().estFaible())
+                .toList();
+        if (faibles.size() == 1) {
+            onStockChange(faibles.get(0));
+        } else if (!faibles.isEmpty()) {
+            StringBuilder message = new StringBuilder("⚠️ ALERTE : Stock faible pour ")
+                    .append(faibles.size()).append(" produits:");
+            faibles.forEach(p -> message.append(" ").append(p.getName())
+                    .append(" (").append(p.getStock().getDisponible()).append(")"));
+            System.out.println(message);
+        }
+    }
+}
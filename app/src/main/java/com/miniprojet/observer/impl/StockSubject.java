@@ -17,4 +17,8 @@ public class StockSubject {
     public void notifyObservers(Produit produit) {
         observers.forEach(o -> o.onStockChange(produit));
     }
-}
\ No newline at end of file
+
+    public void notifyObservers(List<Produit> produits) {
+        observers.forEach(o -> o.onStockChanges(produits));
+    }
+}
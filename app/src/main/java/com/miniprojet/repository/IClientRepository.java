@@ -0,0 +1,24 @@
+package com.miniprojet.repository;
+
+import java.util.Locale;
+import java.util.Optional;
+
+import com.miniprojet.model.Client;
+import com.miniprojet.repository.query.Champ;
+
+public interface IClientRepository extends IRepository<Client> {
+
+    // Champs interrogeables (voir IRepository.query)
+    Champ<Client, Integer> ID = Champ.id();
+    Champ<Client, String> EMAIL = new Champ<>("email", Client::getEmail, IClientRepository::normaliserEmail);
+    Champ<Client, String> NOM = new Champ<>("nom", Client::getNom);
+
+    Optional<Client> findByEmail(String email);
+
+    /**
+     * Clé d'index équivalente à equalsIgnoreCase
+     */
+    static String normaliserEmail(String email) {
+        return email.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+}
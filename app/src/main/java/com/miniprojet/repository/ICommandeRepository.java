@@ -0,0 +1,29 @@
+package com.miniprojet.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.StatutCommande;
+import com.miniprojet.repository.query.Champ;
+
+public interface ICommandeRepository extends IRepository<Commande> {
+
+    // Champs interrogeables (voir IRepository.query)
+    Champ<Commande, Integer> ID = Champ.id();
+    Champ<Commande, Integer> CLIENT = new Champ<>("client", commande -> commande.getClient().getId());
+    Champ<Commande, StatutCommande> STATUT = new Champ<>("statut", Commande::getStatut);
+    Champ<Commande, LocalDateTime> DATE = new Champ<>("date", Commande::getDateCommande);
+    // En centimes (voir Monnaie)
+    Champ<Commande, Long> MONTANT = new Champ<>("montant", Commande::getMontantTotalCentimes);
+
+    List<Commande> findByClientId(int clientId);
+
+    List<Commande> findByStatut(StatutCommande statut);
+
+    /**
+     * Commandes passées dans [debut, fin), par date croissante, via un index
+     * trié: O(log n + k). Une borne null n'est pas bornée.
+     */
+    List<Commande> findByDateRange(LocalDateTime debut, LocalDateTime fin);
+}
@@ -0,0 +1,13 @@
+package com.miniprojet.repository;
+
+import com.miniprojet.model.Produit;
+import com.miniprojet.repository.query.Champ;
+
+public interface IProduitRepository extends IRepository<Produit> {
+
+    // Champs interrogeables (voir IRepository.query)
+    Champ<Produit, Integer> ID = Champ.id();
+    Champ<Produit, String> NOM = new Champ<>("nom", Produit::getName);
+    // En centimes (voir Monnaie)
+    Champ<Produit, Long> PRIX = new Champ<>("prix", Produit::getPrixCentimes);
+}
@@ -0,0 +1,77 @@
+package com.miniprojet.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.miniprojet.repository.query.AccesIndex;
+import com.miniprojet.repository.query.Plan;
+import com.miniprojet.repository.query.Planificateur;
+import com.miniprojet.repository.query.Query;
+
+public interface IRepository<T> {
+
+    /**
+     * Toutes les entités, en lecture seule. Les repositories en mémoire
+     * renvoient un instantané immuable: il n'est jamais modifié par les
+     * écritures suivantes.
+     */
+    List<T> findAll();
+
+    Optional<T> findById(Integer id);
+
+    T save(T entity);
+
+    void update(T entity);
+
+    boolean delete(Integer id);
+
+    /**
+     * Enregistre un lot: un bloc d'ids consécutifs est réservé en une fois
+     */
+    List<T> saveAll(List<T> entities);
+
+    void updateAll(List<T> entities);
+
+    /**
+     * @return le nombre d'entités effectivement supprimées
+     */
+    int deleteAll(Collection<Integer> ids);
+
+    /**
+     * Page ordonnée par id: au plus limite entités dont l'id est > apresId.
+     * Passer l'id de la dernière entité reçue pour obtenir la page suivante
+     * (0 pour la première page).
+     */
+    List<T> findPage(int apresId, int limite);
+
+    /**
+     * Parcours paresseux de toutes les entités par id croissant, sans copie
+     * de la table entière (par pages ou par id selon l'implémentation).
+     * Faiblement cohérent: findAll() pour un instantané.
+     */
+    Stream<T> stream();
+
+    /**
+     * Index secondaires que le planificateur peut utiliser (l'id est
+     * toujours servi par findById / findPage)
+     */
+    default List<AccesIndex<T>> indexRequetables() {
+        return List.of();
+    }
+
+    /**
+     * Exécute une requête par le chemin d'accès le plus sélectif
+     */
+    default List<T> query(Query<T> query) {
+        return new Planificateur<>(this).executer(query);
+    }
+
+    /**
+     * Plan qu'exécuterait query(), sans l'exécuter
+     */
+    default Plan<T> explain(Query<T> query) {
+        return new Planificateur<>(this).planifier(query);
+    }
+}
@@ -0,0 +1,264 @@
+package com.miniprojet.repository.impl;
+
+import com.miniprojet.exception.OptimisticLockException;
+import com.miniprojet.model.IEntity;
+import com.miniprojet.repository.IRepository;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Base des repositories thread-safe
+ * - Stockage ConcurrentHashMap (pas de verrou global)
+ * - Séquence d'identifiants monotone sans verrou (AtomicInteger):
+ * jamais de doublon ni de réutilisation après suppression
+ * - Les index secondaires sont maintenus dans compute(), donc de façon
+ * atomique pour une même entité
+ * - update() est un compare-and-set sur la version: une entité modifiée
+ * depuis sa lecture est refusée (OptimisticLockException), sans verrou
+ * autre que celui de l'entrée
+ * - findAll() renvoie un instantané immuable (copy-on-write par époque):
+ * chaque écriture commencée périme l'instantané publié. Le premier lecteur
+ * suivant copie et trie sans verrou, puis vérifie qu'aucune écriture n'était
+ * en cours ni n'a commencé pendant la copie (compteurs d'écritures
+ * commencées et terminées) avant de la publier par compare-and-set; les
+ * lecteurs suivants la réutilisent sans verrou. Sous un flot continu
+ * d'écritures, le verrou exclusif ne couvre que la copie brute des
+ * références, le tri se fait après.
+ */
+public abstract class AbstractConcurrentRepository<T extends IEntity> implements IRepository<T> {
+
+    protected final ConcurrentHashMap<Integer, T> entites = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    // Copies sans verrou tentées avant de recourir au verrou exclusif
+    private static final int ESSAIS_OPTIMISTES = 3;
+
+    // Écritures: verrou partagé (parallèles entre elles); verrou exclusif
+    // seulement pour la copie brute de secours de findAll()
+    private final ReentrantReadWriteLock publication = new ReentrantReadWriteLock();
+    // Écritures commencées (= époque courante) et terminées
+    private final AtomicLong commencees = new AtomicLong();
+    private final AtomicLong terminees = new AtomicLong();
+    private final AtomicReference<Instantane<T>> instantane = new AtomicReference<>();
+
+    private record Instantane<T>(long epoque, List<T> lignes) {
+    }
+
+    @Override
+    public List<T> findAll() {
+        Instantane<T> publie = instantane.get();
+        if (publie != null && publie.epoque() == commencees.get()) {
+            return publie.lignes();
+        }
+        // Appel depuis une écriture en cours: pas de point de quiescence possible
+        if (publication.getReadHoldCount() > 0) {
+            return trier(entites.values().toArray());
+        }
+
+        for (int essai = 0; essai < ESSAIS_OPTIMISTES; essai++) {
+            long finies = terminees.get();
+            long epoque = commencees.get();
+            if (epoque != finies) {
+                Thread.onSpinWait();
+                continue;
+            }
+            List<T> copie = trier(entites.values().toArray());
+            if (commencees.get() == epoque) {
+                return publier(new Instantane<>(epoque, copie));
+            }
+        }
+
+        long epoque;
+        Object[] references;
+        publication.writeLock().lock();
+        try {
+            epoque = commencees.get();
+            references = entites.values().toArray();
+        } finally {
+            publication.writeLock().unlock();
+        }
+        return publier(new Instantane<>(epoque, trier(references)));
+    }
+
+    /**
+     * Publie l'instantané, sauf si un lecteur en a déjà publié un plus récent
+     */
+    private List<T> publier(Instantane<T> nouveau) {
+        instantane.accumulateAndGet(nouveau, (courant, propose) ->
+                courant == null || courant.epoque() < propose.epoque() ? propose : courant);
+        return nouveau.lignes();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> trier(Object[] references) {
+        Arrays.sort(references, Comparator.comparingInt(entite -> ((IEntity) entite).getId()));
+        return (List<T>) (List<?>) List.of(references);
+    }
+
+    @Override
+    public List<T> findPage(int apresId, int limite) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("La limite doit être positive: " + limite);
+        }
+        return stream(apresId).limit(limite).toList();
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return stream(0);
+    }
+
+    /**
+     * Parcours paresseux par id croissant: les ids sont bornés par la séquence
+     */
+    private Stream<T> stream(int apresId) {
+        int dernierId = sequence.get();
+        return IntStream.rangeClosed(Math.max(apresId, 0) + 1, dernierId)
+                .mapToObj(entites::get)
+                .filter(Objects::nonNull);
+    }
+
+    @Override
+    public Optional<T> findById(Integer id) {
+        return Optional.ofNullable(entites.get(id));
+    }
+
+    @Override
+    public T save(T entite) {
+        int id = sequence.incrementAndGet();
+        entite.setId(id);
+        entite.setVersion(1);
+        ecrire(() -> entites.compute(id, (cle, ancienne) -> {
+            reindexer(id, ancienne, entite);
+            return entite;
+        }));
+        return entite;
+    }
+
+    @Override
+    public void update(T entite) {
+        int id = entite.getId();
+        // Un id fourni de l'extérieur ne doit jamais être redonné par save()
+        sequence.accumulateAndGet(id, Math::max);
+        ecrire(() -> entites.compute(id, (cle, ancienne) -> {
+            int versionLue = entite.getVersion();
+            if (ancienne != null && ancienne.getVersion() != versionLue) {
+                throw new OptimisticLockException(entite.getClass().getSimpleName(), id,
+                        versionLue, ancienne.getVersion());
+            }
+            entite.setVersion(versionLue + 1);
+            try {
+                reindexer(id, ancienne, entite);
+            } catch (RuntimeException e) {
+                entite.setVersion(versionLue);
+                throw e;
+            }
+            return entite;
+        }));
+    }
+
+    /**
+     * Écrit l'entité telle quelle, version comprise, sans contrôle
+     * (relecture d'un journal)
+     */
+    protected void remplacer(T entite) {
+        int id = entite.getId();
+        sequence.accumulateAndGet(id, Math::max);
+        ecrire(() -> entites.compute(id, (cle, ancienne) -> {
+            reindexer(id, ancienne, entite);
+            return entite;
+        }));
+    }
+
+    @Override
+    public boolean delete(Integer id) {
+        boolean[] supprime = new boolean[1];
+        ecrire(() -> entites.computeIfPresent(id, (cle, ancienne) -> {
+            reindexer(id, ancienne, null);
+            supprime[0] = true;
+            return null;
+        }));
+        return supprime[0];
+    }
+
+    @Override
+    public List<T> saveAll(List<T> lot) {
+        // Un seul incrément atomique réserve tout le bloc d'ids; le lot
+        // entier appartient à une même époque (jamais vu à moitié)
+        int premierId = sequence.getAndAdd(lot.size()) + 1;
+        return ecrire(() -> {
+            for (int i = 0; i < lot.size(); i++) {
+                T entite = lot.get(i);
+                int id = premierId + i;
+                entite.setId(id);
+                entite.setVersion(1);
+                entites.compute(id, (cle, ancienne) -> {
+                    reindexer(id, ancienne, entite);
+                    return entite;
+                });
+            }
+            return lot;
+        });
+    }
+
+    @Override
+    public void updateAll(List<T> lot) {
+        ecrire(() -> {
+            for (T entite : lot) {
+                update(entite);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> ids) {
+        return ecrire(() -> {
+            int supprimes = 0;
+            for (Integer id : ids) {
+                if (delete(id)) {
+                    supprimes++;
+                }
+            }
+            return supprimes;
+        });
+    }
+
+    /**
+     * Exécute une écriture: l'époque avance avant (périme l'instantané
+     * publié), le compteur des écritures terminées après
+     */
+    private <R> R ecrire(Supplier<R> ecriture) {
+        publication.readLock().lock();
+        commencees.incrementAndGet();
+        try {
+            return ecriture.get();
+        } finally {
+            terminees.incrementAndGet();
+            publication.readLock().unlock();
+        }
+    }
+
+    /**
+     * Met à jour les index secondaires pour une entité.
+     * Appelé sous le verrou de l'entrée: une exception annule l'écriture.
+     *
+     * @param ancienne valeur précédente (null si insertion)
+     * @param nouvelle nouvelle valeur (null si suppression)
+     */
+    protected void reindexer(int id, T ancienne, T nouvelle) {
+    }
+}
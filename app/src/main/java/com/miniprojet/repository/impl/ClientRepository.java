@@ -0,0 +1,95 @@
+package com.miniprojet.repository.impl;
+
+import com.miniprojet.database.Database;
+import com.miniprojet.database.Table;
+import com.miniprojet.database.TableIndex;
+import com.miniprojet.model.Client;
+import com.miniprojet.repository.IClientRepository;
+import com.miniprojet.repository.query.AccesIndex;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Singleton Pattern - Repository pour les clients
+ * Index secondaire sur l'email (insensible à la casse)
+ */
+public class ClientRepository implements IClientRepository {
+
+    private static final ClientRepository INSTANCE = new ClientRepository();
+
+    private final Table<Client> clients = Database.getInstance().getClients();
+
+    // email normalisé -> client (un second client avec le même email est refusé)
+    private final TableIndex<Client, String> indexEmail = clients.creerIndex("email",
+            client -> EMAIL.lire(client), true);
+
+    public static ClientRepository getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public List<AccesIndex<Client>> indexRequetables() {
+        return clients.accesIndex();
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return clients.instantane();
+    }
+
+    @Override
+    public List<Client> findPage(int apresId, int limite) {
+        return clients.page(apresId, limite);
+    }
+
+    @Override
+    public Stream<Client> stream() {
+        return clients.parcourir();
+    }
+
+    @Override
+    public Optional<Client> findById(Integer id) {
+        return Optional.ofNullable(clients.get(id));
+    }
+
+    @Override
+    public Client save(Client client) {
+        return clients.inserer(client);
+    }
+
+    @Override
+    public void update(Client client) {
+        clients.ecrire(client);
+    }
+
+    @Override
+    public boolean delete(Integer id) {
+        return clients.supprimer(id);
+    }
+
+    @Override
+    public List<Client> saveAll(List<Client> clientsLot) {
+        return clients.insererTout(clientsLot);
+    }
+
+    @Override
+    public void updateAll(List<Client> clientsLot) {
+        clients.ecrireTout(clientsLot);
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> ids) {
+        return clients.supprimerTout(ids);
+    }
+
+    @Override
+    public Optional<Client> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return clients.chercherUnique(indexEmail, IClientRepository.normaliserEmail(email));
+    }
+}
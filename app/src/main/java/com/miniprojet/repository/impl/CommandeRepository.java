@@ -0,0 +1,109 @@
+package com.miniprojet.repository.impl;
+
+import com.miniprojet.database.Database;
+import com.miniprojet.database.Table;
+import com.miniprojet.database.TableIndex;
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.StatutCommande;
+import com.miniprojet.repository.ICommandeRepository;
+import com.miniprojet.repository.query.AccesIndex;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Singleton Pattern - Repository pour les commandes
+ * Index secondaires par client, par statut et par date (trié)
+ */
+public class CommandeRepository implements ICommandeRepository {
+
+    private static final CommandeRepository INSTANCE = new CommandeRepository();
+    private final Table<Commande> commandes = Database.getInstance().getCommandes();
+
+    // id client -> commandes du client
+    private final TableIndex<Commande, Integer> indexClient = commandes.creerIndex("client",
+            commande -> commande.getClient().getId(), false);
+    // statut -> commandes ayant ce statut
+    private final TableIndex<Commande, StatutCommande> indexStatut = commandes.creerIndexEnum("statut",
+            StatutCommande.class, Commande::getStatut);
+    // date -> commandes passées à cette date (clés triées)
+    private final TableIndex<Commande, LocalDateTime> indexDate = commandes.creerIndexTrie("date",
+            Commande::getDateCommande);
+
+    public static CommandeRepository getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public List<AccesIndex<Commande>> indexRequetables() {
+        return commandes.accesIndex();
+    }
+
+    @Override
+    public List<Commande> findAll() {
+        return commandes.instantane();
+    }
+
+    @Override
+    public List<Commande> findPage(int apresId, int limite) {
+        return commandes.page(apresId, limite);
+    }
+
+    @Override
+    public Stream<Commande> stream() {
+        return commandes.parcourir();
+    }
+
+    @Override
+    public Optional<Commande> findById(Integer id) {
+        return Optional.ofNullable(commandes.get(id));
+    }
+
+    @Override
+    public Commande save(Commande commande) {
+        return commandes.inserer(commande);
+    }
+
+    @Override
+    public void update(Commande commande) {
+        commandes.ecrire(commande);
+    }
+
+    @Override
+    public boolean delete(Integer id) {
+        return commandes.supprimer(id);
+    }
+
+    @Override
+    public List<Commande> saveAll(List<Commande> commandesLot) {
+        return commandes.insererTout(commandesLot);
+    }
+
+    @Override
+    public void updateAll(List<Commande> commandesLot) {
+        commandes.ecrireTout(commandesLot);
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> ids) {
+        return commandes.supprimerTout(ids);
+    }
+
+    @Override
+    public List<Commande> findByClientId(int clientId) {
+        return commandes.chercher(indexClient, clientId);
+    }
+
+    @Override
+    public List<Commande> findByStatut(StatutCommande statut) {
+        return commandes.chercher(indexStatut, statut);
+    }
+
+    @Override
+    public List<Commande> findByDateRange(LocalDateTime debut, LocalDateTime fin) {
+        return commandes.chercherIntervalle(indexDate, debut, fin);
+    }
+}
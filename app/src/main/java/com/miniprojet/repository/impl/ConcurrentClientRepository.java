@@ -0,0 +1,70 @@
+package com.miniprojet.repository.impl;
+
+import com.miniprojet.model.Client;
+import com.miniprojet.repository.IClientRepository;
+import com.miniprojet.repository.query.AccesIndex;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Singleton Pattern - Repository thread-safe pour les clients
+ * L'unicité de l'email est garantie atomiquement par l'index (putIfAbsent)
+ */
+public class ConcurrentClientRepository extends AbstractConcurrentRepository<Client>
+        implements IClientRepository {
+
+    private static final ConcurrentClientRepository INSTANCE = new ConcurrentClientRepository();
+
+    // email normalisé -> id du client
+    private final ConcurrentHashMap<String, Integer> indexEmail = new ConcurrentHashMap<>();
+    // id -> email normalisé tel qu'indexé
+    private final ConcurrentHashMap<Integer, String> emailIndexe = new ConcurrentHashMap<>();
+
+    public static ConcurrentClientRepository getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Optional<Client> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        Integer id = indexEmail.get(IClientRepository.normaliserEmail(email));
+        return id == null ? Optional.empty() : findById(id);
+    }
+
+    @Override
+    public List<AccesIndex<Client>> indexRequetables() {
+        return List.of(AccesIndex.<Client, String>parCle(EMAIL.nom(),
+                email -> findByEmail(email).stream().toList(),
+                email -> indexEmail.containsKey(email) ? 1 : 0));
+    }
+
+    @Override
+    protected void reindexer(int id, Client ancienne, Client nouvelle) {
+        String nouvelleCle = nouvelle != null && nouvelle.getEmail() != null
+                ? IClientRepository.normaliserEmail(nouvelle.getEmail())
+                : null;
+        String ancienneCle = emailIndexe.get(id);
+        if (Objects.equals(nouvelleCle, ancienneCle)) {
+            return;
+        }
+
+        if (nouvelleCle != null) {
+            Integer proprietaire = indexEmail.putIfAbsent(nouvelleCle, id);
+            if (proprietaire != null && proprietaire != id) {
+                throw new IllegalStateException("Un client avec cet email existe déjà");
+            }
+            emailIndexe.put(id, nouvelleCle);
+        } else {
+            emailIndexe.remove(id);
+        }
+
+        if (ancienneCle != null) {
+            indexEmail.remove(ancienneCle, id);
+        }
+    }
+}
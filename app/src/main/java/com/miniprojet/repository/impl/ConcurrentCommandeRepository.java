@@ -0,0 +1,150 @@
+package com.miniprojet.repository.impl;
+
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.StatutCommande;
+import com.miniprojet.repository.ICommandeRepository;
+import com.miniprojet.repository.query.AccesIndex;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Singleton Pattern - Repository thread-safe pour les commandes
+ * Index secondaires concurrents par client, par statut et par date
+ * (ConcurrentSkipListMap: requêtes par intervalle sans verrou)
+ */
+public class ConcurrentCommandeRepository extends AbstractConcurrentRepository<Commande>
+        implements ICommandeRepository {
+
+    private static final ConcurrentCommandeRepository INSTANCE = new ConcurrentCommandeRepository();
+
+    // id client -> ids des commandes du client
+    private final ConcurrentHashMap<Integer, Set<Integer>> indexClient = new ConcurrentHashMap<>();
+    // statut -> ids des commandes (EnumMap rempli à la construction, lecture seule ensuite)
+    private final Map<StatutCommande, Set<Integer>> indexStatut = new EnumMap<>(StatutCommande.class);
+    // date -> ids des commandes passées à cette date
+    private final ConcurrentSkipListMap<LocalDateTime, Set<Integer>> indexDate = new ConcurrentSkipListMap<>();
+    // id commande -> clés sous lesquelles la commande est indexée
+    private final ConcurrentHashMap<Integer, ClesIndexees> clesIndexees = new ConcurrentHashMap<>();
+
+    public ConcurrentCommandeRepository() {
+        for (StatutCommande statut : StatutCommande.values()) {
+            indexStatut.put(statut, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    public static ConcurrentCommandeRepository getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public List<Commande> findByClientId(int clientId) {
+        return resoudre(indexClient.getOrDefault(clientId, Set.of()));
+    }
+
+    @Override
+    public List<Commande> findByStatut(StatutCommande statut) {
+        return resoudre(indexStatut.get(statut));
+    }
+
+    @Override
+    public List<Commande> findByDateRange(LocalDateTime debut, LocalDateTime fin) {
+        return intervalle(debut, fin).values().stream()
+                .flatMap(ids -> ids.stream().sorted())
+                .map(entites::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private ConcurrentNavigableMap<LocalDateTime, Set<Integer>> intervalle(LocalDateTime debut, LocalDateTime fin) {
+        if (debut != null && fin != null) {
+            // Intervalle vide si fin <= debut
+            return indexDate.subMap(debut, true, debut.isBefore(fin) ? fin : debut, false);
+        } else if (debut != null) {
+            return indexDate.tailMap(debut, true);
+        } else if (fin != null) {
+            return indexDate.headMap(fin, false);
+        }
+        return indexDate;
+    }
+
+    @Override
+    public List<AccesIndex<Commande>> indexRequetables() {
+        return List.of(
+                AccesIndex.<Commande, Integer>parCle(CLIENT.nom(), this::findByClientId,
+                        clientId -> indexClient.getOrDefault(clientId, Set.of()).size()),
+                AccesIndex.<Commande, StatutCommande>parCle(STATUT.nom(), this::findByStatut,
+                        statut -> indexStatut.get(statut).size()),
+                AccesIndex.<Commande, LocalDateTime>trie(DATE.nom(),
+                        date -> resoudre(indexDate.getOrDefault(date, Set.of())),
+                        date -> indexDate.getOrDefault(date, Set.of()).size(),
+                        this::findByDateRange,
+                        (debut, fin, plafond) -> AccesIndex.sommer(intervalle(debut, fin).values(), Set::size,
+                                plafond)));
+    }
+
+    private List<Commande> resoudre(Set<Integer> ids) {
+        return ids.stream()
+                .sorted()
+                .map(entites::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private record ClesIndexees(int clientId, StatutCommande statut, LocalDateTime date) {
+    }
+
+    @Override
+    protected void reindexer(int id, Commande ancienne, Commande nouvelle) {
+        ClesIndexees nouvellesCles = nouvelle != null
+                ? new ClesIndexees(nouvelle.getClient().getId(), nouvelle.getStatut(), nouvelle.getDateCommande())
+                : null;
+        ClesIndexees anciennesCles = nouvellesCles != null
+                ? clesIndexees.put(id, nouvellesCles)
+                : clesIndexees.remove(id);
+        if (Objects.equals(nouvellesCles, anciennesCles)) {
+            return;
+        }
+
+        if (anciennesCles != null) {
+            indexClient.computeIfPresent(anciennesCles.clientId(), (cle, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+            if (anciennesCles.statut() != null) {
+                indexStatut.get(anciennesCles.statut()).remove(id);
+            }
+            if (anciennesCles.date() != null) {
+                indexDate.computeIfPresent(anciennesCles.date(), (cle, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        if (nouvellesCles != null) {
+            indexClient.compute(nouvellesCles.clientId(), (cle, ids) -> {
+                Set<Integer> resultat = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                resultat.add(id);
+                return resultat;
+            });
+            if (nouvellesCles.statut() != null) {
+                indexStatut.get(nouvellesCles.statut()).add(id);
+            }
+            if (nouvellesCles.date() != null) {
+                indexDate.compute(nouvellesCles.date(), (cle, ids) -> {
+                    Set<Integer> resultat = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                    resultat.add(id);
+                    return resultat;
+                });
+            }
+        }
+    }
+}
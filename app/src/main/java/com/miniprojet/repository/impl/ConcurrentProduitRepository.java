@@ -0,0 +1,18 @@
+package com.miniprojet.repository.impl;
+
+import com.miniprojet.model.Produit;
+import com.miniprojet.repository.IProduitRepository;
+
+/**
+ * Singleton Pattern - Repository thread-safe pour les produits
+ * Sélectionnable dans factory-config.yml à la place de ProduitRepository
+ */
+public class ConcurrentProduitRepository extends AbstractConcurrentRepository<Produit>
+        implements IProduitRepository {
+
+    private static final ConcurrentProduitRepository INSTANCE = new ConcurrentProduitRepository();
+
+    public static ConcurrentProduitRepository getInstance() {
+        return INSTANCE;
+    }
+}
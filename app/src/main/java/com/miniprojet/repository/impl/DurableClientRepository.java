@@ -0,0 +1,75 @@
+package com.miniprojet.repository.impl;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.miniprojet.model.Client;
+import com.miniprojet.repository.wal.ClientCodec;
+import com.miniprojet.repository.wal.DurableSupport;
+import com.miniprojet.repository.wal.WalStore;
+
+/**
+ * Singleton Pattern - Repository durable pour les clients
+ * Journal d'écriture anticipée + snapshots (voir WalStore)
+ * Sélectionnable dans factory-config.yml à la place de ClientRepository
+ */
+public class DurableClientRepository extends ConcurrentClientRepository {
+
+    private static final DurableClientRepository INSTANCE = new DurableClientRepository();
+
+    private final DurableSupport<Client> durabilite = new DurableSupport<>(
+            new WalStore<>("clients", new ClientCodec()));
+
+    private DurableClientRepository() {
+        durabilite.restaurer(this::remplacer, id -> super.delete(id));
+    }
+
+    public static DurableClientRepository getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Client save(Client client) {
+        return durabilite.ecrire(() -> super.save(client), this::copie);
+    }
+
+    @Override
+    public void update(Client client) {
+        durabilite.ecrire(() -> {
+            super.update(client);
+            return null;
+        }, this::copie);
+    }
+
+    @Override
+    public boolean delete(Integer id) {
+        return durabilite.ecrire(() -> super.delete(id), this::copie);
+    }
+
+    @Override
+    public List<Client> saveAll(List<Client> lot) {
+        return durabilite.ecrire(() -> super.saveAll(lot), this::copie);
+    }
+
+    @Override
+    public void updateAll(List<Client> lot) {
+        durabilite.ecrire(() -> {
+            super.updateAll(lot);
+            return null;
+        }, this::copie);
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> ids) {
+        return durabilite.ecrire(() -> super.deleteAll(ids), this::copie);
+    }
+
+    @Override
+    protected void reindexer(int id, Client ancienne, Client nouvelle) {
+        durabilite.journaliser(id, ancienne, nouvelle, super::reindexer);
+    }
+
+    private List<Client> copie() {
+        return entites.values().stream().map(Client::copie).toList();
+    }
+}
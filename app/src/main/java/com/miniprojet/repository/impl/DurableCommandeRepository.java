@@ -0,0 +1,73 @@
+package com.miniprojet.repository.impl;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.miniprojet.model.Commande;
+import com.miniprojet.repository.IProduitRepository;
+import com.miniprojet.repository.wal.CommandeCodec;
+import com.miniprojet.repository.wal.DurableSupport;
+import com.miniprojet.repository.wal.WalStore;
+
+/**
+ * Repository durable pour les commandes
+ * Journal d'écriture anticipée + snapshots (voir WalStore)
+ * Sélectionnable dans factory-config.yml à la place de CommandeRepository;
+ * les produits des lignes sont résolus dans le repository de produits
+ * configuré, injecté par la factory (singleton géré par la factory)
+ */
+public class DurableCommandeRepository extends ConcurrentCommandeRepository {
+
+    private final DurableSupport<Commande> durabilite;
+
+    public DurableCommandeRepository(IProduitRepository produitRepository) {
+        durabilite = new DurableSupport<>(new WalStore<>("commandes", new CommandeCodec(
+                id -> produitRepository.findById(id).orElse(null))));
+        durabilite.restaurer(this::remplacer, id -> super.delete(id));
+    }
+
+    @Override
+    public Commande save(Commande commande) {
+        return durabilite.ecrire(() -> super.save(commande), this::copie);
+    }
+
+    @Override
+    public void update(Commande commande) {
+        durabilite.ecrire(() -> {
+            super.update(commande);
+            return null;
+        }, this::copie);
+    }
+
+    @Override
+    public boolean delete(Integer id) {
+        return durabilite.ecrire(() -> super.delete(id), this::copie);
+    }
+
+    @Override
+    public List<Commande> saveAll(List<Commande> lot) {
+        return durabilite.ecrire(() -> super.saveAll(lot), this::copie);
+    }
+
+    @Override
+    public void updateAll(List<Commande> lot) {
+        durabilite.ecrire(() -> {
+            super.updateAll(lot);
+            return null;
+        }, this::copie);
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> ids) {
+        return durabilite.ecrire(() -> super.deleteAll(ids), this::copie);
+    }
+
+    @Override
+    protected void reindexer(int id, Commande ancienne, Commande nouvelle) {
+        durabilite.journaliser(id, ancienne, nouvelle, super::reindexer);
+    }
+
+    private List<Commande> copie() {
+        return entites.values().stream().map(Commande::copie).toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.miniprojet.repository.impl;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.miniprojet.model.Produit;
+import com.miniprojet.repository.wal.ProduitCodec;
+import com.miniprojet.repository.wal.DurableSupport;
+import com.miniprojet.repository.wal.WalStore;
+
+/**
+ * Singleton Pattern - Repository durable pour les produits
+ * Journal d'écriture anticipée + snapshots (voir WalStore)
+ * Sélectionnable dans factory-config.yml à la place de ProduitRepository
+ */
+public class DurableProduitRepository extends ConcurrentProduitRepository {
+
+    private static final DurableProduitRepository INSTANCE = new DurableProduitRepository();
+
+    private final DurableSupport<Produit> durabilite = new DurableSupport<>(
+            new WalStore<>("produits", new ProduitCodec()));
+
+    private DurableProduitRepository() {
+        durabilite.restaurer(this::remplacer, id -> super.delete(id));
+    }
+
+    public static DurableProduitRepository getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Produit save(Produit produit) {
+        return durabilite.ecrire(() -> super.save(produit), this::copie);
+    }
+
+    @Override
+    public void update(Produit produit) {
+        durabilite.ecrire(() -> {
+            super.update(produit);
+            return null;
+        }, this::copie);
+    }
+
+    @Override
+    public boolean delete(Integer id) {
+        return durabilite.ecrire(() -> super.delete(id), this::copie);
+    }
+
+    @Override
+    public List<Produit> saveAll(List<Produit> lot) {
+        return durabilite.ecrire(() -> super.saveAll(lot), this::copie);
+    }
+
+    @Override
+    public void updateAll(List<Produit> lot) {
+        durabilite.ecrire(() -> {
+            super.updateAll(lot);
+            return null;
+        }, this::copie);
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> ids) {
+        return durabilite.ecrire(() -> super.deleteAll(ids), this::copie);
+    }
+
+    @Override
+    protected void reindexer(int id, Produit ancienne, Produit nouvelle) {
+        durabilite.journaliser(id, ancienne, nouvelle, super::reindexer);
+    }
+
+    private List<Produit> copie() {
+        return entites.values().stream().map(Produit::copie).toList();
+    }
+}
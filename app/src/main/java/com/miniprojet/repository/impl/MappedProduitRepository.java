@@ -0,0 +1,215 @@
+package com.miniprojet.repository.impl;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.miniprojet.exception.OptimisticLockException;
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.Stock;
+import com.miniprojet.repository.IProduitRepository;
+import com.miniprojet.repository.mapped.MappedStock;
+import com.miniprojet.repository.mapped.ProduitRecordStore;
+
+/**
+ * Singleton Pattern - Repository des produits sur fichier projeté en mémoire
+ *
+ * - Les produits ne sont pas conservés sur le tas Java: chaque lecture
+ * construit un Produit transitoire à partir de l'enregistrement
+ * - Le stock du produit lu est un MappedStock, lu dans le fichier à chaque
+ * accès et en lecture seule: les mouvements de stock passent par update()
+ * - update() ne réécrit l'enregistrement que si la version du produit est
+ * la version enregistrée (OptimisticLockException sinon)
+ * - Les données survivent au redémarrage (dossier miniprojet.data.dir,
+ * fichiers produits.dat et produits.str)
+ *
+ * Sélectionnable dans factory-config.yml à la place de ProduitRepository
+ */
+public class MappedProduitRepository implements IProduitRepository {
+
+    private static final System.Logger JOURNAL = System.getLogger(MappedProduitRepository.class.getName());
+    private static final MappedProduitRepository INSTANCE = new MappedProduitRepository();
+
+    private final ProduitRecordStore store;
+
+    private MappedProduitRepository() {
+        this.store = new ProduitRecordStore(
+                Paths.get(System.getProperty("miniprojet.data.dir", "data")), "produits");
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                store.close();
+            } catch (IOException e) {
+                JOURNAL.log(System.Logger.Level.WARNING, "Fermeture du stockage des produits en échec", e);
+            }
+        }, "mapped-produits"));
+    }
+
+    public static MappedProduitRepository getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Vue paresseuse: les ids vivants sont relevés à l'appel, les produits
+     * ne sont construits qu'à l'accès. Pas d'instantané: les enregistrements
+     * étant modifiés sur place, un produit lu reflète son état à l'accès.
+     */
+    @Override
+    public List<Produit> findAll() {
+        int[] ids = IntStream.rangeClosed(1, store.dernierId()).filter(store::existe).toArray();
+        return new VueProduits(ids);
+    }
+
+    @Override
+    public List<Produit> findPage(int apresId, int limite) {
+        List<Produit> page = new ArrayList<>(Math.min(Math.max(limite, 0), 1024));
+        int dernier = store.dernierId();
+        for (int id = Math.max(apresId, 0) + 1; id <= dernier && page.size() < limite; id++) {
+            if (store.existe(id)) {
+                page.add(materialiser(id));
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public Stream<Produit> stream() {
+        return IntStream.rangeClosed(1, store.dernierId())
+                .filter(store::existe)
+                .mapToObj(this::materialiser);
+    }
+
+    @Override
+    public Optional<Produit> findById(Integer id) {
+        if (id == null || !store.existe(id)) {
+            return Optional.empty();
+        }
+        return Optional.of(materialiser(id));
+    }
+
+    @Override
+    public Produit save(Produit produit) {
+        produit.setId(store.reserverIds(1));
+        inserer(produit);
+        return produit;
+    }
+
+    @Override
+    public void update(Produit produit) {
+        ecrire(produit);
+    }
+
+    @Override
+    public boolean delete(Integer id) {
+        return id != null && store.supprimer(id);
+    }
+
+    @Override
+    public List<Produit> saveAll(List<Produit> lot) {
+        if (lot.isEmpty()) {
+            return lot;
+        }
+        // Bloc d'ids réservé en une fois, fichier agrandi une seule fois
+        int id = store.reserverIds(lot.size());
+        for (Produit produit : lot) {
+            produit.setId(id++);
+            inserer(produit);
+        }
+        return lot;
+    }
+
+    @Override
+    public void updateAll(List<Produit> lot) {
+        for (Produit produit : lot) {
+            ecrire(produit);
+        }
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> ids) {
+        int supprimes = 0;
+        for (Integer id : ids) {
+            if (delete(id)) {
+                supprimes++;
+            }
+        }
+        return supprimes;
+    }
+
+    /**
+     * Force l'écriture des pages modifiées sur disque
+     */
+    public void forcer() {
+        store.forcer();
+    }
+
+    private void inserer(Produit produit) {
+        Stock stock = produit.getStock();
+        produit.setVersion(1);
+        store.ecrire(produit.getId(),
+                1,
+                produit.getName(),
+                produit.getDescription(),
+                produit.getPrice(),
+                stock != null,
+                stock != null ? stock.getQuantite() : 0,
+                stock != null ? stock.getSeuilAlerte() : 0,
+                stock != null ? stock.getReserve() : 0);
+    }
+
+    private void ecrire(Produit produit) {
+        Stock stock = produit.getStock();
+        int versionLue = produit.getVersion();
+        int versionEnregistree = store.ecrireSiVersion(produit.getId(),
+                versionLue,
+                produit.getName(),
+                produit.getDescription(),
+                produit.getPrice(),
+                stock != null,
+                stock != null ? stock.getQuantite() : 0,
+                stock != null ? stock.getSeuilAlerte() : 0,
+                stock != null ? stock.getReserve() : 0);
+        if (versionEnregistree >= 0) {
+            throw new OptimisticLockException("Produit", produit.getId(), versionLue, versionEnregistree);
+        }
+        produit.setVersion(versionLue + 1);
+    }
+
+    private Produit materialiser(int id) {
+        Produit produit = new Produit();
+        produit.setId(id);
+        produit.setName(store.nom(id));
+        produit.setDescription(store.description(id));
+        produit.setPrice(store.prix(id));
+        produit.setVersion(store.version(id));
+        if (store.aUnStock(id)) {
+            produit.setStock(new MappedStock(store, id));
+        }
+        return produit;
+    }
+
+    private class VueProduits extends AbstractList<Produit> implements RandomAccess {
+
+        private final int[] ids;
+
+        VueProduits(int[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public Produit get(int index) {
+            return materialiser(ids[index]);
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+    }
+}
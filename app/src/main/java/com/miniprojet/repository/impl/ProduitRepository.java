@@ -0,0 +1,75 @@
+package com.miniprojet.repository.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.miniprojet.database.Database;
+import com.miniprojet.database.Table;
+import com.miniprojet.model.Produit;
+import com.miniprojet.repository.IProduitRepository;
+
+/**
+ * Singleton Pattern - Repository pour les produits
+ * Utilise maintenant la Database singleton
+ */
+public class ProduitRepository implements IProduitRepository {
+
+    private static final ProduitRepository INSTANCE = new ProduitRepository();
+    private final Table<Produit> produits = Database.getInstance().getProduits();
+
+    public static ProduitRepository getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public List<Produit> findAll() {
+        return produits.instantane();
+    }
+
+    @Override
+    public List<Produit> findPage(int apresId, int limite) {
+        return produits.page(apresId, limite);
+    }
+
+    @Override
+    public Stream<Produit> stream() {
+        return produits.parcourir();
+    }
+
+    @Override
+    public Optional<Produit> findById(Integer id) {
+        return Optional.ofNullable(produits.get(id));
+    }
+
+    @Override
+    public Produit save(Produit produit) {
+        return produits.inserer(produit);
+    }
+
+    @Override
+    public void update(Produit produit) {
+        produits.ecrire(produit);
+    }
+
+    @Override
+    public boolean delete(Integer id) {
+        return produits.supprimer(id);
+    }
+
+    @Override
+    public List<Produit> saveAll(List<Produit> produitsLot) {
+        return produits.insererTout(produitsLot);
+    }
+
+    @Override
+    public void updateAll(List<Produit> produitsLot) {
+        produits.ecrireTout(produitsLot);
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> ids) {
+        return produits.supprimerTout(ids);
+    }
+}
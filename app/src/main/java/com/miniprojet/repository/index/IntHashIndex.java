@@ -0,0 +1,399 @@
+package com.miniprojet.repository.index;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Index primaire à clé int (adressage ouvert, sondage linéaire)
+ * - Aucune boîte Integer: les clés restent des int primitifs
+ * - get / put / remove en O(1) amorti
+ * - Conserve l'ordre d'insertion pour values()
+ *
+ * Les entrées sont rangées dans des tableaux denses (ordre d'insertion),
+ * la table de hachage ne contient que la position dense + 1 (0 = libre).
+ * Une suppression laisse un trou dans les tableaux denses, récupéré par
+ * compactage (dans remove() ou put()) lorsque les trous deviennent trop
+ * nombreux. Les lectures, vue des valeurs comprise, ne modifient jamais
+ * l'index: plusieurs lecteurs peuvent le parcourir ensemble.
+ * Les clés supprimées restent en place dans le tableau dense, ce qui
+ * préserve l'ordre croissant utilisé par la pagination.
+ */
+public class IntHashIndex<V> {
+
+    private static final int CAPACITE_INITIALE = 16;
+
+    // Table de hachage: position dense + 1, 0 = case libre
+    private int[] table;
+    private int masque;
+
+    // Stockage dense dans l'ordre d'insertion (valeur null = entrée supprimée)
+    private int[] cles;
+    private Object[] valeurs;
+    private int fin;
+    private int taille;
+    // Vrai tant que les clés ont été insérées dans l'ordre croissant
+    private boolean clesCroissantes = true;
+
+    private final List<V> vue = new VueValeurs();
+
+    public IntHashIndex() {
+        this(CAPACITE_INITIALE);
+    }
+
+    public IntHashIndex(int capaciteAttendue) {
+        int capacite = Math.max(CAPACITE_INITIALE, capaciteAttendue);
+        this.cles = new int[capacite];
+        this.valeurs = new Object[capacite];
+        initialiserTable(capacite);
+    }
+
+    public int size() {
+        return taille;
+    }
+
+    public boolean isEmpty() {
+        return taille == 0;
+    }
+
+    public boolean containsKey(int cle) {
+        return chercher(cle) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(int cle) {
+        int pos = chercher(cle);
+        return pos >= 0 ? (V) valeurs[pos] : null;
+    }
+
+    /**
+     * Associe la valeur à la clé. Une clé existante garde sa position
+     * dans l'ordre d'insertion.
+     *
+     * @return l'ancienne valeur, ou null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int cle, V valeur) {
+        if (valeur == null) {
+            throw new IllegalArgumentException("Valeur null interdite dans l'index");
+        }
+        int pos = chercher(cle);
+        if (pos >= 0) {
+            V ancienne = (V) valeurs[pos];
+            valeurs[pos] = valeur;
+            return ancienne;
+        }
+
+        if (fin == cles.length) {
+            if (fin - taille > fin / 2) {
+                compacter();
+            } else {
+                agrandir(cles.length * 2);
+            }
+        }
+        if (fin > 0 && cle <= cles[fin - 1]) {
+            clesCroissantes = false;
+        }
+        cles[fin] = cle;
+        valeurs[fin] = valeur;
+        insererDansTable(cle, fin);
+        fin++;
+        taille++;
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(int cle) {
+        int slot = slotDe(cle);
+        if (slot < 0) {
+            return null;
+        }
+        int pos = table[slot] - 1;
+        V ancienne = (V) valeurs[pos];
+        valeurs[pos] = null;
+        taille--;
+        supprimerSlot(slot);
+
+        if (pos == fin - 1) {
+            fin--;
+        }
+        if (taille == 0) {
+            fin = 0;
+            clesCroissantes = true;
+        } else if (fin > CAPACITE_INITIALE && fin - taille > fin / 2) {
+            compacter();
+        }
+        return ancienne;
+    }
+
+    /**
+     * Dernière clé vivante dans l'ordre d'insertion
+     *
+     * @return la clé, ou defaut si l'index est vide
+     */
+    public int lastKey(int defaut) {
+        for (int i = fin - 1; i >= 0; i--) {
+            if (valeurs[i] != null) {
+                return cles[i];
+            }
+        }
+        return defaut;
+    }
+
+    /**
+     * Réserve la place pour capacite entrées (insertion en lot sans
+     * agrandissements successifs)
+     */
+    public void ensureCapacity(int capacite) {
+        if (capacite > cles.length && fin != taille) {
+            compacter();
+        }
+        if (capacite > cles.length) {
+            agrandir(Math.max(capacite, cles.length * 2));
+        }
+    }
+
+    /**
+     * Nombre d'entrées que les tableaux denses peuvent contenir sans agrandissement
+     */
+    public int capacity() {
+        return cles.length;
+    }
+
+    /**
+     * Estimation de la mémoire occupée par les tableaux de l'index,
+     * hors valeurs référencées (références compressées de 4 octets)
+     */
+    public long footprintBytes() {
+        return 3L * 16 + 4L * table.length + 4L * cles.length + 4L * valeurs.length;
+    }
+
+    public void clear() {
+        Arrays.fill(valeurs, 0, fin, null);
+        Arrays.fill(table, 0);
+        fin = 0;
+        taille = 0;
+        clesCroissantes = true;
+    }
+
+    /**
+     * Au plus limite valeurs dont la clé est > apresCle, par clé croissante.
+     * O(log n + limite) quand les clés ont été insérées dans l'ordre croissant
+     * (cas des identifiants générés), parcours complet sinon.
+     */
+    @SuppressWarnings("unchecked")
+    public List<V> page(int apresCle, int limite) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("La limite doit être positive: " + limite);
+        }
+        List<V> page = new ArrayList<>(Math.min(limite, taille));
+
+        if (clesCroissantes) {
+            for (int pos = premierePositionApres(apresCle); pos < fin && page.size() < limite; pos++) {
+                if (valeurs[pos] != null) {
+                    page.add((V) valeurs[pos]);
+                }
+            }
+            return page;
+        }
+
+        int[] positions = new int[taille];
+        int n = 0;
+        for (int pos = 0; pos < fin; pos++) {
+            if (valeurs[pos] != null && cles[pos] > apresCle) {
+                positions[n++] = pos;
+            }
+        }
+        Integer[] tri = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            tri[i] = positions[i];
+        }
+        Arrays.sort(tri, (a, b) -> Integer.compare(cles[a], cles[b]));
+        for (int i = 0; i < n && page.size() < limite; i++) {
+            page.add((V) valeurs[tri[i]]);
+        }
+        return page;
+    }
+
+    /**
+     * Recherche dichotomique de la première position dense de clé > apresCle
+     */
+    private int premierePositionApres(int apresCle) {
+        int bas = 0;
+        int haut = fin;
+        while (bas < haut) {
+            int milieu = (bas + haut) >>> 1;
+            if (cles[milieu] <= apresCle) {
+                bas = milieu + 1;
+            } else {
+                haut = milieu;
+            }
+        }
+        return bas;
+    }
+
+    /**
+     * Vue non modifiable des valeurs dans l'ordre d'insertion.
+     * La vue suit les modifications de l'index. Parcours en O(n); get(i)
+     * en O(1) sans trou, en O(n) s'il reste des suppressions non compactées.
+     */
+    public List<V> values() {
+        return vue;
+    }
+
+    // ========== Table de hachage ==========
+
+    private static int hacher(int cle) {
+        int h = cle * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private int chercher(int cle) {
+        int slot = slotDe(cle);
+        return slot >= 0 ? table[slot] - 1 : -1;
+    }
+
+    private int slotDe(int cle) {
+        int i = hacher(cle) & masque;
+        while (true) {
+            int entree = table[i];
+            if (entree == 0) {
+                return -1;
+            }
+            if (cles[entree - 1] == cle) {
+                return i;
+            }
+            i = (i + 1) & masque;
+        }
+    }
+
+    private void insererDansTable(int cle, int pos) {
+        int i = hacher(cle) & masque;
+        while (table[i] != 0) {
+            i = (i + 1) & masque;
+        }
+        table[i] = pos + 1;
+    }
+
+    /**
+     * Suppression par décalage arrière: évite les pierres tombales
+     * dans la table de hachage
+     */
+    private void supprimerSlot(int slot) {
+        int trou = slot;
+        int i = slot;
+        while (true) {
+            i = (i + 1) & masque;
+            int entree = table[i];
+            if (entree == 0) {
+                break;
+            }
+            int ideal = hacher(cles[entree - 1]) & masque;
+            // Déplacer l'entrée si son slot idéal n'est pas entre le trou et i
+            if (((i - ideal) & masque) >= ((i - trou) & masque)) {
+                table[trou] = entree;
+                trou = i;
+            }
+        }
+        table[trou] = 0;
+    }
+
+    private void initialiserTable(int capaciteDense) {
+        int capacite = Integer.highestOneBit(Math.max(2, capaciteDense) * 2 - 1) * 2;
+        this.table = new int[capacite];
+        this.masque = capacite - 1;
+    }
+
+    private void agrandir(int nouvelleCapacite) {
+        cles = Arrays.copyOf(cles, nouvelleCapacite);
+        valeurs = Arrays.copyOf(valeurs, nouvelleCapacite);
+        reconstruireTable();
+    }
+
+    /**
+     * Retire les trous laissés par les suppressions en conservant l'ordre
+     */
+    private void compacter() {
+        int ecriture = 0;
+        for (int lecture = 0; lecture < fin; lecture++) {
+            if (valeurs[lecture] != null) {
+                cles[ecriture] = cles[lecture];
+                valeurs[ecriture] = valeurs[lecture];
+                ecriture++;
+            }
+        }
+        Arrays.fill(valeurs, ecriture, fin, null);
+        fin = ecriture;
+        reconstruireTable();
+    }
+
+    private void reconstruireTable() {
+        initialiserTable(cles.length);
+        for (int pos = 0; pos < fin; pos++) {
+            if (valeurs[pos] != null) {
+                insererDansTable(cles[pos], pos);
+            }
+        }
+    }
+
+    private class VueValeurs extends AbstractList<V> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V get(int index) {
+            if (index < 0 || index >= taille) {
+                throw new IndexOutOfBoundsException("Index " + index + " hors limites (taille " + taille + ")");
+            }
+            if (fin == taille) {
+                return (V) valeurs[index];
+            }
+            int vivantes = -1;
+            for (int pos = 0;; pos++) {
+                if (valeurs[pos] != null && ++vivantes == index) {
+                    return (V) valeurs[pos];
+                }
+            }
+        }
+
+        @Override
+        public int size() {
+            return taille;
+        }
+
+        /**
+         * Parcours des tableaux denses en sautant les trous
+         */
+        @Override
+        public Iterator<V> iterator() {
+            return new Iterator<>() {
+                private int pos = suivante(0);
+
+                @Override
+                public boolean hasNext() {
+                    return pos < fin;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public V next() {
+                    if (pos >= fin) {
+                        throw new NoSuchElementException();
+                    }
+                    V valeur = (V) valeurs[pos];
+                    pos = suivante(pos + 1);
+                    return valeur;
+                }
+
+                private int suivante(int depuis) {
+                    while (depuis < fin && valeurs[depuis] == null) {
+                        depuis++;
+                    }
+                    return depuis;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.miniprojet.repository.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Index inversé plein texte (terme -> documents), documents identifiés par un int
+ *
+ * - Normalisation: décomposition NFD, suppression des accents, minuscules,
+ * ligatures œ/æ dépliées ("Crème brûlée" -> creme, brulee)
+ * - Dictionnaire trié (TreeMap): une requête "pre*" parcourt uniquement
+ * les termes commençant par "pre"
+ * - Listes de documents triées par id (tableaux int, sans boîtes): l'ajout
+ * d'un id croissant se fait en fin de tableau
+ * - Classement BM25, le titre pesant plus que la description
+ * - Mise à jour incrémentale: indexer() remplace les termes d'un document,
+ * retirer() les supprime (index direct document -> termes)
+ *
+ * Recherches en parallèle (verrou partagé), mises à jour exclusives.
+ */
+public class InvertedIndex {
+
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATEURS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> MOTS_VIDES = Set.of(
+            "a", "au", "aux", "d", "de", "des", "du", "en", "et", "l", "la", "le", "les",
+            "ou", "par", "pour", "sur", "un", "une", "avec");
+
+    private static final int POIDS_TITRE = 3;
+    private static final int POIDS_DESCRIPTION = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final NavigableMap<String, Postings> dictionnaire = new TreeMap<>();
+    // id -> termes indexés pour ce document (pour retirer / réindexer)
+    private final IntHashIndex<String[]> termesParDocument = new IntHashIndex<>();
+    // id -> longueur pondérée du document
+    private final IntHashIndex<int[]> longueurs = new IntHashIndex<>();
+    private long longueurTotale;
+
+    private final ReentrantReadWriteLock verrou = new ReentrantReadWriteLock();
+
+    /**
+     * Résultat classé
+     */
+    public record Resultat(int id, double score) {
+    }
+
+    /**
+     * Découpe un texte en termes normalisés (mots vides exclus)
+     */
+    public static List<String> termes(String texte) {
+        List<String> termes = new ArrayList<>();
+        for (String mot : mots(texte)) {
+            if (!MOTS_VIDES.contains(mot)) {
+                termes.add(mot);
+            }
+        }
+        return termes;
+    }
+
+    /**
+     * Indexe (ou réindexe) un document
+     */
+    public void indexer(int id, String titre, String description) {
+        TreeMap<String, Integer> frequences = new TreeMap<>();
+        for (String terme : termes(titre)) {
+            frequences.merge(terme, POIDS_TITRE, Integer::sum);
+        }
+        for (String terme : termes(description)) {
+            frequences.merge(terme, POIDS_DESCRIPTION, Integer::sum);
+        }
+        int longueur = frequences.values().stream().mapToInt(Integer::intValue).sum();
+
+        verrou.writeLock().lock();
+        try {
+            retirerVerrouille(id);
+            frequences.forEach((terme, frequence) -> dictionnaire
+                    .computeIfAbsent(terme, t -> new Postings())
+                    .ajouter(id, frequence));
+            termesParDocument.put(id, frequences.keySet().toArray(new String[0]));
+            longueurs.put(id, new int[] { longueur });
+            longueurTotale += longueur;
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    public void retirer(int id) {
+        verrou.writeLock().lock();
+        try {
+            retirerVerrouille(id);
+        } finally {
+            verrou.writeLock().unlock();
+        }
+    }
+
+    public int nombreDeDocuments() {
+        verrou.readLock().lock();
+        try {
+            return termesParDocument.size();
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documents contenant tous les termes de la requête, du plus pertinent
+     * au moins pertinent. Un terme terminé par '*' est un préfixe.
+     */
+    public List<Resultat> rechercher(String requete, int limite) {
+        List<String> criteres = criteres(requete);
+        if (criteres.isEmpty() || limite <= 0) {
+            return List.of();
+        }
+
+        verrou.readLock().lock();
+        try {
+            int nombreDocuments = termesParDocument.size();
+            if (nombreDocuments == 0) {
+                return List.of();
+            }
+            double longueurMoyenne = (double) longueurTotale / nombreDocuments;
+
+            // Critère le plus sélectif d'abord: les suivants ne font que
+            // filtrer les candidats déjà trouvés
+            List<List<Postings>> listes = new ArrayList<>();
+            for (String critere : criteres) {
+                List<Postings> correspondances = correspondances(critere);
+                if (correspondances.isEmpty()) {
+                    return List.of();
+                }
+                listes.add(correspondances);
+            }
+            listes.sort(Comparator.comparingLong(InvertedIndex::taille));
+
+            IntHashIndex<double[]> candidats = null;
+            for (List<Postings> correspondances : listes) {
+                IntHashIndex<double[]> scores = new IntHashIndex<>();
+                for (Postings postings : correspondances) {
+                    double idf = Math.log(1 + (nombreDocuments - postings.taille + 0.5) / (postings.taille + 0.5));
+                    for (int i = 0; i < postings.taille; i++) {
+                        int id = postings.ids[i];
+                        double[] precedent = null;
+                        if (candidats != null && (precedent = candidats.get(id)) == null) {
+                            continue;
+                        }
+                        double tf = postings.frequences[i];
+                        double normalisation = K1 * (1 - B + B * longueurs.get(id)[0] / longueurMoyenne);
+                        double score = idf * tf * (K1 + 1) / (tf + normalisation);
+
+                        double[] cumul = scores.get(id);
+                        if (cumul == null) {
+                            scores.put(id, new double[] { id, score + (precedent != null ? precedent[1] : 0) });
+                        } else {
+                            cumul[1] += score;
+                        }
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+                candidats = scores;
+            }
+
+            return meilleurs(candidats, limite);
+        } finally {
+            verrou.readLock().unlock();
+        }
+    }
+
+    // ========== Interne ==========
+
+    /**
+     * Mots normalisés d'un texte, mots vides compris
+     */
+    private static List<String> mots(String texte) {
+        if (texte == null || texte.isBlank()) {
+            return List.of();
+        }
+        String plie = ACCENTS.matcher(Normalizer.normalize(texte, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT)
+                .replace("œ", "oe")
+                .replace("æ", "ae");
+        List<String> mots = new ArrayList<>();
+        for (String mot : SEPARATEURS.split(plie)) {
+            if (!mot.isEmpty()) {
+                mots.add(mot);
+            }
+        }
+        return mots;
+    }
+
+    /**
+     * Termes exacts sans mots vides; le radical d'un préfixe ("la*", "de*")
+     * est gardé tel quel, il désigne des termes plus longs ("lampe", "design")
+     */
+    private static List<String> criteres(String requete) {
+        if (requete == null) {
+            return List.of();
+        }
+        List<String> criteres = new ArrayList<>();
+        for (String mot : requete.trim().split("\\s+")) {
+            boolean prefixe = mot.endsWith("*");
+            List<String> mots = mots(prefixe ? mot.substring(0, mot.length() - 1) : mot);
+            for (int i = 0; i < mots.size(); i++) {
+                if (prefixe && i == mots.size() - 1) {
+                    criteres.add(mots.get(i) + "*");
+                } else if (!MOTS_VIDES.contains(mots.get(i))) {
+                    criteres.add(mots.get(i));
+                }
+            }
+        }
+        return criteres;
+    }
+
+    private List<Postings> correspondances(String critere) {
+        if (!critere.endsWith("*")) {
+            Postings postings = dictionnaire.get(critere);
+            return postings == null ? List.of() : List.of(postings);
+        }
+        String prefixe = critere.substring(0, critere.length() - 1);
+        return new ArrayList<>(dictionnaire.subMap(prefixe, true, prefixe + Character.MAX_VALUE, false).values());
+    }
+
+    private static long taille(List<Postings> correspondances) {
+        long taille = 0;
+        for (Postings postings : correspondances) {
+            taille += postings.taille;
+        }
+        return taille;
+    }
+
+    private static List<Resultat> meilleurs(IntHashIndex<double[]> candidats, int limite) {
+        // Tas min de taille limite: O(k log limite)
+        PriorityQueue<double[]> tas = new PriorityQueue<>(Comparator
+                .<double[]>comparingDouble(s -> s[1])
+                .thenComparing(s -> -s[0]));
+        for (double[] score : candidats.values()) {
+            tas.offer(score);
+            if (tas.size() > limite) {
+                tas.poll();
+            }
+        }
+        List<Resultat> resultats = new ArrayList<>(tas.size());
+        while (!tas.isEmpty()) {
+            double[] score = tas.poll();
+            resultats.add(new Resultat((int) score[0], score[1]));
+        }
+        Collections.reverse(resultats);
+        return resultats;
+    }
+
+    private void retirerVerrouille(int id) {
+        String[] termes = termesParDocument.remove(id);
+        if (termes == null) {
+            return;
+        }
+        for (String terme : termes) {
+            Postings postings = dictionnaire.get(terme);
+            if (postings != null && postings.retirer(id) && postings.taille == 0) {
+                dictionnaire.remove(terme);
+            }
+        }
+        int[] longueur = longueurs.remove(id);
+        if (longueur != null) {
+            longueurTotale -= longueur[0];
+        }
+    }
+
+    /**
+     * Documents d'un terme, triés par id, avec la fréquence pondérée
+     */
+    private static final class Postings {
+        private int[] ids = new int[2];
+        private int[] frequences = new int[2];
+        private int taille;
+
+        void ajouter(int id, int frequence) {
+            int position = taille == 0 || ids[taille - 1] < id
+                    ? taille
+                    : Arrays.binarySearch(ids, 0, taille, id);
+            if (position >= 0 && position < taille) {
+                frequences[position] = frequence;
+                return;
+            }
+            int insertion = position < 0 ? -position - 1 : position;
+            if (taille == ids.length) {
+                ids = Arrays.copyOf(ids, taille * 2);
+                frequences = Arrays.copyOf(frequences, taille * 2);
+            }
+            System.arraycopy(ids, insertion, ids, insertion + 1, taille - insertion);
+            System.arraycopy(frequences, insertion, frequences, insertion + 1, taille - insertion);
+            ids[insertion] = id;
+            frequences[insertion] = frequence;
+            taille++;
+        }
+
+        boolean retirer(int id) {
+            int position = Arrays.binarySearch(ids, 0, taille, id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, taille - position - 1);
+            System.arraycopy(frequences, position + 1, frequences, position, taille - position - 1);
+            taille--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.miniprojet.repository.mapped;
+
+import com.miniprojet.model.Stock;
+
+/**
+ * Stock d'un produit lu directement dans l'enregistrement projeté, en
+ * lecture seule: un mouvement de stock modifie une copie du produit
+ * (Produit.copie), écrite par update() avec contrôle de version
+ */
+public class MappedStock extends Stock {
+
+    private final ProduitRecordStore store;
+    private final int produitId;
+
+    public MappedStock(ProduitRecordStore store, int produitId) {
+        super(0, 0);
+        this.store = store;
+        this.produitId = produitId;
+    }
+
+    @Override
+    public int getQuantite() {
+        return store.quantite(produitId);
+    }
+
+    @Override
+    public void setQuantite(int quantite) {
+        throw lectureSeule();
+    }
+
+    @Override
+    public int getSeuilAlerte() {
+        return store.seuilAlerte(produitId);
+    }
+
+    @Override
+    public int getReserve() {
+        return store.reserve(produitId);
+    }
+
+    @Override
+    public void setReserve(int reserve) {
+        throw lectureSeule();
+    }
+
+    private UnsupportedOperationException lectureSeule() {
+        return new UnsupportedOperationException("Stock du produit " + produitId
+                + " en lecture seule: modifier une copie (Produit.copie) puis update()");
+    }
+}
@@ -0,0 +1,372 @@
+package com.miniprojet.repository.mapped;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fichier de produits à enregistrements de taille fixe, projeté en mémoire
+ *
+ * Enregistrement n (id = n + 1) à l'offset ENTETE + n * TAILLE_ENREGISTREMENT:
+ * 0 flags | 4 id | 8 prix (double) | 16 quantité | 20 seuil d'alerte
+ * 24 offset nom | 32 longueur nom | 36 offset description | 44 longueur description
+ * 48 version | 52 quantité réservée (commandes en attente)
+ * 56 séquence de modification | 60..63 libre
+ *
+ * Les chaînes sont stockées dans un fichier tas séparé, en ajout seul
+ * (offset -1 = null), projeté en mémoire lui aussi; la fin des données du
+ * tas est notée dans l'entête (format 2, un fichier au format 1 est mis à
+ * niveau à l'ouverture). Les champs numériques sont lus et écrits
+ * directement dans la projection, sans copie ni objet intermédiaire.
+ * La quantité réservée est conservée: CommandeService la réattribue aux
+ * commandes en attente au démarrage.
+ *
+ * Toute modification d'un enregistrement passe par le verrou des écritures
+ * et incrémente sa version (sauf ecrire(), qui la fixe). Les lectures sont
+ * sans verrou; celles des chaînes (offset + longueur) sont validées par la
+ * séquence de modification de l'enregistrement, impaire pendant une
+ * écriture (seqlock): une lecture qui chevauche une écriture recommence.
+ */
+public class ProduitRecordStore implements Closeable {
+
+    public static final int TAILLE_ENREGISTREMENT = 64;
+
+    private static final int ENTETE = 64;
+    private static final int MAGIC = 0x4D505052; // "MPPR"
+    private static final int FORMAT = 2;
+    private static final int OFFSET_DERNIER_ID = 8;
+    private static final int OFFSET_FIN_DU_TAS = 16;
+    private static final int TAS_INITIAL = 64 * 1024;
+
+    private static final int FLAGS = 0;
+    private static final int ID = 4;
+    private static final int PRIX = 8;
+    private static final int QUANTITE = 16;
+    private static final int SEUIL = 20;
+    private static final int NOM_OFFSET = 24;
+    private static final int NOM_LONGUEUR = 32;
+    private static final int DESCRIPTION_OFFSET = 36;
+    private static final int DESCRIPTION_LONGUEUR = 44;
+    private static final int VERSION = 48;
+    private static final int RESERVE = 52;
+    private static final int SEQUENCE = 56;
+
+    // Accès ordonnés à la séquence de modification (projection en big-endian)
+    private static final VarHandle ENTIER = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private static final byte VIVANT = 1;
+    private static final byte AVEC_STOCK = 2;
+
+    // Écritures sérialisées; ReentrantLock pour ne pas bloquer le porteur
+    // d'un thread virtuel pendant un agrandissement de la projection
+    private final ReentrantLock ecritures = new ReentrantLock();
+    private final FileChannel enregistrements;
+    private final FileChannel tas;
+    private volatile MappedByteBuffer projection;
+    private volatile MappedByteBuffer projectionTas;
+    private long finDuTas;
+
+    public ProduitRecordStore(Path dossier, String nom) {
+        try {
+            Files.createDirectories(dossier);
+            this.enregistrements = FileChannel.open(dossier.resolve(nom + ".dat"),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.tas = FileChannel.open(dossier.resolve(nom + ".str"),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            boolean nouveau = enregistrements.size() == 0;
+            projeter(Math.max(enregistrements.size(), ENTETE + 1024L * TAILLE_ENREGISTREMENT));
+            if (nouveau) {
+                projection.putInt(0, MAGIC);
+                projection.putInt(4, FORMAT);
+                projection.putInt(OFFSET_DERNIER_ID, 0);
+                projection.putLong(OFFSET_FIN_DU_TAS, 0);
+            } else if (projection.getInt(0) != MAGIC || projection.getInt(4) < 1 || projection.getInt(4) > FORMAT) {
+                throw new IllegalStateException("Fichier de produits " + nom + ".dat illisible");
+            } else if (projection.getInt(4) == 1) {
+                // Format 1: tas écrit par FileChannel, sa taille est la fin des données
+                projection.putLong(OFFSET_FIN_DU_TAS, tas.size());
+                projection.putInt(4, FORMAT);
+            }
+            this.finDuTas = projection.getLong(OFFSET_FIN_DU_TAS);
+            projeterTas(Math.max(Math.max(tas.size(), finDuTas), TAS_INITIAL));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Ouverture du stockage " + nom + " impossible", e);
+        }
+    }
+
+    /**
+     * Plus grand id jamais attribué (les ids ne sont pas réutilisés)
+     */
+    public int dernierId() {
+        return projection.getInt(OFFSET_DERNIER_ID);
+    }
+
+    public boolean existe(int id) {
+        return id >= 1 && id <= dernierId() && (projection.get(offset(id) + FLAGS) & VIVANT) != 0;
+    }
+
+    public boolean aUnStock(int id) {
+        return (projection.get(offset(id) + FLAGS) & AVEC_STOCK) != 0;
+    }
+
+    public int version(int id) {
+        return projection.getInt(offset(id) + VERSION);
+    }
+
+    public double prix(int id) {
+        return projection.getDouble(offset(id) + PRIX);
+    }
+
+    public int quantite(int id) {
+        return projection.getInt(offset(id) + QUANTITE);
+    }
+
+    public int reserve(int id) {
+        return projection.getInt(offset(id) + RESERVE);
+    }
+
+    public int seuilAlerte(int id) {
+        return projection.getInt(offset(id) + SEUIL);
+    }
+
+    public String nom(int id) {
+        return lireTexteStable(id, NOM_OFFSET, NOM_LONGUEUR);
+    }
+
+    public String description(int id) {
+        return lireTexteStable(id, DESCRIPTION_OFFSET, DESCRIPTION_LONGUEUR);
+    }
+
+    /**
+     * Lit une chaîne de l'enregistrement sous la séquence de modification:
+     * offset et longueur viennent de la même écriture
+     */
+    private String lireTexteStable(int id, int champOffset, int champLongueur) {
+        int base = offset(id);
+        while (true) {
+            MappedByteBuffer lue = projection;
+            int avant = (int) ENTIER.getAcquire(lue, base + SEQUENCE);
+            if ((avant & 1) == 0) {
+                String texte = null;
+                boolean illisible = false;
+                try {
+                    texte = lireTexte(lue.getLong(base + champOffset), lue.getInt(base + champLongueur));
+                } catch (RuntimeException e) {
+                    // offset et longueur dépareillés: la séquence a changé
+                    illisible = true;
+                }
+                VarHandle.loadLoadFence();
+                if ((int) ENTIER.getOpaque(lue, base + SEQUENCE) == avant && lue == projection) {
+                    if (illisible) {
+                        throw new IllegalStateException("Enregistrement de produit " + id + " illisible");
+                    }
+                    return texte;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Réécrit l'enregistrement seulement si sa version est versionAttendue
+     * (ou s'il n'existe pas), avec la version versionAttendue + 1
+     *
+     * @return la version enregistrée si elle diffère de versionAttendue,
+     *         -1 si l'écriture a eu lieu
+     */
+    public int ecrireSiVersion(int id, int versionAttendue, String nom, String description,
+            double prix, boolean avecStock, int quantite, int seuilAlerte, int reserve) {
+        ecritures.lock();
+        try {
+            if (existe(id) && version(id) != versionAttendue) {
+                return version(id);
+            }
+            ecrireVerrouille(id, versionAttendue + 1, nom, description, prix, avecStock, quantite, seuilAlerte,
+                    reserve);
+            return -1;
+        } finally {
+            ecritures.unlock();
+        }
+    }
+
+    /**
+     * Écrit (ou réécrit) l'enregistrement d'un produit.
+     * Une chaîne inchangée n'est pas recopiée dans le tas.
+     */
+    public void ecrire(int id, int version, String nom, String description, double prix,
+            boolean avecStock, int quantite, int seuilAlerte, int reserve) {
+        ecritures.lock();
+        try {
+            ecrireVerrouille(id, version, nom, description, prix, avecStock, quantite, seuilAlerte, reserve);
+        } finally {
+            ecritures.unlock();
+        }
+    }
+
+    private void ecrireVerrouille(int id, int version, String nom, String description, double prix,
+            boolean avecStock, int quantite, int seuilAlerte, int reserve) {
+        if (id < 1) {
+            throw new IllegalArgumentException("Id de produit invalide: " + id);
+        }
+        boolean existant = id <= dernierId() && (projection.get(offset(id) + FLAGS) & VIVANT) != 0;
+        garantirCapacite(id);
+        int base = offset(id);
+        int sequence = (int) ENTIER.get(projection, base + SEQUENCE);
+        ENTIER.setOpaque(projection, base + SEQUENCE, sequence + 1);
+        VarHandle.storeStoreFence();
+
+        if (!existant || !texteEgal(projection.getLong(base + NOM_OFFSET), projection.getInt(base + NOM_LONGUEUR), nom)) {
+            long[] emplacement = ajouterTexte(nom);
+            projection.putLong(base + NOM_OFFSET, emplacement[0]);
+            projection.putInt(base + NOM_LONGUEUR, (int) emplacement[1]);
+        }
+        if (!existant || !texteEgal(projection.getLong(base + DESCRIPTION_OFFSET),
+                projection.getInt(base + DESCRIPTION_LONGUEUR), description)) {
+            long[] emplacement = ajouterTexte(description);
+            projection.putLong(base + DESCRIPTION_OFFSET, emplacement[0]);
+            projection.putInt(base + DESCRIPTION_LONGUEUR, (int) emplacement[1]);
+        }
+
+        projection.putInt(base + ID, id);
+        projection.putDouble(base + PRIX, prix);
+        projection.putInt(base + QUANTITE, quantite);
+        projection.putInt(base + SEUIL, seuilAlerte);
+        projection.putInt(base + RESERVE, reserve);
+        projection.putInt(base + VERSION, version);
+        projection.put(base + FLAGS, (byte) (VIVANT | (avecStock ? AVEC_STOCK : 0)));
+        ENTIER.setRelease(projection, base + SEQUENCE, sequence + 2);
+
+        if (id > dernierId()) {
+            projection.putInt(OFFSET_DERNIER_ID, id);
+        }
+    }
+
+    /**
+     * Réserve un bloc d'ids consécutifs
+     *
+     * @return le premier id du bloc
+     */
+    public int reserverIds(int nombre) {
+        ecritures.lock();
+        try {
+            int premier = dernierId() + 1;
+            garantirCapacite(premier + nombre - 1);
+            projection.putInt(OFFSET_DERNIER_ID, premier + nombre - 1);
+            return premier;
+        } finally {
+            ecritures.unlock();
+        }
+    }
+
+    public boolean supprimer(int id) {
+        ecritures.lock();
+        try {
+            if (!existe(id)) {
+                return false;
+            }
+            projection.put(offset(id) + FLAGS, (byte) 0);
+            return true;
+        } finally {
+            ecritures.unlock();
+        }
+    }
+
+    /**
+     * Force l'écriture des pages modifiées sur disque (le tas d'abord: les
+     * enregistrements pointent dans le tas)
+     */
+    public void forcer() {
+        projectionTas.force();
+        projection.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        forcer();
+        enregistrements.close();
+        tas.close();
+    }
+
+    // ========== Projection ==========
+
+    private static int offset(int id) {
+        return ENTETE + (id - 1) * TAILLE_ENREGISTREMENT;
+    }
+
+    private void garantirCapacite(int id) {
+        long requis = (long) ENTETE + (long) id * TAILLE_ENREGISTREMENT;
+        if (requis > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Capacité du fichier de produits dépassée");
+        }
+        if (requis > projection.capacity()) {
+            try {
+                projeter(Math.min(Integer.MAX_VALUE, Math.max(requis, projection.capacity() * 2L)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Agrandissement du fichier de produits impossible", e);
+            }
+        }
+    }
+
+    private void projeter(long taille) throws IOException {
+        projection = enregistrements.map(FileChannel.MapMode.READ_WRITE, 0, taille);
+    }
+
+    // ========== Tas de chaînes ==========
+
+    private void projeterTas(long taille) throws IOException {
+        projectionTas = tas.map(FileChannel.MapMode.READ_WRITE, 0, taille);
+    }
+
+    /**
+     * Ajoute la chaîne en fin de tas, sous le verrou des écritures
+     */
+    private long[] ajouterTexte(String texte) {
+        if (texte == null) {
+            return new long[] { -1, 0 };
+        }
+        byte[] octets = texte.getBytes(StandardCharsets.UTF_8);
+        long position = finDuTas;
+        long requis = position + octets.length;
+        if (requis > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Capacité du tas de chaînes dépassée");
+        }
+        if (requis > projectionTas.capacity()) {
+            try {
+                projeterTas(Math.min(Integer.MAX_VALUE, Math.max(requis, projectionTas.capacity() * 2L)));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Agrandissement du tas de chaînes impossible", e);
+            }
+        }
+        projectionTas.put((int) position, octets);
+        finDuTas = requis;
+        projection.putLong(OFFSET_FIN_DU_TAS, finDuTas);
+        return new long[] { position, octets.length };
+    }
+
+    private String lireTexte(long position, int longueur) {
+        if (position < 0) {
+            return null;
+        }
+        byte[] octets = new byte[longueur];
+        projectionTas.get((int) position, octets);
+        return new String(octets, StandardCharsets.UTF_8);
+    }
+
+    private boolean texteEgal(long position, int longueur, String texte) {
+        if (position < 0 || texte == null) {
+            return position < 0 && texte == null;
+        }
+        return texte.equals(lireTexte(position, longueur));
+    }
+}
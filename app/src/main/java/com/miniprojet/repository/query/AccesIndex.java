@@ -0,0 +1,123 @@
+package com.miniprojet.repository.query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Index d'un repository mis à disposition du planificateur, désigné par le
+ * nom du Champ qu'il sert. Les clés reçues sont déjà normalisées par le Champ.
+ */
+public interface AccesIndex<T> {
+
+    /**
+     * Valeur renvoyée par une estimation quand l'accès n'est pas possible
+     */
+    long INDISPONIBLE = -1;
+
+    String champ();
+
+    /**
+     * Nombre de lignes pour champ = cle, ou INDISPONIBLE
+     */
+    long estimer(Object cle);
+
+    List<T> chercher(Object cle);
+
+    /**
+     * Nombre de lignes dans [debut, fin), compté dans l'index jusqu'à
+     * plafond au plus (au-delà, plafond est renvoyé), ou INDISPONIBLE si
+     * l'index n'est pas trié
+     */
+    default long estimerIntervalle(Object debut, Object fin, long plafond) {
+        return INDISPONIBLE;
+    }
+
+    default List<T> chercherIntervalle(Object debut, Object fin) {
+        throw new UnsupportedOperationException("L'index " + champ() + " n'est pas trié");
+    }
+
+    /**
+     * Comptage des lignes d'un intervalle d'un index trié
+     */
+    @FunctionalInterface
+    interface CompteIntervalle<K> {
+        long compter(K debut, K fin, long plafond);
+    }
+
+    /**
+     * Somme des tailles des entrées d'un intervalle, arrêtée dès que
+     * plafond est atteint: le coût reste borné par le meilleur accès déjà
+     * trouvé, même pour un intervalle très large
+     */
+    static <V> long sommer(Collection<V> entrees, ToIntFunction<V> taille, long plafond) {
+        long lignes = 0;
+        for (V entree : entrees) {
+            lignes += taille.applyAsInt(entree);
+            if (lignes >= plafond) {
+                return plafond;
+            }
+        }
+        return lignes;
+    }
+
+    /**
+     * Index d'égalité (table de hachage)
+     */
+    @SuppressWarnings("unchecked")
+    static <T, K> AccesIndex<T> parCle(String champ, Function<K, List<T>> chercher, ToLongFunction<K> compter) {
+        return new AccesIndex<>() {
+            @Override
+            public String champ() {
+                return champ;
+            }
+
+            @Override
+            public long estimer(Object cle) {
+                return compter.applyAsLong((K) cle);
+            }
+
+            @Override
+            public List<T> chercher(Object cle) {
+                return chercher.apply((K) cle);
+            }
+        };
+    }
+
+    /**
+     * Index trié servant les intervalles (et l'égalité)
+     */
+    @SuppressWarnings("unchecked")
+    static <T, K> AccesIndex<T> trie(String champ, Function<K, List<T>> chercher, ToLongFunction<K> compter,
+            BiFunction<K, K, List<T>> chercherIntervalle, CompteIntervalle<K> compterIntervalle) {
+        return new AccesIndex<>() {
+            @Override
+            public String champ() {
+                return champ;
+            }
+
+            @Override
+            public long estimer(Object cle) {
+                return compter.applyAsLong((K) cle);
+            }
+
+            @Override
+            public List<T> chercher(Object cle) {
+                return chercher.apply((K) cle);
+            }
+
+            @Override
+            public long estimerIntervalle(Object debut, Object fin, long plafond) {
+                return compterIntervalle.compter((K) debut, (K) fin, plafond);
+            }
+
+            @Override
+            public List<T> chercherIntervalle(Object debut, Object fin) {
+                return chercherIntervalle.apply((K) debut, (K) fin);
+            }
+        };
+    }
+}
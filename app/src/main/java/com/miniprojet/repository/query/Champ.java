@@ -0,0 +1,42 @@
+package com.miniprojet.repository.query;
+
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import com.miniprojet.model.IEntity;
+
+/**
+ * Champ interrogeable d'une entité
+ *
+ * Le nom est celui de l'index qui peut servir le champ (voir AccesIndex).
+ * La normalisation est appliquée à la valeur lue comme à la valeur cherchée
+ * (ex: email comparé sans tenir compte de la casse).
+ */
+public record Champ<T, K>(String nom, Function<T, K> lecture, UnaryOperator<K> normalisation) {
+
+    public static final String ID = "id";
+
+    public Champ(String nom, Function<T, K> lecture) {
+        this(nom, lecture, UnaryOperator.identity());
+    }
+
+    /**
+     * Identifiant de l'entité: servi par l'index primaire de tout repository
+     */
+    public static <T extends IEntity> Champ<T, Integer> id() {
+        return new Champ<>(ID, IEntity::getId);
+    }
+
+    public K lire(T entite) {
+        return cle(lecture.apply(entite));
+    }
+
+    public K cle(K valeur) {
+        return valeur == null ? null : normalisation.apply(valeur);
+    }
+
+    @Override
+    public String toString() {
+        return nom;
+    }
+}
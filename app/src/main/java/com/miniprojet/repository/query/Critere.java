@@ -0,0 +1,79 @@
+package com.miniprojet.repository.query;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Condition d'une requête
+ *
+ * - Egal et Intervalle portent sur un Champ: le planificateur peut les
+ * résoudre par un index
+ * - Filtre est un prédicat libre, toujours évalué ligne par ligne
+ */
+public sealed interface Critere<T> extends Predicate<T> {
+
+    static <T, K> Critere<T> egal(Champ<T, K> champ, K valeur) {
+        return new Egal<>(champ, champ.cle(valeur));
+    }
+
+    /**
+     * Valeurs dans [debut, fin); une borne null n'est pas bornée
+     */
+    static <T, K extends Comparable<? super K>> Critere<T> entre(Champ<T, K> champ, K debut, K fin) {
+        return new Intervalle<>(champ, champ.cle(debut), champ.cle(fin));
+    }
+
+    static <T> Critere<T> filtre(String description, Predicate<T> predicat) {
+        return new Filtre<>(description, predicat);
+    }
+
+    record Egal<T, K>(Champ<T, K> champ, K valeur) implements Critere<T> {
+
+        @Override
+        public boolean test(T entite) {
+            return Objects.equals(champ.lire(entite), valeur);
+        }
+
+        @Override
+        public String toString() {
+            return champ + " = " + valeur;
+        }
+    }
+
+    record Intervalle<T, K extends Comparable<? super K>>(Champ<T, K> champ, K debut, K fin)
+            implements Critere<T> {
+
+        @Override
+        public boolean test(T entite) {
+            K valeur = champ.lire(entite);
+            return valeur != null
+                    && (debut == null || valeur.compareTo(debut) >= 0)
+                    && (fin == null || valeur.compareTo(fin) < 0);
+        }
+
+        /**
+         * Intervalle vide (debut >= fin)
+         */
+        public boolean vide() {
+            return debut != null && fin != null && debut.compareTo(fin) >= 0;
+        }
+
+        @Override
+        public String toString() {
+            return champ + " dans [" + (debut == null ? "-∞" : debut) + ", " + (fin == null ? "+∞" : fin) + ")";
+        }
+    }
+
+    record Filtre<T>(String description, Predicate<T> predicat) implements Critere<T> {
+
+        @Override
+        public boolean test(T entite) {
+            return predicat.test(entite);
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.miniprojet.repository.query;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Plan d'exécution choisi par le Planificateur
+ *
+ * toString() donne l'explication du plan, par exemple:
+ * INDEX statut: statut = EN_ATTENTE (~12 ligne(s))
+ * écartés: INDEX client: client = 3 (~40)
+ * filtre: montant > 100
+ * tri: date décroissant
+ * limite: 10
+ */
+public class Plan<T> {
+
+    private final String acces;
+    // Critère résolu par l'accès (null pour un parcours complet)
+    private final Critere<T> critereIndexe;
+    private final long lignesEstimees;
+    private final List<String> ecartes;
+    private final Query<T> query;
+    private final Supplier<Stream<T>> source;
+
+    Plan(String acces, Critere<T> critereIndexe, long lignesEstimees, List<String> ecartes, Query<T> query,
+            Supplier<Stream<T>> source) {
+        this.acces = acces;
+        this.critereIndexe = critereIndexe;
+        this.lignesEstimees = lignesEstimees;
+        this.ecartes = List.copyOf(ecartes);
+        this.query = query;
+        this.source = source;
+    }
+
+    /**
+     * Chemin d'accès: "ID", "INDEX <nom>", "SCAN" ou "VIDE"
+     */
+    public String getAcces() {
+        return acces;
+    }
+
+    public Critere<T> getCritereIndexe() {
+        return critereIndexe;
+    }
+
+    /**
+     * Lignes lues avant filtrage, AccesIndex.INDISPONIBLE pour un parcours complet
+     */
+    public long getLignesEstimees() {
+        return lignesEstimees;
+    }
+
+    Plan<T> avecEcartes(List<String> autres) {
+        return new Plan<>(acces, critereIndexe, lignesEstimees, autres, query, source);
+    }
+
+    /**
+     * Tous les critères sont revérifiés sur les candidates, y compris celui
+     * résolu par l'index (un intervalle d'ids peut ramener des ids hors bornes)
+     */
+    List<T> executer() {
+        Stream<T> lignes = source.get().filter(query::accepte);
+        Comparator<T> ordre = query.comparateur();
+        if (ordre != null) {
+            lignes = lignes.sorted(ordre);
+        }
+        if (query.getLimite() > 0) {
+            lignes = lignes.limit(query.getLimite());
+        }
+        return lignes.toList();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder explication = new StringBuilder(acces);
+        if (critereIndexe != null) {
+            explication.append(": ").append(critereIndexe);
+        }
+        if (lignesEstimees != AccesIndex.INDISPONIBLE) {
+            explication.append(" (~").append(lignesEstimees).append(" ligne(s))");
+        }
+        if (!ecartes.isEmpty()) {
+            explication.append("\n  écartés: ").append(String.join(", ", ecartes));
+        }
+        String filtre = query.getCriteres().stream()
+                .filter(critere -> critere != critereIndexe)
+                .map(Critere::toString)
+                .collect(Collectors.joining(" ET "));
+        if (!filtre.isEmpty()) {
+            explication.append("\n  filtre: ").append(filtre);
+        }
+        if (query.getTri() != null) {
+            explication.append("\n  tri: ").append(query.getTri())
+                    .append(query.isCroissant() ? " croissant" : " décroissant");
+        }
+        if (query.getLimite() > 0) {
+            explication.append("\n  limite: ").append(query.getLimite());
+        }
+        return explication.toString();
+    }
+}
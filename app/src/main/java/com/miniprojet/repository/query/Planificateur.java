@@ -0,0 +1,117 @@
+package com.miniprojet.repository.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.miniprojet.repository.IRepository;
+
+/**
+ * Choix du chemin d'accès d'une requête
+ *
+ * - Chaque critère Egal / Intervalle dont le champ a un index (ou est l'id)
+ * est estimé (un intervalle est compté dans son index trié); le plus
+ * sélectif fournit les lignes candidates
+ * - Les autres critères, le tri et la limite s'appliquent aux candidates
+ * - Sans index utilisable: parcours complet (stream du repository), arrêté
+ * dès la limite atteinte si la requête n'est pas triée
+ */
+public class Planificateur<T> {
+
+    private final IRepository<T> repository;
+    private final Map<String, AccesIndex<T>> index = new HashMap<>();
+
+    public Planificateur(IRepository<T> repository) {
+        this.repository = repository;
+        for (AccesIndex<T> acces : repository.indexRequetables()) {
+            index.put(acces.champ(), acces);
+        }
+    }
+
+    public List<T> executer(Query<T> query) {
+        return planifier(query).executer();
+    }
+
+    public Plan<T> planifier(Query<T> query) {
+        Plan<T> meilleur = null;
+        List<Plan<T>> candidats = new ArrayList<>();
+        // Les intervalles en dernier: leur comptage s'arrête à la meilleure
+        // estimation déjà trouvée
+        List<Critere<T>> criteres = new ArrayList<>(query.getCriteres());
+        criteres.sort(Comparator.comparing(critere -> critere instanceof Critere.Intervalle));
+        for (Critere<T> critere : criteres) {
+            long plafond = meilleur == null ? Long.MAX_VALUE : meilleur.getLignesEstimees();
+            Plan<T> plan = acces(critere, query, plafond);
+            if (plan == null) {
+                continue;
+            }
+            candidats.add(plan);
+            if (meilleur == null || plan.getLignesEstimees() < meilleur.getLignesEstimees()) {
+                meilleur = plan;
+            }
+        }
+        if (meilleur == null) {
+            return new Plan<>("SCAN", null, AccesIndex.INDISPONIBLE, List.of(), query, repository::stream);
+        }
+
+        List<String> ecartes = new ArrayList<>();
+        for (Plan<T> candidat : candidats) {
+            if (candidat != meilleur) {
+                ecartes.add(candidat.getAcces() + ": " + candidat.getCritereIndexe()
+                        + " (~" + candidat.getLignesEstimees() + ")");
+            }
+        }
+        return ecartes.isEmpty() ? meilleur : meilleur.avecEcartes(ecartes);
+    }
+
+    /**
+     * Accès indexé pour un critère, null si le critère doit être filtré.
+     * Un intervalle est compté dans son index jusqu'à plafond au plus.
+     */
+    private Plan<T> acces(Critere<T> critere, Query<T> query, long plafond) {
+        if (critere instanceof Critere.Intervalle<T, ?> intervalle && intervalle.vide()) {
+            return new Plan<>("VIDE", critere, 0, List.of(), query, Stream::empty);
+        }
+        if (critere instanceof Critere.Egal<T, ?> egal) {
+            String champ = egal.champ().nom();
+            Object valeur = egal.valeur();
+            if (valeur == null) {
+                return null;
+            }
+            if (Champ.ID.equals(champ)) {
+                return new Plan<>("ID", critere, 1, List.of(), query,
+                        () -> repository.findById((Integer) valeur).stream());
+            }
+            AccesIndex<T> acces = index.get(champ);
+            long estimation = acces == null ? AccesIndex.INDISPONIBLE : acces.estimer(valeur);
+            if (estimation == AccesIndex.INDISPONIBLE) {
+                return null;
+            }
+            return new Plan<>("INDEX " + champ, critere, estimation, List.of(), query,
+                    () -> acces.chercher(valeur).stream());
+        }
+        if (critere instanceof Critere.Intervalle<T, ?> intervalle) {
+            String champ = intervalle.champ().nom();
+            Object debut = intervalle.debut();
+            Object fin = intervalle.fin();
+            if (Champ.ID.equals(champ) && debut != null && fin != null) {
+                // Les ids étant uniques, [debut, fin) contient au plus fin - debut lignes
+                int premier = (Integer) debut;
+                int nombre = (Integer) fin - premier;
+                return new Plan<>("ID", critere, nombre, List.of(), query,
+                        () -> repository.findPage(premier - 1, nombre).stream());
+            }
+            AccesIndex<T> acces = index.get(champ);
+            long estimation = acces == null ? AccesIndex.INDISPONIBLE : acces.estimerIntervalle(debut, fin, plafond);
+            if (estimation == AccesIndex.INDISPONIBLE) {
+                return null;
+            }
+            return new Plan<>("INDEX " + champ, critere, estimation, List.of(), query,
+                    () -> acces.chercherIntervalle(debut, fin).stream());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,102 @@
+package com.miniprojet.repository.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Requête sur un repository: critères (tous vérifiés), tri et limite
+ *
+ * Exemple:
+ * new Query.Builder<Commande>()
+ * .where(Critere.egal(ICommandeRepository.STATUT, StatutCommande.EN_ATTENTE))
+ * .orderBy(ICommandeRepository.DATE, false)
+ * .limit(10)
+ * .build()
+ */
+public class Query<T> {
+
+    private final List<Critere<T>> criteres;
+    private final Champ<T, ? extends Comparable<?>> tri;
+    private final boolean croissant;
+    private final int limite;
+
+    private Query(Builder<T> builder) {
+        this.criteres = List.copyOf(builder.criteres);
+        this.tri = builder.tri;
+        this.croissant = builder.croissant;
+        this.limite = builder.limite;
+    }
+
+    public List<Critere<T>> getCriteres() {
+        return criteres;
+    }
+
+    public Champ<T, ? extends Comparable<?>> getTri() {
+        return tri;
+    }
+
+    public boolean isCroissant() {
+        return croissant;
+    }
+
+    /**
+     * Nombre maximal de résultats, 0 = pas de limite
+     */
+    public int getLimite() {
+        return limite;
+    }
+
+    public boolean accepte(T entite) {
+        for (Critere<T> critere : criteres) {
+            if (!critere.test(entite)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ordre des résultats, null si la requête n'est pas triée
+     * (valeurs nulles en dernier)
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public Comparator<T> comparateur() {
+        if (tri == null) {
+            return null;
+        }
+        Comparator<T> ordre = Comparator.comparing((T entite) -> (Comparable) tri.lire(entite),
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        return croissant ? ordre : ordre.reversed();
+    }
+
+    public static class Builder<T> {
+        private final List<Critere<T>> criteres = new ArrayList<>();
+        private Champ<T, ? extends Comparable<?>> tri;
+        private boolean croissant = true;
+        private int limite;
+
+        public Builder<T> where(Critere<T> critere) {
+            criteres.add(critere);
+            return this;
+        }
+
+        public <K extends Comparable<? super K>> Builder<T> orderBy(Champ<T, K> champ, boolean croissant) {
+            this.tri = champ;
+            this.croissant = croissant;
+            return this;
+        }
+
+        public Builder<T> limit(int limite) {
+            if (limite < 0) {
+                throw new IllegalArgumentException("Limite négative: " + limite);
+            }
+            this.limite = limite;
+            return this;
+        }
+
+        public Query<T> build() {
+            return new Query<>(this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.miniprojet.repository.wal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.miniprojet.model.Client;
+
+public class ClientCodec implements EntityCodec<Client> {
+
+    @Override
+    public void ecrire(Client client, DataOutput sortie) throws IOException {
+        sortie.writeInt(client.getId());
+        sortie.writeInt(client.getVersion());
+        EntityCodec.ecrireTexte(sortie, client.getNom());
+        EntityCodec.ecrireTexte(sortie, client.getPrenom());
+        EntityCodec.ecrireTexte(sortie, client.getEmail());
+        EntityCodec.ecrireTexte(sortie, client.getTelephone());
+        EntityCodec.ecrireTexte(sortie, client.getAdresse());
+    }
+
+    @Override
+    public Client lire(DataInput entree) throws IOException {
+        Client client = new Client();
+        client.setId(entree.readInt());
+        client.setVersion(entree.readInt());
+        client.setNom(EntityCodec.lireTexte(entree));
+        client.setPrenom(EntityCodec.lireTexte(entree));
+        client.setEmail(EntityCodec.lireTexte(entree));
+        client.setTelephone(EntityCodec.lireTexte(entree));
+        client.setAdresse(EntityCodec.lireTexte(entree));
+        return client;
+    }
+}
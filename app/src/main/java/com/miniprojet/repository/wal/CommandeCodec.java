@@ -0,0 +1,90 @@
+package com.miniprojet.repository.wal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.LigneCommande;
+import com.miniprojet.model.Monnaie;
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.StatutCommande;
+
+/**
+ * Les lignes référencent les produits par id. À la relecture, le produit
+ * est résolu via resolveurProduit; s'il n'existe plus, un produit détaché
+ * est reconstruit depuis les informations recopiées dans la ligne.
+ * Les montants restent écrits en double (format inchangé) et sont ramenés
+ * au centime à la relecture.
+ */
+public class CommandeCodec implements EntityCodec<Commande> {
+
+    private final ClientCodec clientCodec = new ClientCodec();
+    private final IntFunction<Produit> resolveurProduit;
+
+    public CommandeCodec(IntFunction<Produit> resolveurProduit) {
+        this.resolveurProduit = resolveurProduit;
+    }
+
+    @Override
+    public void ecrire(Commande commande, DataOutput sortie) throws IOException {
+        sortie.writeInt(commande.getId());
+        sortie.writeInt(commande.getVersion());
+        clientCodec.ecrire(commande.getClient(), sortie);
+        EntityCodec.ecrireTexte(sortie, commande.getDateCommande() != null
+                ? commande.getDateCommande().toString()
+                : null);
+        EntityCodec.ecrireTexte(sortie, commande.getStatut() != null ? commande.getStatut().name() : null);
+        sortie.writeDouble(commande.getMontantTotal());
+
+        List<LigneCommande> lignes = commande.getLignes();
+        sortie.writeInt(lignes.size());
+        for (LigneCommande ligne : lignes) {
+            Produit produit = ligne.getProduit();
+            sortie.writeInt(produit.getId());
+            EntityCodec.ecrireTexte(sortie, produit.getName());
+            EntityCodec.ecrireTexte(sortie, produit.getDescription());
+            sortie.writeInt(ligne.getQuantite());
+            sortie.writeDouble(ligne.getPrixUnitaire());
+        }
+    }
+
+    @Override
+    public Commande lire(DataInput entree) throws IOException {
+        Commande commande = new Commande();
+        commande.setId(entree.readInt());
+        commande.setVersion(entree.readInt());
+        commande.setClient(clientCodec.lire(entree));
+        String date = EntityCodec.lireTexte(entree);
+        commande.setDateCommande(date != null ? LocalDateTime.parse(date) : null);
+        String statut = EntityCodec.lireTexte(entree);
+        commande.setStatut(statut != null ? StatutCommande.valueOf(statut) : null);
+        commande.setMontantTotal(entree.readDouble());
+
+        int nombreLignes = entree.readInt();
+        List<LigneCommande> lignes = new ArrayList<>(nombreLignes);
+        for (int i = 0; i < nombreLignes; i++) {
+            int produitId = entree.readInt();
+            String nom = EntityCodec.lireTexte(entree);
+            String description = EntityCodec.lireTexte(entree);
+            int quantite = entree.readInt();
+            double prixUnitaire = entree.readDouble();
+
+            Produit produit = resolveurProduit.apply(produitId);
+            if (produit == null) {
+                produit = new Produit();
+                produit.setId(produitId);
+                produit.setName(nom);
+                produit.setDescription(description);
+                produit.setPrice(prixUnitaire);
+            }
+            lignes.add(new LigneCommande(produit, quantite, Monnaie.versCentimes(prixUnitaire)));
+        }
+        commande.setLignes(lignes);
+        return commande;
+    }
+}
@@ -0,0 +1,101 @@
+package com.miniprojet.repository.wal;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import com.miniprojet.model.IEntity;
+
+/**
+ * Rend durable un repository en mémoire thread-safe
+ *
+ * - Les écritures du repository passent par ecrire(): elles s'exécutent
+ * en parallèle (verrou partagé), puis attendent le fsync groupé
+ * - Le repository appelle journaliser() au moment où il modifie l'entrée
+ * (sous le verrou de l'entrée), ce qui garde l'ordre du journal identique
+ * à l'ordre des écritures pour une même entité. L'ajout au journal n'est
+ * qu'une écriture dans le cache du système; le fsync se fait hors verrou.
+ * - Le déclenchement d'un snapshot prend le verrou exclusif, le temps de
+ * basculer le journal et de copier les entités: le thread du snapshot
+ * sérialise ces copies, que les écritures suivantes ne touchent pas
+ */
+public class DurableSupport<T extends IEntity> {
+
+    private final WalStore<T> store;
+    private final ReentrantReadWriteLock verrou = new ReentrantReadWriteLock();
+    private volatile boolean restauration;
+
+    public DurableSupport(WalStore<T> store) {
+        this.store = store;
+    }
+
+    public void restaurer(Consumer<T> ecrire, IntConsumer supprimer) {
+        restauration = true;
+        try {
+            store.restaurer(ecrire, supprimer);
+        } finally {
+            restauration = false;
+        }
+    }
+
+    public <R> R ecrire(Supplier<R> operation, Supplier<List<T>> copieDesEntites) {
+        // Appel imbriqué (ex: updateAll -> update): l'appel englobant synchronise
+        if (verrou.getReadHoldCount() > 0) {
+            return operation.get();
+        }
+
+        R resultat;
+        verrou.readLock().lock();
+        try {
+            resultat = operation.get();
+        } finally {
+            verrou.readLock().unlock();
+        }
+
+        if (store.snapshotNecessaire()) {
+            verrou.writeLock().lock();
+            try {
+                store.demarrerSnapshot(copieDesEntites);
+            } finally {
+                verrou.writeLock().unlock();
+            }
+        }
+
+        store.synchroniser();
+        return resultat;
+    }
+
+    /**
+     * Mise à jour des index secondaires d'un repository
+     */
+    @FunctionalInterface
+    public interface Index<T> {
+        void reindexer(int id, T ancienne, T nouvelle);
+    }
+
+    /**
+     * Réindexe puis journalise l'écriture. Si le journal refuse
+     * l'enregistrement, les index reviennent à l'ancienne valeur avant que
+     * l'exception n'annule l'écriture de l'entrée.
+     *
+     * @param nouvelle état écrit, ou null pour une suppression
+     */
+    public void journaliser(int id, T ancienne, T nouvelle, Index<T> index) {
+        index.reindexer(id, ancienne, nouvelle);
+        if (restauration) {
+            return;
+        }
+        try {
+            if (nouvelle == null) {
+                store.journaliserSuppression(id);
+            } else {
+                store.journaliserEcriture(nouvelle);
+            }
+        } catch (RuntimeException e) {
+            index.reindexer(id, nouvelle, ancienne);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.miniprojet.repository.wal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sérialisation binaire d'une entité pour le journal et les snapshots
+ */
+public interface EntityCodec<T> {
+
+    void ecrire(T entite, DataOutput sortie) throws IOException;
+
+    T lire(DataInput entree) throws IOException;
+
+    /**
+     * Chaîne nullable, sans la limite de 64 Ko de writeUTF
+     */
+    static void ecrireTexte(DataOutput sortie, String texte) throws IOException {
+        if (texte == null) {
+            sortie.writeInt(-1);
+            return;
+        }
+        byte[] octets = texte.getBytes(StandardCharsets.UTF_8);
+        sortie.writeInt(octets.length);
+        sortie.write(octets);
+    }
+
+    static String lireTexte(DataInput entree) throws IOException {
+        int longueur = entree.readInt();
+        if (longueur < 0) {
+            return null;
+        }
+        byte[] octets = new byte[longueur];
+        entree.readFully(octets);
+        return new String(octets, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,58 @@
+package com.miniprojet.repository.wal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.Stock;
+
+/**
+ * Le stock est précédé d'un marqueur: 0 = pas de stock, 1 = quantité et
+ * seuil (enregistrements antérieurs, sans réserve), 2 = quantité, seuil et
+ * réserve. Les anciens journaux et snapshots restent lisibles.
+ */
+public class ProduitCodec implements EntityCodec<Produit> {
+
+    private static final byte SANS_STOCK = 0;
+    private static final byte STOCK_SANS_RESERVE = 1;
+    private static final byte STOCK = 2;
+
+    @Override
+    public void ecrire(Produit produit, DataOutput sortie) throws IOException {
+        sortie.writeInt(produit.getId());
+        sortie.writeInt(produit.getVersion());
+        EntityCodec.ecrireTexte(sortie, produit.getName());
+        EntityCodec.ecrireTexte(sortie, produit.getDescription());
+        sortie.writeDouble(produit.getPrice());
+
+        Stock stock = produit.getStock();
+        if (stock == null) {
+            sortie.writeByte(SANS_STOCK);
+            return;
+        }
+        sortie.writeByte(STOCK);
+        sortie.writeInt(stock.getQuantite());
+        sortie.writeInt(stock.getSeuilAlerte());
+        sortie.writeInt(stock.getReserve());
+    }
+
+    @Override
+    public Produit lire(DataInput entree) throws IOException {
+        Produit produit = new Produit();
+        produit.setId(entree.readInt());
+        produit.setVersion(entree.readInt());
+        produit.setName(EntityCodec.lireTexte(entree));
+        produit.setDescription(EntityCodec.lireTexte(entree));
+        produit.setPrice(entree.readDouble());
+        byte marqueur = entree.readByte();
+        if (marqueur == STOCK_SANS_RESERVE) {
+            produit.setStock(new Stock(entree.readInt(), entree.readInt()));
+        } else if (marqueur == STOCK) {
+            produit.setStock(new Stock(entree.readInt(), entree.readInt(), entree.readInt()));
+        } else if (marqueur != SANS_STOCK) {
+            throw new IOException("Marqueur de stock inconnu: " + marqueur);
+        }
+        return produit;
+    }
+}
@@ -0,0 +1,215 @@
+package com.miniprojet.repository.wal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import com.miniprojet.model.IEntity;
+
+/**
+ * Stockage durable d'une table: snapshot compact + journal des écritures
+ *
+ * - Chaque écriture est journalisée (état complet de l'entité), ce qui rend
+ * la relecture idempotente
+ * - Tous les seuilSnapshot enregistrements, le journal bascule sur un
+ * nouveau segment et un snapshot est écrit en arrière-plan; les anciens
+ * segments sont supprimés une fois le snapshot en place
+ * - Au démarrage: chargement du dernier snapshot puis relecture de la fin
+ * du journal
+ *
+ * Configuration par propriétés système:
+ * - miniprojet.data.dir: dossier des données (défaut "data")
+ * - miniprojet.wal.snapshot: enregistrements entre deux snapshots (défaut 100000)
+ */
+public class WalStore<T extends IEntity> {
+
+    private static final System.Logger JOURNAL = System.getLogger(WalStore.class.getName());
+    private static final int MAGIC = 0x4D505753; // "MPWS"
+    private static final int FORMAT = 2; // 2: version des entités
+
+    private final Path dossier;
+    private final String nom;
+    private final EntityCodec<T> codec;
+    private final long seuilSnapshot;
+
+    private WriteAheadLog journal;
+    private final AtomicLong ecrituresDepuisSnapshot = new AtomicLong();
+    private final AtomicBoolean snapshotEnCours = new AtomicBoolean();
+
+    public WalStore(String nom, EntityCodec<T> codec) {
+        this(Paths.get(System.getProperty("miniprojet.data.dir", "data")),
+                nom,
+                codec,
+                Long.getLong("miniprojet.wal.snapshot", 100_000L));
+    }
+
+    public WalStore(Path dossier, String nom, EntityCodec<T> codec, long seuilSnapshot) {
+        this.dossier = dossier;
+        this.nom = nom;
+        this.codec = codec;
+        this.seuilSnapshot = seuilSnapshot;
+    }
+
+    /**
+     * Recharge le snapshot puis la fin du journal, et ouvre le journal
+     * pour les écritures suivantes
+     */
+    public void restaurer(Consumer<T> ecrire, IntConsumer supprimer) {
+        long sequenceSnapshot = chargerSnapshot(ecrire);
+        long[] rejoues = new long[1];
+        long derniere = WriteAheadLog.relire(dossier, nom, sequenceSnapshot, enregistrement -> {
+            if (enregistrement.operation() == WriteAheadLog.SUPPRESSION) {
+                supprimer.accept(enregistrement.id());
+            } else {
+                ecrire.accept(decoder(enregistrement.donnees()));
+            }
+            rejoues[0]++;
+        });
+        this.journal = new WriteAheadLog(dossier, nom, derniere);
+        ecrituresDepuisSnapshot.set(rejoues[0]);
+        JOURNAL.log(System.Logger.Level.INFO, "WAL {0}: snapshot #{1} + {2} enregistrement(s) rejoué(s)",
+                nom, sequenceSnapshot, rejoues[0]);
+    }
+
+    public void journaliserEcriture(T entite) {
+        journal.ajouter(WriteAheadLog.ECRITURE, entite.getId(), encoder(entite));
+        ecrituresDepuisSnapshot.incrementAndGet();
+    }
+
+    public void journaliserSuppression(int id) {
+        journal.ajouter(WriteAheadLog.SUPPRESSION, id, new byte[0]);
+        ecrituresDepuisSnapshot.incrementAndGet();
+    }
+
+    /**
+     * Attend que les écritures journalisées jusqu'ici soient sur disque
+     * (un seul fsync est partagé par tous les écrivains en attente)
+     */
+    public void synchroniser() {
+        journal.attendreDurabilite();
+    }
+
+    public boolean snapshotNecessaire() {
+        return ecrituresDepuisSnapshot.get() >= seuilSnapshot && !snapshotEnCours.get();
+    }
+
+    /**
+     * Bascule le journal et écrit un snapshot en arrière-plan.
+     * Doit être appelé alors qu'aucune écriture n'est en cours, pour que
+     * la copie fournie reflète exactement les enregistrements basculés.
+     */
+    public void demarrerSnapshot(Supplier<List<T>> copieDesEntites) {
+        if (ecrituresDepuisSnapshot.get() < seuilSnapshot || !snapshotEnCours.compareAndSet(false, true)) {
+            return;
+        }
+        long sequence = journal.basculer();
+        List<T> entites = copieDesEntites.get();
+        ecrituresDepuisSnapshot.set(0);
+
+        Thread ecrivain = new Thread(() -> {
+            try {
+                ecrireSnapshot(entites, sequence);
+                journal.purgerJusqua(sequence);
+            } catch (RuntimeException e) {
+                JOURNAL.log(System.Logger.Level.WARNING, "Snapshot " + nom + " en échec", e);
+            } finally {
+                snapshotEnCours.set(false);
+            }
+        }, "snapshot-" + nom);
+        ecrivain.setDaemon(true);
+        ecrivain.start();
+    }
+
+    // ========== Snapshot ==========
+
+    private Path cheminSnapshot() {
+        return dossier.resolve(nom + ".snapshot");
+    }
+
+    private long chargerSnapshot(Consumer<T> ecrire) {
+        Path chemin = cheminSnapshot();
+        if (!Files.exists(chemin)) {
+            return 0;
+        }
+        try (InputStream fichier = Files.newInputStream(chemin);
+                DataInputStream entree = new DataInputStream(new BufferedInputStream(fichier, 1 << 16))) {
+            if (entree.readInt() != MAGIC || entree.readInt() != FORMAT) {
+                throw new IllegalStateException("Snapshot " + chemin + " illisible");
+            }
+            long sequence = entree.readLong();
+            long nombre = entree.readLong();
+            for (long i = 0; i < nombre; i++) {
+                ecrire.accept(codec.lire(entree));
+            }
+            return sequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lecture du snapshot " + chemin + " impossible", e);
+        }
+    }
+
+    /**
+     * Écrit dans un fichier temporaire, fsync, puis remplace atomiquement
+     */
+    private void ecrireSnapshot(List<T> entites, long sequence) {
+        Path temporaire = dossier.resolve(nom + ".snapshot.tmp");
+        try (FileOutputStream fichier = new FileOutputStream(temporaire.toFile());
+                DataOutputStream sortie = new DataOutputStream(new BufferedOutputStream(fichier, 1 << 16))) {
+            sortie.writeInt(MAGIC);
+            sortie.writeInt(FORMAT);
+            sortie.writeLong(sequence);
+            sortie.writeLong(entites.size());
+            for (T entite : entites) {
+                codec.ecrire(entite, sortie);
+            }
+            sortie.flush();
+            fichier.getFD().sync();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Écriture du snapshot " + nom + " impossible", e);
+        }
+
+        try {
+            Files.move(temporaire, cheminSnapshot(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Remplacement du snapshot " + nom + " impossible", e);
+        }
+    }
+
+    // ========== Encodage ==========
+
+    private byte[] encoder(T entite) {
+        ByteArrayOutputStream octets = new ByteArrayOutputStream(128);
+        try (DataOutputStream sortie = new DataOutputStream(octets)) {
+            codec.ecrire(entite, sortie);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return octets.toByteArray();
+    }
+
+    private T decoder(byte[] donnees) {
+        try (DataInputStream entree = new DataInputStream(new ByteArrayInputStream(donnees))) {
+            return codec.lire(entree);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
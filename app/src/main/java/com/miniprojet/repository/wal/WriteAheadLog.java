@@ -0,0 +1,338 @@
+package com.miniprojet.repository.wal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Journal d'écriture anticipée (write-ahead log) découpé en segments
+ *
+ * Format d'un enregistrement:
+ * [int longueur][int crc32][long sequence][byte operation][int id][données]
+ * longueur et crc couvrent la partie qui suit le crc.
+ *
+ * Group commit: ajouter() écrit dans le segment sans fsync, un thread de
+ * vidage unique appelle force() pour tous les enregistrements en attente,
+ * et attendreDurabilite() bloque jusqu'à ce que ce fsync soit fait.
+ * Plusieurs écrivains concurrents partagent donc un même fsync.
+ * ReentrantLock et Condition plutôt que synchronized/wait: un thread
+ * virtuel en attente du fsync libère son thread porteur.
+ */
+public class WriteAheadLog implements Closeable {
+
+    public static final byte ECRITURE = 1;
+    public static final byte SUPPRESSION = 2;
+
+    private static final int ENTETE = 4 + 4;
+    private static final int PREFIXE = 8 + 1 + 4;
+    private static final String EXTENSION = ".wal";
+
+    private final Path dossier;
+    private final String nom;
+    private final ReentrantLock verrou = new ReentrantLock();
+    // Signalée à chaque ajout, fsync, bascule ou fermeture
+    private final Condition changement = verrou.newCondition();
+
+    private FileChannel segment;
+    private long derniereSequence;
+    private long sequenceDurable;
+    private boolean ferme;
+    private IOException erreurVidage;
+
+    /**
+     * Enregistrement relu depuis le journal
+     */
+    public record Enregistrement(long sequence, byte operation, int id, byte[] donnees) {
+    }
+
+    /**
+     * Ouvre un nouveau segment à la suite des enregistrements existants
+     *
+     * @param derniereSequence séquence du dernier enregistrement déjà présent
+     */
+    public WriteAheadLog(Path dossier, String nom, long derniereSequence) {
+        this.dossier = dossier;
+        this.nom = nom;
+        this.derniereSequence = derniereSequence;
+        this.sequenceDurable = derniereSequence;
+        try {
+            Files.createDirectories(dossier);
+            this.segment = ouvrirSegment(derniereSequence + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Impossible d'ouvrir le journal " + nom, e);
+        }
+
+        Thread vidage = new Thread(this::boucleDeVidage, "wal-" + nom);
+        vidage.setDaemon(true);
+        vidage.start();
+    }
+
+    /**
+     * Ajoute un enregistrement (sans attendre le fsync)
+     *
+     * @return la séquence attribuée
+     */
+    public long ajouter(byte operation, int id, byte[] donnees) {
+        int longueur = PREFIXE + donnees.length;
+        ByteBuffer tampon = ByteBuffer.allocate(ENTETE + longueur);
+        tampon.putInt(longueur);
+        tampon.putInt(0);
+
+        verrou.lock();
+        try {
+            verifierOuvert();
+            long sequence = derniereSequence + 1;
+            tampon.putLong(sequence).put(operation).putInt(id).put(donnees);
+
+            CRC32 crc = new CRC32();
+            crc.update(tampon.array(), ENTETE, longueur);
+            tampon.putInt(4, (int) crc.getValue());
+            tampon.flip();
+            try {
+                while (tampon.hasRemaining()) {
+                    segment.write(tampon);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Écriture du journal " + nom + " impossible", e);
+            }
+            derniereSequence = sequence;
+            changement.signalAll();
+            return sequence;
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Bloque jusqu'à ce que tous les enregistrements ajoutés avant l'appel
+     * soient sur disque
+     */
+    public void attendreDurabilite() {
+        verrou.lock();
+        try {
+            long cible = derniereSequence;
+            while (sequenceDurable < cible) {
+                if (erreurVidage != null) {
+                    throw new UncheckedIOException("fsync du journal " + nom + " en échec", erreurVidage);
+                }
+                verifierOuvert();
+                try {
+                    changement.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Attente du journal interrompue", e);
+                }
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Démarre un nouveau segment: les enregistrements suivants n'iront plus
+     * dans les segments existants, qui pourront être purgés après snapshot
+     *
+     * @return la séquence du dernier enregistrement des anciens segments
+     */
+    public long basculer() {
+        verrou.lock();
+        try {
+            verifierOuvert();
+            try {
+                FileChannel ancien = segment;
+                ancien.force(false);
+                sequenceDurable = derniereSequence;
+                segment = ouvrirSegment(derniereSequence + 1);
+                ancien.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Bascule du journal " + nom + " impossible", e);
+            }
+            changement.signalAll();
+            return derniereSequence;
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Supprime les segments dont tous les enregistrements sont <= sequence
+     */
+    public void purgerJusqua(long sequence) {
+        List<Path> segments = segments(dossier, nom);
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            long premiereSuivante = premiereSequence(segments.get(i + 1));
+            if (premiereSuivante - 1 <= sequence) {
+                try {
+                    Files.deleteIfExists(segments.get(i));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Purge du journal " + nom + " impossible", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        verrou.lock();
+        try {
+            if (ferme) {
+                return;
+            }
+            segment.force(false);
+            segment.close();
+            ferme = true;
+            changement.signalAll();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Relit tous les segments dans l'ordre. Un enregistrement tronqué ou
+     * corrompu (écriture interrompue par un arrêt brutal) termine la
+     * lecture de son segment.
+     *
+     * @return la séquence du dernier enregistrement valide lu
+     */
+    public static long relire(Path dossier, String nom, long apresSequence, Consumer<Enregistrement> consommateur) {
+        long derniere = apresSequence;
+        for (Path chemin : segments(dossier, nom)) {
+            try (FileChannel canal = FileChannel.open(chemin, StandardOpenOption.READ)) {
+                ByteBuffer contenu = ByteBuffer.allocate((int) canal.size());
+                while (contenu.hasRemaining() && canal.read(contenu) >= 0) {
+                    // lecture complète du segment
+                }
+                contenu.flip();
+
+                while (contenu.remaining() >= ENTETE) {
+                    int longueur = contenu.getInt();
+                    int crcAttendu = contenu.getInt();
+                    if (longueur < PREFIXE || longueur > contenu.remaining()) {
+                        break;
+                    }
+                    CRC32 crc = new CRC32();
+                    crc.update(contenu.array(), contenu.position(), longueur);
+                    if ((int) crc.getValue() != crcAttendu) {
+                        break;
+                    }
+
+                    long sequence = contenu.getLong();
+                    byte operation = contenu.get();
+                    int id = contenu.getInt();
+                    byte[] donnees = new byte[longueur - PREFIXE];
+                    contenu.get(donnees);
+
+                    if (sequence > apresSequence) {
+                        consommateur.accept(new Enregistrement(sequence, operation, id, donnees));
+                    }
+                    derniere = Math.max(derniere, sequence);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Relecture du journal " + chemin + " impossible", e);
+            }
+        }
+        return derniere;
+    }
+
+    // ========== Vidage (group commit) ==========
+
+    private void boucleDeVidage() {
+        while (true) {
+            long cible;
+            FileChannel courant;
+            verrou.lock();
+            try {
+                while (!ferme && derniereSequence == sequenceDurable) {
+                    try {
+                        changement.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (ferme) {
+                    return;
+                }
+                cible = derniereSequence;
+                courant = segment;
+            } finally {
+                verrou.unlock();
+            }
+
+            try {
+                // fsync hors verrou: les écrivains continuent d'ajouter pendant ce temps
+                courant.force(false);
+            } catch (IOException e) {
+                verrou.lock();
+                try {
+                    if (courant == segment) {
+                        erreurVidage = e;
+                        changement.signalAll();
+                        return;
+                    }
+                } finally {
+                    verrou.unlock();
+                }
+                // segment fermé par basculer(), qui a lui-même fait le fsync
+            }
+
+            verrou.lock();
+            try {
+                sequenceDurable = Math.max(sequenceDurable, cible);
+                changement.signalAll();
+            } finally {
+                verrou.unlock();
+            }
+        }
+    }
+
+    // ========== Segments ==========
+
+    private FileChannel ouvrirSegment(long premiereSequence) throws IOException {
+        Path chemin = dossier.resolve(String.format("%s-%019d%s", nom, premiereSequence, EXTENSION));
+        return FileChannel.open(chemin,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static List<Path> segments(Path dossier, String nom) {
+        if (!Files.isDirectory(dossier)) {
+            return List.of();
+        }
+        try (Stream<Path> fichiers = Files.list(dossier)) {
+            List<Path> segments = new ArrayList<>(fichiers
+                    .filter(p -> {
+                        String f = p.getFileName().toString();
+                        return f.startsWith(nom + "-") && f.endsWith(EXTENSION);
+                    })
+                    .sorted()
+                    .toList());
+            return segments;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lecture du dossier " + dossier + " impossible", e);
+        }
+    }
+
+    private static long premiereSequence(Path segment) {
+        String f = segment.getFileName().toString();
+        return Long.parseLong(f.substring(f.lastIndexOf('-') + 1, f.length() - EXTENSION.length()));
+    }
+
+    private void verifierOuvert() {
+        if (ferme) {
+            throw new IllegalStateException("Journal " + nom + " fermé");
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.miniprojet.service;
+
+import com.miniprojet.dto.ClientDTO;
+
+/**
+ * Version asynchrone de IClientService
+ */
+public interface IAsyncClientService extends IAsyncCrudService<ClientDTO> {
+}
@@ -0,0 +1,15 @@
+package com.miniprojet.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.miniprojet.dto.CommandeDTO;
+import com.miniprojet.dto.EnTeteCommandeDTO;
+
+/**
+ * Version asynchrone de ICommandeService
+ */
+public interface IAsyncCommandeService extends IAsyncCrudService<CommandeDTO> {
+
+    CompletableFuture<List<EnTeteCommandeDTO>> listEnTetes(int apresId, int limite);
+}
@@ -0,0 +1,34 @@
+package com.miniprojet.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pendant asynchrone de ICrudService: chaque appel est exécuté sur
+ * l'exécuteur des services et rend la main immédiatement.
+ * Les erreurs métier (ProductNotFoundException, OptimisticLockException...)
+ * terminent le futur en échec au lieu d'être levées par l'appel.
+ */
+public interface IAsyncCrudService<D> {
+
+    CompletableFuture<List<D>> listAll();
+
+    CompletableFuture<List<D>> listPage(int apresId, int limite);
+
+    CompletableFuture<D> create(D dto);
+
+    CompletableFuture<D> clone(int id);
+
+    CompletableFuture<D> update(int id, D dto);
+
+    CompletableFuture<Void> delete(int id);
+
+    CompletableFuture<Optional<D>> findById(int id);
+
+    CompletableFuture<List<D>> createAll(List<D> dtos);
+
+    CompletableFuture<List<D>> updateAll(List<D> dtos);
+
+    CompletableFuture<Void> deleteAll(List<Integer> ids);
+}
@@ -0,0 +1,14 @@
+package com.miniprojet.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.miniprojet.dto.ProduitDTO;
+
+/**
+ * Version asynchrone de IProduitService
+ */
+public interface IAsyncProduitService extends IAsyncCrudService<ProduitDTO> {
+
+    CompletableFuture<List<ProduitDTO>> search(String requete, int limite);
+}
@@ -0,0 +1,10 @@
+package com.miniprojet.service;
+
+import com.miniprojet.dto.ClientDTO;
+
+/**
+ * Interface de service pour les clients
+ * Travaille avec des DTOs pour la couche de présentation
+ */
+public interface IClientService extends ICrudService<ClientDTO> {
+}
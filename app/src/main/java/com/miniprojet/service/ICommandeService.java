@@ -0,0 +1,19 @@
+package com.miniprojet.service;
+
+import com.miniprojet.dto.CommandeDTO;
+import com.miniprojet.dto.EnTeteCommandeDTO;
+
+import java.util.List;
+
+/**
+ * Interface de service pour les commandes
+ * Travaille avec des DTOs pour la couche de présentation
+ */
+public interface ICommandeService extends ICrudService<CommandeDTO> {
+
+    /**
+     * Page d'en-têtes ordonnée par id (même curseur que listPage):
+     * les lignes ne sont pas projetées
+     */
+    List<EnTeteCommandeDTO> listEnTetes(int apresId, int limite);
+}
@@ -0,0 +1,51 @@
+package com.miniprojet.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import com.miniprojet.exception.ProductNotFoundException;
+
+/**
+ * Opérations communes des services métier, sur des DTOs
+ */
+public interface ICrudService<D> {
+
+    List<D> listAll();
+
+    /**
+     * Page ordonnée par id (curseur = id du dernier élément reçu, 0 au départ)
+     */
+    List<D> listPage(int apresId, int limite);
+
+    /**
+     * Flux paresseux: chaque entité n'est convertie en DTO qu'à la lecture
+     */
+    Stream<D> streamAll();
+
+    D create(D dto);
+
+    D clone(int id) throws ProductNotFoundException;
+
+    D update(int id, D dto) throws ProductNotFoundException;
+
+    void delete(int id) throws ProductNotFoundException;
+
+    Optional<D> findById(int id);
+
+    /**
+     * Création en lot: un seul passage dans le repository
+     */
+    List<D> createAll(List<D> dtos);
+
+    /**
+     * Mise à jour en lot, chaque DTO étant identifié par son id.
+     * Le lot est rejeté entièrement si un id est inconnu.
+     */
+    List<D> updateAll(List<D> dtos) throws ProductNotFoundException;
+
+    /**
+     * Suppression en lot, rejetée entièrement si un id est inconnu
+     */
+    void deleteAll(List<Integer> ids) throws ProductNotFoundException;
+}
@@ -0,0 +1,18 @@
+package com.miniprojet.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.miniprojet.ingestion.RapportImport;
+
+/**
+ * Import en masse de fichiers de commandes (CSV ou JSON Lines)
+ */
+public interface IImportCommandesService {
+
+    /**
+     * Importe les commandes valides du fichier comme commandes validées
+     * (stock déduit) et rejette les autres, une par une, dans le rapport
+     */
+    RapportImport importer(Path fichier) throws IOException;
+}
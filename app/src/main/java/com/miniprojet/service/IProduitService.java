@@ -0,0 +1,19 @@
+package com.miniprojet.service;
+
+import com.miniprojet.dto.ProduitDTO;
+
+import java.util.List;
+
+/**
+ * Interface de service pour les produits
+ * Travaille avec des DTOs pour la couche de présentation
+ */
+public interface IProduitService extends ICrudService<ProduitDTO> {
+
+    /**
+     * Recherche plein texte sur le nom et la description, sans tenir compte
+     * des accents ni de la casse. Tous les mots doivent être présents;
+     * "mot*" cherche un préfixe. Résultats du plus pertinent au moins pertinent.
+     */
+    List<ProduitDTO> search(String requete, int limite);
+}
@@ -0,0 +1,20 @@
+package com.miniprojet.service;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import com.miniprojet.analytics.RapportVentes;
+import com.miniprojet.model.StatutCommande;
+
+/**
+ * Analyse des ventes: chiffre d'affaires par produit, client et jour,
+ * panier moyen
+ */
+public interface IRapportVentesService {
+
+    /**
+     * Commandes passées dans [debut, fin) (borne null = non bornée) dont le
+     * statut est dans statuts (null ou vide = tous)
+     */
+    RapportVentes calculer(LocalDateTime debut, LocalDateTime fin, Set<StatutCommande> statuts);
+}
@@ -0,0 +1,32 @@
+package com.miniprojet.service;
+
+import java.util.Map;
+
+import com.miniprojet.model.Produit;
+import com.miniprojet.observer.StockObserver;
+import com.miniprojet.strategy.StockStrategy;
+
+public interface IStockService {
+    void setStrategy(StockStrategy strategy);
+
+    void addObserver(StockObserver observer);
+
+    /**
+     * @return le produit tel qu'enregistré après le mouvement
+     */
+    Produit appliquerMouvement(Produit produit, int quantite);
+
+    /**
+     * Applique la stratégie courante à un lot de mouvements
+     * et notifie les observateurs une seule fois
+     */
+    void appliquerMouvements(Map<Produit, Integer> mouvements);
+
+    /**
+     * Applique une stratégie donnée à un lot de mouvements, tout ou rien:
+     * si une ligne est refusée (ex: stock insuffisant), aucun produit n'est
+     * modifié. À préférer à setStrategy() quand plusieurs threads partagent
+     * le service.
+     */
+    void appliquerMouvements(StockStrategy strategy, Map<Produit, Integer> mouvements);
+}
@@ -0,0 +1,17 @@
+package com.miniprojet.service.impl;
+
+import java.util.concurrent.Executor;
+
+import com.miniprojet.dto.ClientDTO;
+import com.miniprojet.service.IAsyncClientService;
+import com.miniprojet.service.IClientService;
+
+/**
+ * Service clients asynchrone, délègue à IClientService
+ */
+public class AsyncClientService extends AsyncCrudService<ClientDTO> implements IAsyncClientService {
+
+    public AsyncClientService(IClientService service, Executor executeur) {
+        super(service, executeur);
+    }
+}
@@ -0,0 +1,28 @@
+package com.miniprojet.service.impl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.miniprojet.dto.CommandeDTO;
+import com.miniprojet.dto.EnTeteCommandeDTO;
+import com.miniprojet.service.IAsyncCommandeService;
+import com.miniprojet.service.ICommandeService;
+
+/**
+ * Service commandes asynchrone, délègue à ICommandeService
+ */
+public class AsyncCommandeService extends AsyncCrudService<CommandeDTO> implements IAsyncCommandeService {
+
+    private final ICommandeService service;
+
+    public AsyncCommandeService(ICommandeService service, Executor executeur) {
+        super(service, executeur);
+        this.service = service;
+    }
+
+    @Override
+    public CompletableFuture<List<EnTeteCommandeDTO>> listEnTetes(int apresId, int limite) {
+        return appeler(() -> service.listEnTetes(apresId, limite));
+    }
+}
@@ -0,0 +1,101 @@
+package com.miniprojet.service.impl;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.miniprojet.service.IAsyncCrudService;
+import com.miniprojet.service.ICrudService;
+
+/**
+ * Décorateur asynchrone d'un service synchrone: chaque appel est soumis
+ * à l'exécuteur et délégué tel quel, la logique métier reste dans le
+ * service décoré. Les exceptions, contrôlées ou non, terminent le futur.
+ */
+public abstract class AsyncCrudService<D> implements IAsyncCrudService<D> {
+
+    /**
+     * Appel synchrone pouvant lever une exception contrôlée
+     */
+    @FunctionalInterface
+    protected interface Appel<T> {
+        T executer() throws Exception;
+    }
+
+    private final ICrudService<D> service;
+    private final Executor executeur;
+
+    protected AsyncCrudService(ICrudService<D> service, Executor executeur) {
+        this.service = service;
+        this.executeur = executeur;
+    }
+
+    @Override
+    public CompletableFuture<List<D>> listAll() {
+        return appeler(service::listAll);
+    }
+
+    @Override
+    public CompletableFuture<List<D>> listPage(int apresId, int limite) {
+        return appeler(() -> service.listPage(apresId, limite));
+    }
+
+    @Override
+    public CompletableFuture<D> create(D dto) {
+        return appeler(() -> service.create(dto));
+    }
+
+    @Override
+    public CompletableFuture<D> clone(int id) {
+        return appeler(() -> service.clone(id));
+    }
+
+    @Override
+    public CompletableFuture<D> update(int id, D dto) {
+        return appeler(() -> service.update(id, dto));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(int id) {
+        return appeler(() -> {
+            service.delete(id);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Optional<D>> findById(int id) {
+        return appeler(() -> service.findById(id));
+    }
+
+    @Override
+    public CompletableFuture<List<D>> createAll(List<D> dtos) {
+        return appeler(() -> service.createAll(dtos));
+    }
+
+    @Override
+    public CompletableFuture<List<D>> updateAll(List<D> dtos) {
+        return appeler(() -> service.updateAll(dtos));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAll(List<Integer> ids) {
+        return appeler(() -> {
+            service.deleteAll(ids);
+            return null;
+        });
+    }
+
+    protected <T> CompletableFuture<T> appeler(Appel<T> appel) {
+        CompletableFuture<T> futur = new CompletableFuture<>();
+        executeur.execute(() -> {
+            try {
+                futur.complete(appel.executer());
+            } catch (Throwable e) {
+                futur.completeExceptionally(e);
+            }
+        });
+        return futur;
+    }
+}
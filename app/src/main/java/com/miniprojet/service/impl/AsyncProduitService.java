@@ -0,0 +1,27 @@
+package com.miniprojet.service.impl;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import com.miniprojet.dto.ProduitDTO;
+import com.miniprojet.service.IAsyncProduitService;
+import com.miniprojet.service.IProduitService;
+
+/**
+ * Service produits asynchrone, délègue à IProduitService
+ */
+public class AsyncProduitService extends AsyncCrudService<ProduitDTO> implements IAsyncProduitService {
+
+    private final IProduitService service;
+
+    public AsyncProduitService(IProduitService service, Executor executeur) {
+        super(service, executeur);
+        this.service = service;
+    }
+
+    @Override
+    public CompletableFuture<List<ProduitDTO>> search(String requete, int limite) {
+        return appeler(() -> service.search(requete, limite));
+    }
+}
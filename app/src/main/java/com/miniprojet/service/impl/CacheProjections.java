@@ -0,0 +1,87 @@
+package com.miniprojet.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import com.miniprojet.model.IEntity;
+
+/**
+ * Cache de DTOs immuables par entité: les commandes qui référencent le même
+ * produit (ou client) dans le même état partagent un seul DTO.
+ *
+ * Une entrée est reconnue par l'id et par les champs projetés (correspond),
+ * pas par la version: un mouvement de stock incrémente la version d'un
+ * produit sans changer sa projection dans une ligne de commande.
+ * Quelques variantes sont gardées par id, pour les commandes anciennes qui
+ * référencent un état antérieur. Lectures sans verrou.
+ */
+public final class CacheProjections<E extends IEntity, D> {
+
+    private static final int VARIANTES_MAX = 4;
+
+    private final Function<E, D> projection;
+    private final BiPredicate<D, E> correspond;
+    // id -> variantes, la plus récente d'abord (listes immuables)
+    private final ConcurrentHashMap<Integer, List<D>> variantes = new ConcurrentHashMap<>();
+
+    public CacheProjections(Function<E, D> projection, BiPredicate<D, E> correspond) {
+        this.projection = projection;
+        this.correspond = correspond;
+    }
+
+    public D projeter(E entite) {
+        if (entite.getId() <= 0) {
+            return projection.apply(entite);
+        }
+        D connu = chercher(variantes.get(entite.getId()), entite);
+        if (connu != null) {
+            return connu;
+        }
+
+        D cree = projection.apply(entite);
+        List<D> retenues = variantes.compute(entite.getId(), (id, anciennes) -> {
+            // Un autre thread a pu projeter le même état entre-temps
+            if (chercher(anciennes, entite) != null) {
+                return anciennes;
+            }
+            List<D> nouvelles = new ArrayList<>(VARIANTES_MAX);
+            nouvelles.add(cree);
+            if (anciennes != null) {
+                nouvelles.addAll(anciennes.subList(0, Math.min(anciennes.size(), VARIANTES_MAX - 1)));
+            }
+            return List.copyOf(nouvelles);
+        });
+        D retenu = chercher(retenues, entite);
+        return retenu != null ? retenu : cree;
+    }
+
+    /**
+     * Oublie les projections d'une entité modifiée ou supprimée
+     * (un id supprimé peut être réattribué)
+     */
+    public void invalider(int id) {
+        variantes.remove(id);
+    }
+
+    public void vider() {
+        variantes.clear();
+    }
+
+    public int taille() {
+        return variantes.size();
+    }
+
+    private D chercher(List<D> connues, E entite) {
+        if (connues != null) {
+            for (D dto : connues) {
+                if (correspond.test(dto, entite)) {
+                    return dto;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,208 @@
+package com.miniprojet.service.impl;
+
+import com.miniprojet.dto.ClientDTO;
+import com.miniprojet.dto.ClientDTOMapper;
+import com.miniprojet.exception.ProductNotFoundException;
+import com.miniprojet.model.Client;
+import com.miniprojet.repository.IClientRepository;
+import com.miniprojet.service.IClientService;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Service métier pour les clients
+ * Utilise les DTOs pour la couche de présentation
+ * Le repository est injecté via constructeur
+ */
+public class ClientService implements IClientService {
+
+    private final IClientRepository repository;
+    // DTOs partagés par les commandes
+    private final Projections projections = Projections.getInstance();
+
+    public ClientService(IClientRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public List<ClientDTO> listAll() {
+        return repository.findAll().stream()
+                .map(ClientDTOMapper::versDTO).toList();
+    }
+
+    @Override
+    public List<ClientDTO> listPage(int apresId, int limite) {
+        return repository.findPage(apresId, limite).stream()
+                .map(ClientDTOMapper::versDTO)
+                .toList();
+    }
+
+    @Override
+    public Stream<ClientDTO> streamAll() {
+        return repository.stream()
+                .map(ClientDTOMapper::versDTO);
+    }
+
+    @Override
+    public ClientDTO create(ClientDTO dto) {
+        verifierEmailDisponible(dto.getEmail(), 0);
+
+        Client client = toEntity(dto);
+        Client saved = repository.save(client);
+        return ClientDTOMapper.versDTO(saved);
+    }
+
+    @Override
+    public ClientDTO clone(int id) throws ProductNotFoundException {
+        Client original = repository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+
+        Client clone = original.clone();
+        clone.setEmail(clone.getEmail() + ".copy");
+        // Un second clone du même client réclamerait le même email
+        verifierEmailDisponible(clone.getEmail(), 0);
+
+        Client saved = repository.save(clone);
+        return ClientDTOMapper.versDTO(saved);
+    }
+
+    @Override
+    public ClientDTO update(int id, ClientDTO dto) throws ProductNotFoundException {
+        Client modifie = copieDeTravail(repository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id)), dto);
+
+        verifierEmailDisponible(dto.getEmail(), id);
+        appliquerModifications(modifie, dto);
+
+        repository.update(modifie);
+        projections.invaliderClient(id);
+        return ClientDTOMapper.versDTO(modifie);
+    }
+
+    @Override
+    public void delete(int id) throws ProductNotFoundException {
+        boolean removed = repository.delete(id);
+        if (!removed) {
+            throw new ProductNotFoundException(id);
+        }
+        projections.invaliderClient(id);
+    }
+
+    @Override
+    public Optional<ClientDTO> findById(int id) {
+        return repository.findById(id)
+                .map(ClientDTOMapper::versDTO);
+    }
+
+    @Override
+    public List<ClientDTO> createAll(List<ClientDTO> dtos) {
+        // Unicité des emails vérifiée contre la base et à l'intérieur du lot
+        Set<String> emailsDuLot = new HashSet<>();
+        List<Client> clients = new ArrayList<>(dtos.size());
+        for (ClientDTO dto : dtos) {
+            verifierEmailDisponible(dto.getEmail(), 0);
+            if (!emailsDuLot.add(IClientRepository.normaliserEmail(dto.getEmail()))) {
+                throw new IllegalStateException("Email en double dans le lot: " + dto.getEmail());
+            }
+            clients.add(toEntity(dto));
+        }
+        return repository.saveAll(clients).stream()
+                .map(ClientDTOMapper::versDTO)
+                .toList();
+    }
+
+    @Override
+    public List<ClientDTO> updateAll(List<ClientDTO> dtos) throws ProductNotFoundException {
+        // Tout le lot est vérifié avant la première modification
+        Set<String> emailsDuLot = new HashSet<>();
+        List<Client> existants = new ArrayList<>(dtos.size());
+        for (ClientDTO dto : dtos) {
+            existants.add(copieDeTravail(repository.findById(dto.getId())
+                    .orElseThrow(() -> new ProductNotFoundException(dto.getId())), dto));
+            verifierEmailDisponible(dto.getEmail(), dto.getId());
+            if (!emailsDuLot.add(IClientRepository.normaliserEmail(dto.getEmail()))) {
+                throw new IllegalStateException("Email en double dans le lot: " + dto.getEmail());
+            }
+        }
+
+        for (int i = 0; i < existants.size(); i++) {
+            appliquerModifications(existants.get(i), dtos.get(i));
+        }
+        repository.updateAll(existants);
+        existants.forEach(client -> projections.invaliderClient(client.getId()));
+        return existants.stream()
+                .map(ClientDTOMapper::versDTO)
+                .toList();
+    }
+
+    @Override
+    public void deleteAll(List<Integer> ids) throws ProductNotFoundException {
+        for (Integer id : ids) {
+            if (repository.findById(id).isEmpty()) {
+                throw new ProductNotFoundException(id);
+            }
+        }
+        repository.deleteAll(ids);
+        ids.forEach(projections::invaliderClient);
+    }
+
+    public Optional<ClientDTO> findByEmail(String email) {
+        return repository.findByEmail(email)
+                .map(ClientDTOMapper::versDTO);
+    }
+
+    /**
+     * Récupère l'entité Client (pour usage interne)
+     */
+    public Optional<Client> findEntityById(int id) {
+        return repository.findById(id);
+    }
+
+    /**
+     * Refuse un email déjà utilisé par un autre client que idAutorise
+     */
+    private void verifierEmailDisponible(String email, int idAutorise) {
+        Optional<Client> memeEmail = repository.findByEmail(email);
+        if (memeEmail.isPresent() && memeEmail.get().getId() != idAutorise) {
+            throw new IllegalStateException("Un client avec cet email existe déjà");
+        }
+    }
+
+    /**
+     * Copie modifiée puis écrite par compare-and-set (voir ProduitService)
+     */
+    private Client copieDeTravail(Client existing, ClientDTO dto) {
+        Client copie = existing.copie();
+        if (dto.getVersion() > 0) {
+            copie.setVersion(dto.getVersion());
+        }
+        return copie;
+    }
+
+    private void appliquerModifications(Client existing, ClientDTO dto) {
+        existing.setNom(dto.getNom());
+        existing.setPrenom(dto.getPrenom());
+        existing.setEmail(dto.getEmail());
+        existing.setTelephone(dto.getTelephone());
+        existing.setAdresse(dto.getAdresse());
+    }
+
+    // Mapping DTO -> Entity (Entity -> DTO: mapper généré)
+    private Client toEntity(ClientDTO dto) {
+        return new Client.Builder()
+                .id(dto.getId())
+                .nom(dto.getNom())
+                .prenom(dto.getPrenom())
+                .email(dto.getEmail())
+                .telephone(dto.getTelephone())
+                .adresse(dto.getAdresse())
+                .build();
+    }
+}
+
+// interace pour mapper
\ No newline at end of file
@@ -0,0 +1,746 @@
+package com.miniprojet.service.impl;
+
+import com.miniprojet.analytics.VentesMaterialisees;
+import com.miniprojet.dto.ClientDTO;
+import com.miniprojet.dto.CommandeDTO;
+import com.miniprojet.dto.EnTeteCommandeDTO;
+import com.miniprojet.dto.LigneCommandeDTO;
+import com.miniprojet.exception.ProductNotFoundException;
+import com.miniprojet.model.*;
+import com.miniprojet.repository.ICommandeRepository;
+import com.miniprojet.repository.IProduitRepository;
+import com.miniprojet.repository.query.Critere;
+import com.miniprojet.repository.query.Query;
+import com.miniprojet.service.ICommandeService;
+import com.miniprojet.service.IStockService;
+import com.miniprojet.strategy.impl.ConfirmationStockStrategy;
+import com.miniprojet.strategy.impl.EntreeStockStrategy;
+import com.miniprojet.strategy.impl.LiberationStockStrategy;
+import com.miniprojet.strategy.impl.ReservationStockStrategy;
+import com.miniprojet.strategy.impl.SortieStockStrategy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service métier pour les commandes
+ * Utilise les DTOs pour la couche de présentation
+ * Les repositories sont injectés via constructeur
+ *
+ * Cycle de vie du stock d'une commande:
+ * - création, toujours en attente (un autre statut est refusé): les
+ * quantités sont réservées, tout ou rien
+ * - validation: la réservation est confirmée (sortie du stock physique)
+ * - annulation ou suppression: la réservation est libérée
+ * - sans suite au bout du délai (-Dminiprojet.reservation.minutes, 15 par
+ * défaut), la réservation expire: la commande reste en attente et sa
+ * validation puisera dans le stock disponible
+ *
+ * Chaque réservation n'est reprise qu'une fois (remove sur la table des
+ * réservations), par la validation, l'annulation ou l'expiration.
+ * La table des réservations vit en mémoire; au démarrage, la réserve
+ * restaurée par un stockage durable est réattribuée aux commandes en
+ * attente (voir reprendreReservations).
+ *
+ * Chaque écriture passe par VentesMaterialisees, qui tient les compteurs
+ * de ventes à jour.
+ */
+public class CommandeService implements ICommandeService {
+
+    private static final System.Logger JOURNAL = System.getLogger(CommandeService.class.getName());
+
+    private static final Duration DELAI_RESERVATION = Duration.ofMinutes(
+            Long.getLong("miniprojet.reservation.minutes", 15));
+
+    private final ICommandeRepository commandeRepository;
+    private final IProduitRepository produitRepository;
+    private final IStockService stockService;
+    private final VentesMaterialisees ventes;
+    private final Duration delaiReservation;
+    private final Projections projections = Projections.getInstance();
+
+    // id commande -> stock réservé
+    private final ConcurrentHashMap<Integer, Reservation> reservations = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService expirations = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("expiration-reservations").daemon().factory());
+
+    public CommandeService(
+            ICommandeRepository commandeRepository,
+            IProduitRepository produitRepository,
+            IStockService stockService,
+            VentesMaterialisees ventes) {
+        this(commandeRepository, produitRepository, stockService, ventes, DELAI_RESERVATION);
+    }
+
+    CommandeService(
+            ICommandeRepository commandeRepository,
+            IProduitRepository produitRepository,
+            IStockService stockService,
+            VentesMaterialisees ventes,
+            Duration delaiReservation) {
+        this.commandeRepository = commandeRepository;
+        this.produitRepository = produitRepository;
+        this.stockService = stockService;
+        this.ventes = ventes;
+        this.delaiReservation = delaiReservation;
+        reprendreReservations();
+    }
+
+    @Override
+    public List<CommandeDTO> listAll() {
+        return commandeRepository.findAll().stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    @Override
+    public List<CommandeDTO> listPage(int apresId, int limite) {
+        return commandeRepository.findPage(apresId, limite).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    @Override
+    public List<EnTeteCommandeDTO> listEnTetes(int apresId, int limite) {
+        return commandeRepository.findPage(apresId, limite).stream()
+                .map(this::toEnTete)
+                .toList();
+    }
+
+    @Override
+    public Stream<CommandeDTO> streamAll() {
+        return commandeRepository.stream()
+                .map(this::toDTO);
+    }
+
+    @Override
+    public CommandeDTO create(CommandeDTO dto) {
+        // Montant calculé par Commande.Builder, une seule passe sur les lignes
+        Commande commande = toEntity(dto);
+
+        Map<Produit, Integer> quantites = reserver(List.of(commande));
+        Commande saved;
+        try {
+            saved = ventes.enregistrer(List.of(), List.of(commande), () -> commandeRepository.save(commande));
+        } catch (RuntimeException e) {
+            stockService.appliquerMouvements(new LiberationStockStrategy(), quantites);
+            throw e;
+        }
+        suivreReservation(saved);
+        return toDTO(saved);
+    }
+
+    @Override
+    public CommandeDTO clone(int id) throws ProductNotFoundException {
+        Commande original = commandeRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+
+        Commande clone = original.clone();
+        Map<Produit, Integer> quantites = reserver(List.of(clone));
+        Commande saved;
+        try {
+            saved = ventes.enregistrer(List.of(), List.of(clone), () -> commandeRepository.save(clone));
+        } catch (RuntimeException e) {
+            stockService.appliquerMouvements(new LiberationStockStrategy(), quantites);
+            throw e;
+        }
+        suivreReservation(saved);
+        return toDTO(saved);
+    }
+
+    @Override
+    public CommandeDTO update(int id, CommandeDTO dto) throws ProductNotFoundException {
+        Commande existante = commandeRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        Commande modifiee = copieDeTravail(existante, dto);
+        StatutCommande statut = StatutCommande.valueOf(dto.getStatut());
+        verifierTransition(existante, statut);
+
+        if (existante.getStatut() == StatutCommande.EN_ATTENTE && statut == StatutCommande.VALIDEE) {
+            // Même chemin que validerCommande: la réservation est confirmée
+            valider(existante, modifiee);
+            return toDTO(modifiee);
+        }
+        modifiee.setStatut(statut);
+        ventes.enregistrer(List.of(existante), List.of(modifiee), () -> commandeRepository.update(modifiee));
+        if (modifiee.getStatut() == StatutCommande.ANNULEE) {
+            libererReservation(id);
+        }
+        return toDTO(modifiee);
+    }
+
+    @Override
+    public void delete(int id) throws ProductNotFoundException {
+        Commande existante = commandeRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        boolean removed = ventes.retirer(List.of(existante), () -> commandeRepository.delete(id));
+        if (!removed) {
+            throw new ProductNotFoundException(id);
+        }
+        libererReservation(id);
+    }
+
+    @Override
+    public Optional<CommandeDTO> findById(int id) {
+        return commandeRepository.findById(id)
+                .map(this::toDTO);
+    }
+
+    @Override
+    public List<CommandeDTO> createAll(List<CommandeDTO> dtos) {
+        List<Commande> commandes = new ArrayList<>(dtos.size());
+        for (CommandeDTO dto : dtos) {
+            commandes.add(toEntity(dto));
+        }
+
+        // Stock réservé par produit sur l'ensemble du lot, tout ou rien
+        Map<Produit, Integer> quantites = reserver(commandes);
+        List<Commande> saved;
+        try {
+            saved = ventes.enregistrer(List.of(), commandes, () -> commandeRepository.saveAll(commandes));
+        } catch (RuntimeException e) {
+            stockService.appliquerMouvements(new LiberationStockStrategy(), quantites);
+            throw e;
+        }
+        saved.forEach(this::suivreReservation);
+        return saved.stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    @Override
+    public List<CommandeDTO> updateAll(List<CommandeDTO> dtos) throws ProductNotFoundException {
+        // Tout le lot est vérifié avant la première modification
+        List<Commande> originales = new ArrayList<>(dtos.size());
+        List<Commande> existantes = new ArrayList<>(dtos.size());
+        for (CommandeDTO dto : dtos) {
+            Commande originale = commandeRepository.findById(dto.getId())
+                    .orElseThrow(() -> new ProductNotFoundException(dto.getId()));
+            originales.add(originale);
+            existantes.add(copieDeTravail(originale, dto));
+        }
+        List<StatutCommande> statuts = dtos.stream()
+                .map(dto -> StatutCommande.valueOf(dto.getStatut()))
+                .toList();
+        for (int i = 0; i < originales.size(); i++) {
+            Commande originale = originales.get(i);
+            verifierTransition(originale, statuts.get(i));
+            if (originale.getStatut() == StatutCommande.EN_ATTENTE && statuts.get(i) == StatutCommande.VALIDEE) {
+                // La confirmation du stock n'est pas faite par lot
+                throw new IllegalStateException("La commande " + originale.getId()
+                        + " doit être validée seule (validerCommande)");
+            }
+        }
+
+        for (int i = 0; i < existantes.size(); i++) {
+            existantes.get(i).setStatut(statuts.get(i));
+        }
+        ventes.enregistrer(originales, existantes, () -> commandeRepository.updateAll(existantes));
+        for (Commande commande : existantes) {
+            if (commande.getStatut() == StatutCommande.ANNULEE) {
+                libererReservation(commande.getId());
+            }
+        }
+        return existantes.stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    @Override
+    public void deleteAll(List<Integer> ids) throws ProductNotFoundException {
+        List<Commande> existantes = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            existantes.add(commandeRepository.findById(id)
+                    .orElseThrow(() -> new ProductNotFoundException(id)));
+        }
+        ventes.retirer(existantes, () -> commandeRepository.deleteAll(ids) > 0);
+        ids.forEach(this::libererReservation);
+    }
+
+    public void validerCommande(int id) throws ProductNotFoundException {
+        Commande existante = commandeRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        valider(existante, existante.copie());
+    }
+
+    /**
+     * Confirme le stock de la commande en attente existante puis écrit
+     * commande (sa copie de travail) avec le statut VALIDEE
+     */
+    private void valider(Commande existante, Commande commande) {
+        int id = existante.getId();
+        if (existante.getStatut() != StatutCommande.EN_ATTENTE) {
+            throw new IllegalStateException("Seules les commandes en attente peuvent être validées");
+        }
+
+        // Sortie du stock de toutes les lignes, tout ou rien: la réservation
+        // si elle est encore là, sinon le stock disponible
+        Map<Produit, Integer> quantites = quantitesParProduit(List.of(commande));
+        Reservation reservation = reprendreReservation(id);
+        if (reservation != null) {
+            try {
+                stockService.appliquerMouvements(new ConfirmationStockStrategy(), reservation.quantites());
+            } catch (RuntimeException e) {
+                suivreReservation(id, reservation.quantites());
+                throw e;
+            }
+        } else {
+            stockService.appliquerMouvements(new SortieStockStrategy(), quantites);
+        }
+
+        commande.setStatut(StatutCommande.VALIDEE);
+        try {
+            ventes.enregistrer(List.of(existante), List.of(commande), () -> commandeRepository.update(commande));
+        } catch (RuntimeException e) {
+            // Commande modifiée entre-temps (ex: validée par un autre thread): stock rendu
+            stockService.appliquerMouvements(new EntreeStockStrategy(), quantites);
+            throw e;
+        }
+    }
+
+    /**
+     * Une commande en attente n'en sort que validée (stock confirmé) ou
+     * annulée (réservation libérée); aucune commande ne revient en attente,
+     * une commande livrée ne s'annule pas (voir annulerCommande) et une
+     * commande annulée ne change plus de statut
+     */
+    private void verifierTransition(Commande existante, StatutCommande statut) {
+        StatutCommande actuel = existante.getStatut();
+        if (actuel == statut) {
+            return;
+        }
+        if (actuel == StatutCommande.ANNULEE || statut == StatutCommande.EN_ATTENTE
+                || (actuel == StatutCommande.EN_ATTENTE && statut != StatutCommande.VALIDEE
+                        && statut != StatutCommande.ANNULEE)
+                || (actuel == StatutCommande.LIVREE && statut == StatutCommande.ANNULEE)) {
+            throw new IllegalStateException("Commande " + existante.getId() + ": passage de " + actuel
+                    + " à " + statut + " interdit");
+        }
+    }
+
+    public void annulerCommande(int id) throws ProductNotFoundException {
+        Commande existante = commandeRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        Commande commande = existante.copie();
+
+        if (commande.getStatut() == StatutCommande.LIVREE ||
+                commande.getStatut() == StatutCommande.ANNULEE) {
+            throw new IllegalStateException("Cette commande ne peut pas être annulée");
+        }
+
+        commande.setStatut(StatutCommande.ANNULEE);
+        ventes.enregistrer(List.of(existante), List.of(commande), () -> commandeRepository.update(commande));
+        libererReservation(id);
+    }
+
+    // ========== Lignes d'une commande en attente ==========
+
+    public CommandeDTO ajouterLigne(int commandeId, int produitId, int quantite) throws ProductNotFoundException {
+        verifierQuantite(quantite);
+        Produit produit = produitRepository.findById(produitId)
+                .orElseThrow(() -> new IllegalStateException("Produit introuvable: " + produitId));
+        return modifierLignes(commandeId, commande -> commande.ajouterLigne(new LigneCommande(produit, quantite)));
+    }
+
+    public CommandeDTO retirerLigne(int commandeId, int index) throws ProductNotFoundException {
+        return modifierLignes(commandeId, commande -> {
+            verifierIndex(commande, index);
+            if (commande.getNombreLignes() == 1) {
+                throw new IllegalStateException("Une commande garde au moins une ligne: annulez-la");
+            }
+            commande.retirerLigne(index);
+        });
+    }
+
+    public CommandeDTO modifierQuantite(int commandeId, int index, int quantite) throws ProductNotFoundException {
+        verifierQuantite(quantite);
+        return modifierLignes(commandeId, commande -> {
+            verifierIndex(commande, index);
+            commande.modifierQuantite(index, quantite);
+        });
+    }
+
+    /**
+     * Modifie les lignes d'une copie de la commande en attente (totaux tenus
+     * à jour ligne par ligne par Commande) puis l'écrit par compare-and-set.
+     * Si la réservation court encore, seul l'écart par produit est réservé
+     * ou libéré, et la réservation repart pour un délai complet.
+     */
+    private CommandeDTO modifierLignes(int id, Consumer<Commande> modification) throws ProductNotFoundException {
+        Commande existante = commandeRepository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+        if (existante.getStatut() != StatutCommande.EN_ATTENTE) {
+            throw new IllegalStateException("Seules les lignes d'une commande en attente sont modifiables");
+        }
+        Commande commande = existante.copie();
+        modification.accept(commande);
+
+        Map<Produit, Integer> aReserver = new LinkedHashMap<>();
+        Map<Produit, Integer> aLiberer = new LinkedHashMap<>();
+        ecartParProduit(existante, commande, aReserver, aLiberer);
+
+        Reservation reservation = reprendreReservation(id);
+        if (reservation != null) {
+            try {
+                stockService.appliquerMouvements(new ReservationStockStrategy(), aReserver);
+            } catch (RuntimeException e) {
+                suivreReservation(id, reservation.quantites());
+                throw e;
+            }
+        }
+        try {
+            ventes.enregistrer(List.of(existante), List.of(commande), () -> commandeRepository.update(commande));
+        } catch (RuntimeException e) {
+            if (reservation != null) {
+                stockService.appliquerMouvements(new LiberationStockStrategy(), aReserver);
+                suivreReservation(id, reservation.quantites());
+            }
+            throw e;
+        }
+        if (reservation != null) {
+            stockService.appliquerMouvements(new LiberationStockStrategy(), aLiberer);
+            suivreReservation(id, quantitesParProduit(List.of(commande)));
+        }
+        return toDTO(commande);
+    }
+
+    /**
+     * Répartit l'écart de quantités entre avant et apres: hausses à
+     * réserver, baisses à libérer
+     */
+    private void ecartParProduit(Commande avant, Commande apres, Map<Produit, Integer> hausses,
+            Map<Produit, Integer> baisses) {
+        Map<Integer, Produit> produits = new HashMap<>();
+        Map<Integer, Integer> ecarts = new LinkedHashMap<>();
+        quantitesParProduit(List.of(apres)).forEach((produit, quantite) -> {
+            produits.put(produit.getId(), produit);
+            ecarts.merge(produit.getId(), quantite, Integer::sum);
+        });
+        quantitesParProduit(List.of(avant)).forEach((produit, quantite) -> {
+            produits.putIfAbsent(produit.getId(), produit);
+            ecarts.merge(produit.getId(), -quantite, Integer::sum);
+        });
+        ecarts.forEach((produitId, ecart) -> {
+            if (ecart > 0) {
+                hausses.put(produits.get(produitId), ecart);
+            } else if (ecart < 0) {
+                baisses.put(produits.get(produitId), -ecart);
+            }
+        });
+    }
+
+    private static void verifierQuantite(int quantite) {
+        if (quantite <= 0) {
+            throw new IllegalArgumentException("Quantité invalide: " + quantite);
+        }
+    }
+
+    private static void verifierIndex(Commande commande, int index) {
+        if (index < 0 || index >= commande.getNombreLignes()) {
+            throw new IllegalArgumentException("Ligne " + (index + 1) + " inexistante");
+        }
+    }
+
+    public List<CommandeDTO> findByClientId(int clientId) {
+        return commandeRepository.findByClientId(clientId).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    public List<CommandeDTO> findByStatut(StatutCommande statut) {
+        return commandeRepository.findByStatut(statut).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    /**
+     * Commandes passées dans [debut, fin), par date croissante
+     * (borne null = non bornée)
+     */
+    public List<CommandeDTO> findByDateRange(LocalDateTime debut, LocalDateTime fin) {
+        return findByDateRange(debut, fin, null, null);
+    }
+
+    /**
+     * Fenêtre de dates filtrée par statut et/ou client (null = pas de filtre).
+     * Le repository lit l'index le plus sélectif (date, statut ou client)
+     * et filtre les seules commandes ainsi trouvées.
+     */
+    public List<CommandeDTO> findByDateRange(LocalDateTime debut, LocalDateTime fin,
+            StatutCommande statut, Integer clientId) {
+        Query.Builder<Commande> query = new Query.Builder<Commande>()
+                .where(Critere.entre(ICommandeRepository.DATE, debut, fin))
+                .orderBy(ICommandeRepository.DATE, true);
+        if (statut != null) {
+            query.where(Critere.egal(ICommandeRepository.STATUT, statut));
+        }
+        if (clientId != null) {
+            query.where(Critere.egal(ICommandeRepository.CLIENT, clientId));
+        }
+        return commandeRepository.query(query.build()).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    /**
+     * Récupère l'entité Commande (pour usage interne)
+     */
+    public Optional<Commande> findEntityById(int id) {
+        return commandeRepository.findById(id);
+    }
+
+    // ========== Réservations ==========
+
+    /**
+     * Stock mis de côté pour une commande en attente, avec son expiration
+     */
+    private final class Reservation implements Runnable {
+        private final int commandeId;
+        private final Map<Produit, Integer> quantites;
+        private volatile ScheduledFuture<?> expiration;
+
+        Reservation(int commandeId, Map<Produit, Integer> quantites) {
+            this.commandeId = commandeId;
+            this.quantites = quantites;
+        }
+
+        Map<Produit, Integer> quantites() {
+            return quantites;
+        }
+
+        /**
+         * À appeler une fois la réservation enregistrée dans la table
+         */
+        void armer() {
+            expiration = expirations.schedule(this, delaiReservation.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        void desarmer() {
+            ScheduledFuture<?> planifiee = expiration;
+            if (planifiee != null) {
+                planifiee.cancel(false);
+            }
+        }
+
+        /**
+         * Expiration: libère le stock si personne n'a repris la réservation
+         */
+        @Override
+        public void run() {
+            if (reservations.remove(commandeId, this)) {
+                stockService.appliquerMouvements(new LiberationStockStrategy(), quantites);
+            }
+        }
+    }
+
+    /**
+     * Réserve le stock des nouvelles commandes du lot (toutes en attente),
+     * tout ou rien
+     *
+     * @return les quantités réservées par produit
+     */
+    private Map<Produit, Integer> reserver(List<Commande> commandes) {
+        Map<Produit, Integer> quantites = quantitesParProduit(commandes);
+        stockService.appliquerMouvements(new ReservationStockStrategy(), quantites);
+        return quantites;
+    }
+
+    private void suivreReservation(Commande commande) {
+        if (commande.getStatut() == StatutCommande.EN_ATTENTE) {
+            suivreReservation(commande.getId(), quantitesParProduit(List.of(commande)));
+        }
+    }
+
+    private void suivreReservation(int commandeId, Map<Produit, Integer> quantites) {
+        Reservation reservation = new Reservation(commandeId, quantites);
+        reservations.put(commandeId, reservation);
+        reservation.armer();
+    }
+
+    /**
+     * Retire la réservation de la table; seul l'appelant qui l'obtient peut
+     * la confirmer ou la libérer
+     */
+    private Reservation reprendreReservation(int commandeId) {
+        Reservation reservation = reservations.remove(commandeId);
+        if (reservation != null) {
+            reservation.desarmer();
+        }
+        return reservation;
+    }
+
+    /**
+     * Réserve des produits sans réservation en mémoire (redémarrage sur un
+     * stockage durable): les commandes en attente, des plus récentes aux plus
+     * anciennes, reprennent la réserve encore disponible avec un délai
+     * complet; le reste appartenait à des réservations déjà expirées ou
+     * abandonnées et est libéré.
+     */
+    private void reprendreReservations() {
+        Map<Integer, Integer> reserveRestante = new HashMap<>();
+        Map<Integer, Produit> produits = new HashMap<>();
+        for (Produit produit : produitRepository.findAll()) {
+            if (produit.getStock() != null && produit.getStock().getReserve() > 0) {
+                reserveRestante.put(produit.getId(), produit.getStock().getReserve());
+                produits.put(produit.getId(), produit);
+            }
+        }
+        if (reserveRestante.isEmpty()) {
+            return;
+        }
+
+        List<Commande> enAttente = new ArrayList<>(commandeRepository.findByStatut(StatutCommande.EN_ATTENTE));
+        enAttente.sort((a, b) -> Integer.compare(b.getId(), a.getId()));
+        int reprises = 0;
+        for (Commande commande : enAttente) {
+            Map<Produit, Integer> quantites = quantitesParProduit(List.of(commande));
+            boolean couverte = quantites.entrySet().stream().allMatch(quantite ->
+                    reserveRestante.getOrDefault(quantite.getKey().getId(), 0) >= quantite.getValue());
+            if (couverte) {
+                quantites.forEach((produit, quantite) -> reserveRestante.merge(produit.getId(), -quantite, Integer::sum));
+                suivreReservation(commande.getId(), quantites);
+                reprises++;
+            }
+        }
+
+        Map<Produit, Integer> orphelines = new LinkedHashMap<>();
+        reserveRestante.forEach((id, quantite) -> {
+            if (quantite > 0) {
+                orphelines.put(produits.get(id), quantite);
+            }
+        });
+        if (!orphelines.isEmpty()) {
+            stockService.appliquerMouvements(new LiberationStockStrategy(), orphelines);
+        }
+        JOURNAL.log(System.Logger.Level.INFO, "Réservations reprises: {0} commande(s) en attente, "
+                + "réserve libérée sur {1} produit(s)", reprises, orphelines.size());
+    }
+
+    private void libererReservation(int commandeId) {
+        Reservation reservation = reprendreReservation(commandeId);
+        if (reservation != null) {
+            stockService.appliquerMouvements(new LiberationStockStrategy(), reservation.quantites());
+        }
+    }
+
+    /**
+     * Copie modifiée puis écrite par compare-and-set (voir ProduitService)
+     */
+    private Commande copieDeTravail(Commande existante, CommandeDTO dto) {
+        Commande copie = existante.copie();
+        if (dto.getVersion() > 0) {
+            copie.setVersion(dto.getVersion());
+        }
+        return copie;
+    }
+
+    /**
+     * Quantités cumulées par produit sur toutes les lignes des commandes
+     */
+    private Map<Produit, Integer> quantitesParProduit(List<Commande> commandes) {
+        // Regroupement par id: un repository peut renvoyer plusieurs instances
+        // d'un même produit (ex: MappedProduitRepository)
+        Map<Integer, Produit> produitsParId = new HashMap<>();
+        Map<Produit, Integer> quantites = new LinkedHashMap<>();
+        for (Commande commande : commandes) {
+            for (LigneCommande ligne : commande.getLignes()) {
+                Produit produit = produitsParId.computeIfAbsent(
+                        ligne.getProduit().getId(), id -> ligne.getProduit());
+                quantites.merge(produit, ligne.getQuantite(), Integer::sum);
+            }
+        }
+        return quantites;
+    }
+
+    // Mapping DTO <-> Entity
+    private CommandeDTO toDTO(Commande commande) {
+        // Client partagé entre commandes (voir Projections); lignes projetées
+        // seulement si elles sont lues
+        ClientDTO clientDTO = projections.client(commande.getClient());
+        List<LigneCommande> lignes = commande.getLignes();
+
+        return new CommandeDTO.Builder()
+                .id(commande.getId())
+                .version(commande.getVersion())
+                .client(clientDTO)
+                .lignes(lignes.size(), () -> toLignesDTO(lignes))
+                .dateCommande(commande.getDateCommande())
+                .statut(commande.getStatut().name())
+                .montantTotalCentimes(commande.getMontantTotalCentimes())
+                .build();
+    }
+
+    private List<LigneCommandeDTO> toLignesDTO(List<LigneCommande> lignes) {
+        List<LigneCommandeDTO> lignesDTO = new ArrayList<>(lignes.size());
+        for (LigneCommande ligne : lignes) {
+            lignesDTO.add(new LigneCommandeDTO(
+                    projections.produit(ligne.getProduit()),
+                    ligne.getQuantite(),
+                    ligne.getPrixUnitaireCentimes()));
+        }
+        return lignesDTO;
+    }
+
+    private EnTeteCommandeDTO toEnTete(Commande commande) {
+        return new EnTeteCommandeDTO(
+                commande.getId(),
+                commande.getVersion(),
+                projections.client(commande.getClient()),
+                commande.getDateCommande(),
+                commande.getStatut().name(),
+                commande.getMontantTotalCentimes(),
+                commande.getNombreLignes());
+    }
+
+    /**
+     * Nouvelle commande, en attente: son stock n'est sorti qu'à la
+     * validation (validerCommande)
+     */
+    private Commande toEntity(CommandeDTO dto) {
+        if (dto.getStatut() != null && StatutCommande.valueOf(dto.getStatut()) != StatutCommande.EN_ATTENTE) {
+            throw new IllegalStateException("Une nouvelle commande est créée en attente, pas "
+                    + dto.getStatut() + " (validerCommande pour la valider)");
+        }
+        // Récupérer le client depuis le repository
+        Client client = new Client.Builder()
+                .id(dto.getClient().getId())
+                .nom(dto.getClient().getNom())
+                .prenom(dto.getClient().getPrenom())
+                .email(dto.getClient().getEmail())
+                .telephone(dto.getClient().getTelephone())
+                .adresse(dto.getClient().getAdresse())
+                .build();
+
+        // Créer les lignes de commande
+        List<LigneCommande> lignes = dto.getLignes().stream()
+                .map(ligneDTO -> {
+                    Produit produit = produitRepository.findById(ligneDTO.getProduit().getId())
+                            .orElseThrow(() -> new IllegalStateException(
+                                    "Produit introuvable: " + ligneDTO.getProduit().getId()));
+
+                    return new LigneCommande(produit, ligneDTO.getQuantite());
+                })
+                .toList();
+
+        return new Commande.Builder()
+                .id(dto.getId())
+                .client(client)
+                .lignes(lignes)
+                .dateCommande(dto.getDateCommande() != null ? dto.getDateCommande() : LocalDateTime.now())
+                .statut(StatutCommande.EN_ATTENTE)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.miniprojet.service.impl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Exécuteur partagé des services asynchrones (Singleton)
+ *
+ * Choisi par la propriété système miniprojet.async.executeur:
+ * - "virtuel" (défaut): un thread virtuel par tâche; une attente sur un
+ * verrou du stockage (ReentrantLock, fsync groupé du journal) libère le
+ * thread porteur. Un appel système bloquant (fsync, écriture de fichier)
+ * occupe en revanche son porteur le temps de l'appel.
+ * - "fixe" ou "fixe:N": pool de N threads démons (N = nombre de cœurs par défaut)
+ */
+public class ExecuteurServices implements Executor {
+
+    public static final String PROPRIETE = "miniprojet.async.executeur";
+
+    private static volatile ExecuteurServices instance;
+
+    private final ExecutorService executeur;
+
+    private ExecuteurServices(ExecutorService executeur) {
+        this.executeur = executeur;
+    }
+
+    public static ExecuteurServices getInstance() {
+        if (instance == null) {
+            synchronized (ExecuteurServices.class) {
+                if (instance == null) {
+                    instance = new ExecuteurServices(creer(System.getProperty(PROPRIETE, "virtuel")));
+                }
+            }
+        }
+        return instance;
+    }
+
+    @Override
+    public void execute(Runnable tache) {
+        executeur.execute(tache);
+    }
+
+    static ExecutorService creer(String configuration) {
+        String valeur = configuration.trim().toLowerCase();
+        if (valeur.equals("virtuel")) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        if (valeur.equals("fixe") || valeur.startsWith("fixe:")) {
+            int threads = valeur.equals("fixe")
+                    ? Runtime.getRuntime().availableProcessors()
+                    : Integer.parseInt(valeur.substring("fixe:".length()));
+            if (threads <= 0) {
+                throw new IllegalArgumentException("Nombre de threads invalide: " + configuration);
+            }
+            return Executors.newFixedThreadPool(threads, tache -> {
+                Thread thread = new Thread(tache, "service-async");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        throw new IllegalArgumentException("Exécuteur inconnu (" + PROPRIETE + "): " + configuration);
+    }
+}
@@ -0,0 +1,310 @@
+package com.miniprojet.service.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.miniprojet.analytics.VentesMaterialisees;
+import com.miniprojet.ingestion.EnregistrementCommande;
+import com.miniprojet.ingestion.LecteurCommandes;
+import com.miniprojet.ingestion.RapportImport;
+import com.miniprojet.model.Client;
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.LigneCommande;
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.StatutCommande;
+import com.miniprojet.repository.IClientRepository;
+import com.miniprojet.repository.ICommandeRepository;
+import com.miniprojet.repository.IProduitRepository;
+import com.miniprojet.service.IImportCommandesService;
+import com.miniprojet.service.IStockService;
+import com.miniprojet.strategy.impl.EntreeStockStrategy;
+import com.miniprojet.strategy.impl.SortieStockStrategy;
+
+/**
+ * Pipeline d'import de commandes, sans passer par CommandeService.create
+ * commande par commande:
+ *
+ * 1. lecture: le fichier est lu en une passe
+ * 2. résolution: chaque client et chaque produit distinct du fichier est lu
+ * une seule fois dans son repository
+ * 3. validation: par paquets, sur un pool de threads
+ * 4. stock: répartition dans l'ordre du fichier, puis un seul mouvement
+ * groupé par produit (tout ou rien)
+ * 5. enregistrement: un seul saveAll (bloc d'ids réservé en une fois)
+ */
+public class ImportCommandesService implements IImportCommandesService {
+
+    private static final int TAILLE_PAQUET = 1_000;
+    // Nouvelles répartitions si le stock a bougé pendant l'import
+    private static final int ESSAIS_MAX = 3;
+
+    private final ICommandeRepository commandeRepository;
+    private final IProduitRepository produitRepository;
+    private final IClientRepository clientRepository;
+    private final IStockService stockService;
+    private final VentesMaterialisees ventes;
+
+    public ImportCommandesService(ICommandeRepository commandeRepository, IProduitRepository produitRepository,
+            IClientRepository clientRepository, IStockService stockService, VentesMaterialisees ventes) {
+        this.commandeRepository = commandeRepository;
+        this.produitRepository = produitRepository;
+        this.clientRepository = clientRepository;
+        this.stockService = stockService;
+        this.ventes = ventes;
+    }
+
+    /**
+     * Commande construite, avec l'enregistrement d'origine pour le rapport
+     */
+    private record Candidate(EnregistrementCommande source, Commande commande) {
+    }
+
+    @Override
+    public RapportImport importer(Path fichier) throws IOException {
+        RapportImport rapport = new RapportImport(fichier);
+        LecteurCommandes lecteur = LecteurCommandes.pour(fichier);
+
+        long debut = System.nanoTime();
+        List<EnregistrementCommande> enregistrements;
+        try (BufferedReader entree = Files.newBufferedReader(fichier)) {
+            enregistrements = lecteur.lire(entree, rapport);
+        }
+        rapport.setCommandesLues(enregistrements.size());
+        debut = etape(rapport, "lecture", debut);
+
+        Map<Integer, Produit> produits = resoudreProduits(enregistrements);
+        Map<String, Client> clients = resoudreClients(enregistrements);
+        debut = etape(rapport, "résolution clients/produits", debut);
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<Candidate> candidates = valider(enregistrements, produits, clients, rapport, threads);
+        debut = etape(rapport, "validation (" + threads + " threads)", debut);
+
+        Map<Produit, Integer> sorties = new LinkedHashMap<>();
+        List<Commande> acceptees = sortirStock(candidates, produits, sorties, rapport);
+        debut = etape(rapport, "stock (" + sorties.size() + " produits)", debut);
+
+        try {
+            ventes.enregistrer(List.of(), acceptees, () -> commandeRepository.saveAll(acceptees));
+        } catch (RuntimeException e) {
+            stockService.appliquerMouvements(new EntreeStockStrategy(), sorties);
+            throw e;
+        }
+        rapport.setCommandesImportees(acceptees.size());
+        etape(rapport, "enregistrement", debut);
+        return rapport;
+    }
+
+    // ========== Résolution ==========
+
+    private Map<Integer, Produit> resoudreProduits(List<EnregistrementCommande> enregistrements) {
+        Map<Integer, Produit> produits = new HashMap<>();
+        for (EnregistrementCommande enregistrement : enregistrements) {
+            for (EnregistrementCommande.LigneImportee ligne : enregistrement.lignes()) {
+                if (!produits.containsKey(ligne.produitId())) {
+                    produits.put(ligne.produitId(), produitRepository.findById(ligne.produitId()).orElse(null));
+                }
+            }
+        }
+        return produits;
+    }
+
+    /**
+     * Client désigné par son email ou par son id
+     */
+    private Map<String, Client> resoudreClients(List<EnregistrementCommande> enregistrements) {
+        Map<String, Client> clients = new HashMap<>();
+        for (EnregistrementCommande enregistrement : enregistrements) {
+            String cle = enregistrement.client();
+            if (cle != null && !clients.containsKey(cle)) {
+                clients.put(cle, trouverClient(cle));
+            }
+        }
+        return clients;
+    }
+
+    /**
+     * null si la clé ne désigne aucun client (vide, id hors des int, inconnu):
+     * seule la commande concernée est rejetée
+     */
+    private Client trouverClient(String cle) {
+        if (cle.isBlank()) {
+            return null;
+        }
+        if (!cle.chars().allMatch(Character::isDigit)) {
+            return clientRepository.findByEmail(cle).orElse(null);
+        }
+        try {
+            return clientRepository.findById(Integer.parseInt(cle)).orElse(null);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // ========== Validation ==========
+
+    private List<Candidate> valider(List<EnregistrementCommande> enregistrements, Map<Integer, Produit> produits,
+            Map<String, Client> clients, RapportImport rapport, int threads) {
+        long[] latences = new long[enregistrements.size()];
+        List<Future<List<Candidate>>> paquets = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (int debut = 0; debut < enregistrements.size(); debut += TAILLE_PAQUET) {
+                int premier = debut;
+                int fin = Math.min(debut + TAILLE_PAQUET, enregistrements.size());
+                paquets.add(pool.submit(() -> {
+                    List<Candidate> valides = new ArrayList<>(fin - premier);
+                    for (int i = premier; i < fin; i++) {
+                        long depart = System.nanoTime();
+                        Commande commande = construire(enregistrements.get(i), produits, clients, rapport);
+                        if (commande != null) {
+                            valides.add(new Candidate(enregistrements.get(i), commande));
+                        }
+                        latences[i] = System.nanoTime() - depart;
+                    }
+                    return valides;
+                }));
+            }
+
+            // Paquets repris dans l'ordre du fichier
+            List<Candidate> candidates = new ArrayList<>(enregistrements.size());
+            for (Future<List<Candidate>> paquet : paquets) {
+                candidates.addAll(paquet.get());
+            }
+            rapport.setLatences(latences);
+            return candidates;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrompu", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Validation impossible", e.getCause());
+        }
+    }
+
+    /**
+     * Commande validée prête à enregistrer, ou null (rejet ajouté au rapport)
+     */
+    private Commande construire(EnregistrementCommande enregistrement, Map<Integer, Produit> produits,
+            Map<String, Client> clients, RapportImport rapport) {
+        Client client = enregistrement.client() == null ? null : clients.get(enregistrement.client());
+        if (client == null) {
+            return rejeter(rapport, enregistrement, "Client inconnu: " + enregistrement.client());
+        }
+        if (enregistrement.lignes().isEmpty()) {
+            return rejeter(rapport, enregistrement, "Commande sans ligne");
+        }
+
+        List<LigneCommande> lignes = new ArrayList<>(enregistrement.lignes().size());
+        for (EnregistrementCommande.LigneImportee ligne : enregistrement.lignes()) {
+            Produit produit = produits.get(ligne.produitId());
+            if (produit == null) {
+                return rejeter(rapport, enregistrement, "Produit inconnu: " + ligne.produitId());
+            }
+            if (produit.getStock() == null) {
+                return rejeter(rapport, enregistrement, "Produit sans stock: " + ligne.produitId());
+            }
+            if (ligne.quantite() <= 0) {
+                return rejeter(rapport, enregistrement, "Quantité invalide: " + ligne.quantite());
+            }
+            lignes.add(new LigneCommande(produit, ligne.quantite()));
+        }
+
+        return new Commande.Builder()
+                .client(client)
+                .lignes(lignes)
+                .dateCommande(enregistrement.date() != null ? enregistrement.date() : LocalDateTime.now())
+                .statut(StatutCommande.VALIDEE)
+                .build();
+    }
+
+    private static Commande rejeter(RapportImport rapport, EnregistrementCommande enregistrement, String message) {
+        rapport.rejeter(enregistrement.ligne(), enregistrement.reference(), message);
+        return null;
+    }
+
+    // ========== Stock ==========
+
+    /**
+     * Répartit le stock disponible entre les commandes dans l'ordre du fichier
+     * et le sort en un mouvement groupé par produit. Si le stock a changé
+     * entre la lecture et le mouvement, la répartition est refaite.
+     *
+     * @param sorties reçoit les quantités sorties par produit
+     * @return les commandes servies
+     */
+    private List<Commande> sortirStock(List<Candidate> candidates, Map<Integer, Produit> produits,
+            Map<Produit, Integer> sorties, RapportImport rapport) {
+        for (int essai = 1;; essai++) {
+            Map<Integer, Integer> restants = new HashMap<>();
+            Map<Integer, Integer> totaux = new LinkedHashMap<>();
+            List<Commande> acceptees = new ArrayList<>(candidates.size());
+            List<Candidate> refusees = new ArrayList<>();
+            List<String> motifs = new ArrayList<>();
+
+            for (Candidate candidate : candidates) {
+                Map<Integer, Integer> besoins = new LinkedHashMap<>();
+                for (LigneCommande ligne : candidate.commande().getLignes()) {
+                    besoins.merge(ligne.getProduit().getId(), ligne.getQuantite(), Integer::sum);
+                }
+                String manque = null;
+                for (Map.Entry<Integer, Integer> besoin : besoins.entrySet()) {
+                    int restant = restants.computeIfAbsent(besoin.getKey(), this::disponible);
+                    if (restant < besoin.getValue()) {
+                        manque = "Stock insuffisant pour le produit " + besoin.getKey()
+                                + " (demandé " + besoin.getValue() + ", restant " + restant + ")";
+                        break;
+                    }
+                }
+                if (manque != null) {
+                    refusees.add(candidate);
+                    motifs.add(manque);
+                    continue;
+                }
+                besoins.forEach((id, quantite) -> {
+                    restants.merge(id, -quantite, Integer::sum);
+                    totaux.merge(id, quantite, Integer::sum);
+                });
+                acceptees.add(candidate.commande());
+            }
+
+            sorties.clear();
+            totaux.forEach((id, quantite) -> sorties.put(produits.get(id), quantite));
+            try {
+                stockService.appliquerMouvements(new SortieStockStrategy(), sorties);
+            } catch (IllegalStateException e) {
+                if (essai == ESSAIS_MAX) {
+                    throw e;
+                }
+                continue;
+            }
+
+            for (int i = 0; i < refusees.size(); i++) {
+                rejeter(rapport, refusees.get(i).source(), motifs.get(i));
+            }
+            return acceptees;
+        }
+    }
+
+    private int disponible(int produitId) {
+        return produitRepository.findById(produitId)
+                .map(produit -> produit.getStock().getDisponible())
+                .orElse(0);
+    }
+
+    private static long etape(RapportImport rapport, String nom, long debut) {
+        long fin = System.nanoTime();
+        rapport.etape(nom, fin - debut);
+        return fin;
+    }
+}
@@ -0,0 +1,214 @@
+package com.miniprojet.service.impl;
+
+import com.miniprojet.dto.ProduitDTO;
+import com.miniprojet.dto.ProduitDTOMapper;
+import com.miniprojet.exception.ProductNotFoundException;
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.Stock;
+import com.miniprojet.repository.IProduitRepository;
+import com.miniprojet.repository.index.InvertedIndex;
+import com.miniprojet.service.IProduitService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Service métier pour les produits
+ * Utilise les DTOs pour la couche de présentation
+ * Le repository est injecté via constructeur (Dependency Injection)
+ */
+public class ProduitService implements IProduitService {
+
+    private final IProduitRepository repository;
+    // Recherche plein texte sur nom et description, tenue à jour par ce service
+    private final InvertedIndex indexTexte = new InvertedIndex();
+    // DTOs partagés par les lignes de commande
+    private final Projections projections = Projections.getInstance();
+
+    public ProduitService(IProduitRepository repository) {
+        this.repository = repository;
+        repository.stream().forEach(this::indexer);
+    }
+
+    @Override
+    public List<ProduitDTO> listAll() {
+        return repository.findAll().stream()
+                .map(ProduitDTOMapper::versDTO).toList();
+    }
+
+    @Override
+    public List<ProduitDTO> listPage(int apresId, int limite) {
+        return repository.findPage(apresId, limite).stream()
+                .map(ProduitDTOMapper::versDTO)
+                .toList();
+    }
+
+    @Override
+    public Stream<ProduitDTO> streamAll() {
+        return repository.stream()
+                .map(ProduitDTOMapper::versDTO);
+    }
+
+    @Override
+    public ProduitDTO create(ProduitDTO dto) {
+        Produit produit = toEntity(dto);
+        Produit saved = repository.save(produit);
+        indexer(saved);
+        return ProduitDTOMapper.versDTO(saved);
+    }
+
+    @Override
+    public ProduitDTO clone(int id) throws ProductNotFoundException {
+        Produit original = repository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id));
+
+        Produit clone = original.clone();
+        clone.setName(clone.getName() + " (clone)");
+
+        Produit saved = repository.save(clone);
+        indexer(saved);
+        return ProduitDTOMapper.versDTO(saved);
+    }
+
+    @Override
+    public ProduitDTO update(int id, ProduitDTO dto) throws ProductNotFoundException {
+        Produit modifie = copieDeTravail(repository.findById(id)
+                .orElseThrow(() -> new ProductNotFoundException(id)), dto);
+
+        appliquerModifications(modifie, dto);
+        repository.update(modifie);
+        indexer(modifie);
+        projections.invaliderProduit(id);
+        return ProduitDTOMapper.versDTO(modifie);
+    }
+
+    @Override
+    public void delete(int id) throws ProductNotFoundException {
+        boolean removed = repository.delete(id);
+        if (!removed) {
+            throw new ProductNotFoundException(id);
+        }
+        indexTexte.retirer(id);
+        projections.invaliderProduit(id);
+    }
+
+    @Override
+    public Optional<ProduitDTO> findById(int id) {
+        return repository.findById(id)
+                .map(ProduitDTOMapper::versDTO);
+    }
+
+    @Override
+    public List<ProduitDTO> createAll(List<ProduitDTO> dtos) {
+        List<Produit> produits = new ArrayList<>(dtos.size());
+        for (ProduitDTO dto : dtos) {
+            produits.add(toEntity(dto));
+        }
+        List<Produit> saved = repository.saveAll(produits);
+        saved.forEach(this::indexer);
+        return saved.stream()
+                .map(ProduitDTOMapper::versDTO)
+                .toList();
+    }
+
+    @Override
+    public List<ProduitDTO> updateAll(List<ProduitDTO> dtos) throws ProductNotFoundException {
+        // Tout le lot est vérifié avant la première modification
+        List<Produit> existants = new ArrayList<>(dtos.size());
+        for (ProduitDTO dto : dtos) {
+            existants.add(copieDeTravail(repository.findById(dto.getId())
+                    .orElseThrow(() -> new ProductNotFoundException(dto.getId())), dto));
+        }
+
+        for (int i = 0; i < existants.size(); i++) {
+            appliquerModifications(existants.get(i), dtos.get(i));
+        }
+        repository.updateAll(existants);
+        existants.forEach(this::indexer);
+        existants.forEach(produit -> projections.invaliderProduit(produit.getId()));
+        return existants.stream()
+                .map(ProduitDTOMapper::versDTO)
+                .toList();
+    }
+
+    @Override
+    public void deleteAll(List<Integer> ids) throws ProductNotFoundException {
+        for (Integer id : ids) {
+            if (repository.findById(id).isEmpty()) {
+                throw new ProductNotFoundException(id);
+            }
+        }
+        repository.deleteAll(ids);
+        ids.forEach(indexTexte::retirer);
+        ids.forEach(projections::invaliderProduit);
+    }
+
+    @Override
+    public List<ProduitDTO> search(String requete, int limite) {
+        return indexTexte.rechercher(requete, limite).stream()
+                .map(resultat -> repository.findById(resultat.id()))
+                .flatMap(Optional::stream)
+                .map(ProduitDTOMapper::versDTO)
+                .toList();
+    }
+
+    /**
+     * Récupère l'entité Produit (pour usage interne)
+     */
+    public Optional<Produit> findEntityById(int id) {
+        return repository.findById(id);
+    }
+
+    /**
+     * Les modifications portent sur une copie: l'entité partagée n'est
+     * remplacée que par repository.update(), qui refuse une version périmée.
+     * Une version renseignée dans le DTO (lue par l'éditeur) est celle
+     * contrôlée à l'écriture.
+     */
+    private Produit copieDeTravail(Produit existing, ProduitDTO dto) {
+        Produit copie = existing.copie();
+        if (dto.getVersion() > 0) {
+            copie.setVersion(dto.getVersion());
+        }
+        return copie;
+    }
+
+    private void indexer(Produit produit) {
+        indexTexte.indexer(produit.getId(), produit.getName(), produit.getDescription());
+    }
+
+    private void appliquerModifications(Produit existing, ProduitDTO dto) {
+        existing.setName(dto.getName());
+        existing.setDescription(dto.getDescription());
+        existing.setPrixCentimes(dto.getPrixCentimes());
+
+        // Mise à jour du stock si fourni; la part réservée par les commandes
+        // en attente doit rester couverte
+        if (existing.getStock() != null) {
+            if (dto.getQuantiteStock() < existing.getStock().getReserve()) {
+                throw new IllegalStateException("Produit " + existing.getId() + ": quantité "
+                        + dto.getQuantiteStock() + " inférieure à la réserve des commandes en attente ("
+                        + existing.getStock().getReserve() + ")");
+            }
+            existing.getStock().setQuantite(dto.getQuantiteStock());
+        }
+    }
+
+    // Mapping DTO -> Entity (Entity -> DTO: mapper généré)
+    private Produit toEntity(ProduitDTO dto) {
+        Produit produit = new Produit.Builder()
+                .id(dto.getId())
+                .name(dto.getName())
+                .description(dto.getDescription())
+                .prixCentimes(dto.getPrixCentimes())
+                .build();
+
+        // Création du stock
+        Stock stock = new Stock(dto.getQuantiteStock(), dto.getSeuilAlerte());
+        produit.setStock(stock);
+
+        return produit;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.miniprojet.service.impl;
+
+import java.util.Objects;
+
+import com.miniprojet.dto.ClientDTO;
+import com.miniprojet.dto.ClientDTOMapper;
+import com.miniprojet.dto.ProduitDTO;
+import com.miniprojet.model.Client;
+import com.miniprojet.model.Produit;
+
+/**
+ * Singleton Pattern - Projections partagées entre services
+ *
+ * CommandeService projette le client et les produits de chaque commande;
+ * ProduitService et ClientService invalident les projections des entités
+ * qu'ils modifient ou suppriment.
+ */
+public final class Projections {
+
+    private static final Projections INSTANCE = new Projections();
+
+    // Produit tel qu'affiché dans une ligne de commande (sans le stock)
+    private final CacheProjections<Produit, ProduitDTO> produits = new CacheProjections<>(
+            produit -> new ProduitDTO.Builder()
+                    .id(produit.getId())
+                    .name(produit.getName())
+                    .description(produit.getDescription())
+                    .prixCentimes(produit.getPrixCentimes())
+                    .build(),
+            (dto, produit) -> dto.getPrixCentimes() == produit.getPrixCentimes()
+                    && Objects.equals(dto.getName(), produit.getName())
+                    && Objects.equals(dto.getDescription(), produit.getDescription()));
+
+    private final CacheProjections<Client, ClientDTO> clients = new CacheProjections<>(
+            ClientDTOMapper::versDTO,
+            (dto, client) -> Objects.equals(dto.getNom(), client.getNom())
+                    && Objects.equals(dto.getPrenom(), client.getPrenom())
+                    && Objects.equals(dto.getEmail(), client.getEmail())
+                    && Objects.equals(dto.getTelephone(), client.getTelephone())
+                    && Objects.equals(dto.getAdresse(), client.getAdresse()));
+
+    private Projections() {
+    }
+
+    public static Projections getInstance() {
+        return INSTANCE;
+    }
+
+    public ProduitDTO produit(Produit produit) {
+        return produits.projeter(produit);
+    }
+
+    public ClientDTO client(Client client) {
+        return clients.projeter(client);
+    }
+
+    public void invaliderProduit(int id) {
+        produits.invalider(id);
+    }
+
+    public void invaliderClient(int id) {
+        clients.invalider(id);
+    }
+}
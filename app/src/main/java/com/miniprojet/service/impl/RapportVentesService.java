@@ -0,0 +1,41 @@
+package com.miniprojet.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import com.miniprojet.analytics.AnalyseVentes;
+import com.miniprojet.analytics.RapportVentes;
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.StatutCommande;
+import com.miniprojet.repository.ICommandeRepository;
+import com.miniprojet.repository.query.Critere;
+import com.miniprojet.repository.query.Query;
+import com.miniprojet.service.IRapportVentesService;
+
+/**
+ * Le repository sélectionne la fenêtre de dates (et le statut s'il n'y en
+ * a qu'un) par index; l'agrégation se fait ensuite en parallèle sur le
+ * pool commun fork-join, sans passer par les DTOs.
+ */
+public class RapportVentesService implements IRapportVentesService {
+
+    private final ICommandeRepository commandeRepository;
+
+    public RapportVentesService(ICommandeRepository commandeRepository) {
+        this.commandeRepository = commandeRepository;
+    }
+
+    @Override
+    public RapportVentes calculer(LocalDateTime debut, LocalDateTime fin, Set<StatutCommande> statuts) {
+        Set<StatutCommande> retenus = statuts == null ? Set.of() : statuts;
+        Query.Builder<Commande> query = new Query.Builder<Commande>()
+                .where(Critere.entre(ICommandeRepository.DATE, debut, fin));
+        if (retenus.size() == 1) {
+            query.where(Critere.egal(ICommandeRepository.STATUT, retenus.iterator().next()));
+        }
+        List<Commande> commandes = commandeRepository.query(query.build());
+        return AnalyseVentes.analyser(commandes, retenus, debut, fin, ForkJoinPool.commonPool());
+    }
+}
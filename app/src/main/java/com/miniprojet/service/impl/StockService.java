@@ -0,0 +1,181 @@
+package com.miniprojet.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.miniprojet.exception.OptimisticLockException;
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.Stock;
+import com.miniprojet.observer.StockObserver;
+import com.miniprojet.observer.impl.StockSubject;
+import com.miniprojet.repository.IProduitRepository;
+import com.miniprojet.service.IStockService;
+import com.miniprojet.strategy.StockStrategy;
+
+/**
+ * Mouvements de stock
+ *
+ * - Verrous par tranche de produits (lock striping): un mouvement ne
+ * verrouille que les tranches de ses produits, deux produits sans rapport
+ * ne se bloquent donc que s'ils partagent une tranche
+ * - Un lot verrouille ses tranches dans l'ordre croissant (pas d'interblocage
+ * entre deux lots qui se chevauchent), vérifie toutes les lignes puis les écrit:
+ * tout ou rien
+ * - Les réservations des commandes (réserver / confirmer / libérer) sont des
+ * stratégies comme les autres et passent par les mêmes verrous
+ */
+public class StockService implements IStockService {
+
+    // Relectures autorisées quand un autre écrivain modifie le produit en même temps
+    private static final int ESSAIS_MAX = 5;
+    // Puissance de 2
+    private static final int TRANCHES = 256;
+
+    private final IProduitRepository produitRepository;
+    private volatile StockStrategy strategy;
+    private final StockSubject subject = new StockSubject();
+    private final ReentrantLock[] verrous = new ReentrantLock[TRANCHES];
+
+    public StockService(IProduitRepository produitRepository) {
+        this.produitRepository = produitRepository;
+        for (int i = 0; i < TRANCHES; i++) {
+            verrous[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public void setStrategy(StockStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    public void addObserver(StockObserver observer) {
+        subject.addObserver(observer);
+    }
+
+    @Override
+    public Produit appliquerMouvement(Produit produit, int quantite) {
+        Produit modifie = mouvementer(strategy, Map.of(produit.getId(), quantite)).get(0);
+        subject.notifyObservers(modifie);
+        return modifie;
+    }
+
+    @Override
+    public void appliquerMouvements(Map<Produit, Integer> mouvements) {
+        appliquerMouvements(strategy, mouvements);
+    }
+
+    @Override
+    public void appliquerMouvements(StockStrategy strategy, Map<Produit, Integer> mouvements) {
+        // Regroupées et triées par id: même ordre de traitement pour tous les lots
+        SortedMap<Integer, Integer> quantites = new TreeMap<>();
+        mouvements.forEach((produit, quantite) -> quantites.merge(produit.getId(), quantite, Integer::sum));
+        if (quantites.isEmpty()) {
+            return;
+        }
+        subject.notifyObservers(mouvementer(strategy, quantites));
+    }
+
+    /**
+     * Applique la stratégie à des copies des versions enregistrées puis les
+     * écrit, tranches verrouillées. Si une ligne est refusée par la stratégie,
+     * rien n'est écrit; si une écriture échoue (produit modifié hors de ce
+     * service), les lignes déjà écrites sont compensées et le lot recommence.
+     */
+    private List<Produit> mouvementer(StockStrategy strategy, Map<Integer, Integer> quantites) {
+        int[] tranches = tranches(quantites.keySet());
+        verrouiller(tranches);
+        try {
+            for (int essai = 1;; essai++) {
+                List<Produit> copies = new ArrayList<>(quantites.size());
+                // Écarts {quantité, réserve} appliqués à chaque produit
+                List<int[]> ecarts = new ArrayList<>(quantites.size());
+                quantites.forEach((id, quantite) -> {
+                    Produit copie = lire(id);
+                    Stock stock = copie.getStock();
+                    int quantiteAvant = stock.getQuantite();
+                    int reserveAvant = stock.getReserve();
+                    strategy.appliquer(stock, quantite);
+                    copies.add(copie);
+                    ecarts.add(new int[] { stock.getQuantite() - quantiteAvant, stock.getReserve() - reserveAvant });
+                });
+                try {
+                    ecrire(copies, ecarts);
+                    return copies;
+                } catch (OptimisticLockException e) {
+                    if (essai == ESSAIS_MAX) {
+                        throw e;
+                    }
+                }
+            }
+        } finally {
+            deverrouiller(tranches);
+        }
+    }
+
+    /**
+     * Écrit les copies dans l'ordre; en cas de conflit, retire aux produits
+     * déjà écrits l'écart qui leur a été appliqué avant de propager l'exception
+     */
+    private void ecrire(List<Produit> copies, List<int[]> ecarts) {
+        for (int i = 0; i < copies.size(); i++) {
+            try {
+                // Le repository enregistre le nouveau stock (journalisé s'il est durable)
+                produitRepository.update(copies.get(i));
+            } catch (OptimisticLockException e) {
+                for (int j = 0; j < i; j++) {
+                    compenser(copies.get(j).getId(), ecarts.get(j));
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void compenser(int id, int[] ecart) {
+        for (int essai = 1;; essai++) {
+            Produit copie = lire(id);
+            copie.getStock().setQuantite(copie.getStock().getQuantite() - ecart[0]);
+            copie.getStock().setReserve(copie.getStock().getReserve() - ecart[1]);
+            try {
+                produitRepository.update(copie);
+                return;
+            } catch (OptimisticLockException e) {
+                if (essai == ESSAIS_MAX) {
+                    throw new IllegalStateException("Compensation du stock impossible pour le produit " + id, e);
+                }
+            }
+        }
+    }
+
+    private Produit lire(int id) {
+        return produitRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("Produit introuvable: " + id))
+                .copie();
+    }
+
+    private static int[] tranches(Iterable<Integer> ids) {
+        TreeSet<Integer> tranches = new TreeSet<>();
+        for (int id : ids) {
+            int h = id * 0x9E3779B9;
+            tranches.add((h ^ (h >>> 16)) & (TRANCHES - 1));
+        }
+        return tranches.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void verrouiller(int[] tranches) {
+        for (int tranche : tranches) {
+            verrous[tranche].lock();
+        }
+    }
+
+    private void deverrouiller(int[] tranches) {
+        for (int i = tranches.length - 1; i >= 0; i--) {
+            verrous[tranches[i]].unlock();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.miniprojet.strategy.impl;
+
+import com.miniprojet.model.Stock;
+import com.miniprojet.strategy.StockStrategy;
+
+/**
+ * Sortie d'une quantité réservée (commande validée): le stock physique et
+ * la réserve diminuent ensemble
+ */
+public class ConfirmationStockStrategy implements StockStrategy {
+
+    @Override
+    public void appliquer(Stock stock, int quantite) {
+        if (stock.getReserve() < quantite || stock.getQuantite() < quantite) {
+            throw new IllegalStateException("Réservation insuffisante !");
+        }
+        stock.setQuantite(stock.getQuantite() - quantite);
+        stock.setReserve(stock.getReserve() - quantite);
+    }
+}
@@ -0,0 +1,15 @@
+package com.miniprojet.strategy.impl;
+
+import com.miniprojet.model.Stock;
+import com.miniprojet.strategy.StockStrategy;
+
+/**
+ * Rend disponible une quantité réservée (commande annulée ou réservation expirée)
+ */
+public class LiberationStockStrategy implements StockStrategy {
+
+    @Override
+    public void appliquer(Stock stock, int quantite) {
+        stock.setReserve(Math.max(0, stock.getReserve() - quantite));
+    }
+}
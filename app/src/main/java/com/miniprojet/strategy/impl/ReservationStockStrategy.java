@@ -0,0 +1,18 @@
+package com.miniprojet.strategy.impl;
+
+import com.miniprojet.model.Stock;
+import com.miniprojet.strategy.StockStrategy;
+
+/**
+ * Met de côté une quantité pour une commande en attente
+ */
+public class ReservationStockStrategy implements StockStrategy {
+
+    @Override
+    public void appliquer(Stock stock, int quantite) {
+        if (stock.getDisponible() < quantite) {
+            throw new IllegalStateException("Stock insuffisant !");
+        }
+        stock.setReserve(stock.getReserve() + quantite);
+    }
+}
@@ -7,7 +7,8 @@ public class SortieStockStrategy implements StockStrategy {
 
     @Override
     public void appliquer(Stock stock, int quantite) {
-        if (stock.getQuantite() < quantite) {
+        // La part réservée aux commandes en attente n'est pas sortable
+        if (stock.getDisponible() < quantite) {
             throw new IllegalStateException("Stock insuffisant !");
         }
         stock.setQuantite(stock.getQuantite() - quantite);
@@ -1,6 +1,7 @@
 package com.miniprojet.view;
 
 import com.miniprojet.dto.ClientDTO;
+import com.miniprojet.exception.OptimisticLockException;
 import com.miniprojet.exception.ProductNotFoundException;
 import com.miniprojet.service.impl.ClientService;
 
@@ -10,6 +11,8 @@ import java.util.Scanner;
 
 public class ClientView {
 
+    private static final int TAILLE_PAGE = 20;
+
     private final ClientService clientService;
     private final Scanner scanner;
 
@@ -47,16 +50,29 @@ public class ClientView {
     }
 
     private void listerClients() {
-        List<ClientDTO> clients = clientService.listAll();
-        if (clients.isEmpty()) {
-            System.out.println("Aucun client.");
-            return;
+        int dernierId = 0;
+        while (true) {
+            List<ClientDTO> page = clientService.listPage(dernierId, TAILLE_PAGE);
+            if (page.isEmpty()) {
+                if (dernierId == 0) {
+                    System.out.println("Aucun client.");
+                }
+                return;
+            }
+            page.forEach(dto -> System.out.println(
+                    "ID: " + dto.getId() +
+                            " | " + dto.getNomComplet() +
+                            " | " + dto.getEmail() +
+                            " | " + dto.getTelephone()));
+            dernierId = page.get(page.size() - 1).getId();
+            if (page.size() < TAILLE_PAGE) {
+                return;
+            }
+            System.out.print("Entrée = page suivante, 0 = arrêter: ");
+            if ("0".equals(scanner.nextLine().trim())) {
+                return;
+            }
         }
-        clients.forEach(dto -> System.out.println(
-                "ID: " + dto.getId() +
-                        " | " + dto.getNomComplet() +
-                        " | " + dto.getEmail() +
-                        " | " + dto.getTelephone()));
     }
 
     private void creerClient() {
@@ -126,6 +142,7 @@ public class ClientView {
 
         ClientDTO updated = new ClientDTO.Builder()
                 .id(existing.getId())
+                .version(existing.getVersion())
                 .nom(nom.isBlank() ? existing.getNom() : nom)
                 .prenom(prenom.isBlank() ? existing.getPrenom() : prenom)
                 .email(email.isBlank() ? existing.getEmail() : email)
@@ -138,6 +155,8 @@ public class ClientView {
             System.out.println("✓ Client mis à jour: " + result.getNomComplet());
         } catch (ProductNotFoundException e) {
             System.out.println(e.getMessage());
+        } catch (OptimisticLockException e) {
+            System.out.println("Modifié entre-temps par un autre utilisateur, rechargez-le: " + e.getMessage());
         }
     }
 
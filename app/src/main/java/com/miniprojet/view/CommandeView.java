@@ -2,16 +2,19 @@ package com.miniprojet.view;
 
 import com.miniprojet.dto.ClientDTO;
 import com.miniprojet.dto.CommandeDTO;
+import com.miniprojet.dto.EnTeteCommandeDTO;
 import com.miniprojet.dto.LigneCommandeDTO;
 import com.miniprojet.dto.ProduitDTO;
 import com.miniprojet.exception.ProductNotFoundException;
 import com.miniprojet.model.Client;
+import com.miniprojet.model.Monnaie;
 import com.miniprojet.model.Produit;
 import com.miniprojet.model.StatutCommande;
 import com.miniprojet.service.impl.ClientService;
 import com.miniprojet.service.impl.CommandeService;
 import com.miniprojet.service.impl.ProduitService;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +22,8 @@ import java.util.Scanner;
 
 public class CommandeView {
 
+    private static final int TAILLE_PAGE = 20;
+
     private final CommandeService commandeService;
     private final ClientService clientService;
     private final ProduitService produitService;
@@ -43,6 +48,8 @@ public class CommandeView {
         System.out.println("5) Voir les commandes d'un client");
         System.out.println("6) Voir les commandes par statut");
         System.out.println("7) Cloner une commande");
+        System.out.println("8) Voir les commandes des dernières heures");
+        System.out.println("9) Modifier les lignes d'une commande en attente");
         System.out.println("0) Retour");
         System.out.print("Choix: ");
     }
@@ -57,6 +64,8 @@ public class CommandeView {
                 case "5" -> commandesParClient();
                 case "6" -> commandesParStatut();
                 case "7" -> clonerCommande();
+                case "8" -> commandesRecentes();
+                case "9" -> modifierLignes();
                 case "0" -> {
                 }
                 default -> System.out.println("Choix invalide.");
@@ -67,12 +76,26 @@ public class CommandeView {
     }
 
     private void listerCommandes() {
-        List<CommandeDTO> commandes = commandeService.listAll();
-        if (commandes.isEmpty()) {
-            System.out.println("Aucune commande.");
-            return;
+        int dernierId = 0;
+        while (true) {
+            // En-têtes seulement: les lignes se consultent par client, statut ou date
+            List<EnTeteCommandeDTO> page = commandeService.listEnTetes(dernierId, TAILLE_PAGE);
+            if (page.isEmpty()) {
+                if (dernierId == 0) {
+                    System.out.println("Aucune commande.");
+                }
+                return;
+            }
+            page.forEach(this::afficherEnTete);
+            dernierId = page.get(page.size() - 1).getId();
+            if (page.size() < TAILLE_PAGE) {
+                return;
+            }
+            System.out.print("Entrée = page suivante, 0 = arrêter: ");
+            if ("0".equals(scanner.nextLine().trim())) {
+                return;
+            }
         }
-        commandes.forEach(this::afficherCommande);
     }
 
     private void creerCommande() {
@@ -117,7 +140,7 @@ public class CommandeView {
             System.out.println("\nProduits disponibles:");
             produits.forEach(p -> System.out.println(
                     p.getId() + " - " + p.getName() +
-                            " (Stock: " + p.getQuantiteStock() + ", Prix: " + p.getPrice() + " FCFA)"));
+                            " (Stock: " + p.getQuantiteStock() + ", Prix: " + Monnaie.formater(p.getPrixCentimes()) + " FCFA)"));
 
             System.out.print("ID du produit (0 pour terminer): ");
             int produitId = Integer.parseInt(scanner.nextLine());
@@ -142,7 +165,7 @@ public class CommandeView {
                 continue;
             }
 
-            lignes.add(new LigneCommandeDTO(produit, quantite, produit.getPrice()));
+            lignes.add(new LigneCommandeDTO(produit, quantite, produit.getPrixCentimes()));
             System.out.println("✓ Ligne ajoutée!");
         }
 
@@ -224,6 +247,28 @@ public class CommandeView {
         }
     }
 
+    private void commandesRecentes() {
+        System.out.print("Nombre d'heures (24 = dernier jour): ");
+        int heures = Integer.parseInt(scanner.nextLine().trim());
+        System.out.print("Statut (Entrée = tous): ");
+        String statutStr = scanner.nextLine().trim().toUpperCase();
+
+        try {
+            StatutCommande statut = statutStr.isEmpty() ? null : StatutCommande.valueOf(statutStr);
+            List<CommandeDTO> commandes = commandeService.findByDateRange(
+                    LocalDateTime.now().minusHours(heures), null, statut, null);
+
+            if (commandes.isEmpty()) {
+                System.out.println("Aucune commande sur cette période.");
+                return;
+            }
+
+            commandes.forEach(this::afficherCommande);
+        } catch (IllegalArgumentException e) {
+            System.out.println("Statut invalide.");
+        }
+    }
+
     private void clonerCommande() {
         System.out.print("ID de la commande à cloner: ");
         int id = Integer.parseInt(scanner.nextLine());
@@ -237,6 +282,63 @@ public class CommandeView {
         }
     }
 
+    private void modifierLignes() {
+        System.out.print("ID de la commande: ");
+        int id = Integer.parseInt(scanner.nextLine());
+
+        try {
+            Optional<CommandeDTO> commande = commandeService.findById(id);
+            if (commande.isEmpty()) {
+                System.out.println("Commande introuvable.");
+                return;
+            }
+            List<LigneCommandeDTO> lignes = commande.get().getLignes();
+            for (int i = 0; i < lignes.size(); i++) {
+                System.out.println((i + 1) + ") " + lignes.get(i).getProduit().getName()
+                        + " x" + lignes.get(i).getQuantite());
+            }
+            System.out.print("a = ajouter, r = retirer, q = changer la quantité: ");
+            String action = scanner.nextLine().trim().toLowerCase();
+
+            CommandeDTO modifiee;
+            switch (action) {
+                case "a" -> {
+                    System.out.print("ID du produit: ");
+                    int produitId = Integer.parseInt(scanner.nextLine());
+                    System.out.print("Quantité: ");
+                    modifiee = commandeService.ajouterLigne(id, produitId, Integer.parseInt(scanner.nextLine()));
+                }
+                case "r" -> {
+                    System.out.print("N° de la ligne: ");
+                    modifiee = commandeService.retirerLigne(id, Integer.parseInt(scanner.nextLine()) - 1);
+                }
+                case "q" -> {
+                    System.out.print("N° de la ligne: ");
+                    int index = Integer.parseInt(scanner.nextLine()) - 1;
+                    System.out.print("Nouvelle quantité: ");
+                    modifiee = commandeService.modifierQuantite(id, index, Integer.parseInt(scanner.nextLine()));
+                }
+                default -> {
+                    System.out.println("Action invalide.");
+                    return;
+                }
+            }
+            System.out.println("✓ Lignes modifiées:");
+            afficherCommande(modifiee);
+        } catch (ProductNotFoundException e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
+    private void afficherEnTete(EnTeteCommandeDTO commande) {
+        System.out.println("#" + commande.getId() +
+                " | " + commande.getClient().getNomComplet() +
+                " | " + commande.getDateCommande() +
+                " | " + commande.getStatut() +
+                " | " + commande.getNombreLignes() + " ligne(s)" +
+                " | " + Monnaie.formater(commande.getMontantTotalCentimes()) + " FCFA");
+    }
+
     private void afficherCommande(CommandeDTO commande) {
         System.out.println("\n" + "=".repeat(50));
         System.out.println("Commande #" + commande.getId());
@@ -247,8 +349,8 @@ public class CommandeView {
         System.out.println("\nLignes:");
         commande.getLignes().forEach(ligne -> System.out.println("  - " + ligne.getProduit().getName() +
                 " x" + ligne.getQuantite() +
-                " = " + ligne.getSousTotal() + " FCFA"));
-        System.out.println("\nMontant total: " + commande.getMontantTotal() + " FCFA");
+                " = " + Monnaie.formater(ligne.getSousTotalCentimes()) + " FCFA"));
+        System.out.println("\nMontant total: " + Monnaie.formater(commande.getMontantTotalCentimes()) + " FCFA");
         System.out.println("=".repeat(50));
     }
 }
\ No newline at end of file
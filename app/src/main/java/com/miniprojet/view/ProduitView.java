@@ -5,7 +5,9 @@ import java.util.Optional;
 import java.util.Scanner;
 
 import com.miniprojet.dto.ProduitDTO;
+import com.miniprojet.exception.OptimisticLockException;
 import com.miniprojet.exception.ProductNotFoundException;
+import com.miniprojet.model.Monnaie;
 import com.miniprojet.model.Produit;
 import com.miniprojet.observer.impl.StockAlertObserver;
 import com.miniprojet.service.IStockService;
@@ -14,6 +16,8 @@ import com.miniprojet.strategy.impl.EntreeStockStrategy;
 import com.miniprojet.strategy.impl.SortieStockStrategy;
 
 public class ProduitView {
+    private static final int TAILLE_PAGE = 20;
+
     private ProduitService produitService;
     private IStockService stockService;
 
@@ -40,6 +44,7 @@ public class ProduitView {
                     case "5" -> deleteProduct();
                     case "6" -> entreeStock();
                     case "7" -> sortieStock();
+                    case "8" -> rechercherProduits();
                     case "0" -> {
                         running = false;
                         System.out.println("Retour au menu principal");
@@ -62,23 +67,52 @@ public class ProduitView {
         System.out.println("5) Supprimer un produit");
         System.out.println("6) Entrée de stock");
         System.out.println("7) Sortie de stock");
+        System.out.println("8) Rechercher un produit");
         System.out.println("0) Retour");
         System.out.print("Choix: ");
     }
 
     private void listProducts() {
-        List<ProduitDTO> list = produitService.listAll();
-        if (list.isEmpty()) {
-            System.out.println("Aucun produit.");
+        int dernierId = 0;
+        while (true) {
+            List<ProduitDTO> page = produitService.listPage(dernierId, TAILLE_PAGE);
+            if (page.isEmpty()) {
+                if (dernierId == 0) {
+                    System.out.println("Aucun produit.");
+                }
+                return;
+            }
+            page.forEach(dto -> System.out.println(
+                    "ID: " + dto.getId() +
+                            " | " + dto.getName() +
+                            " | " + dto.getDescription() +
+                            " | Prix: " + Monnaie.formater(dto.getPrixCentimes()) +
+                            " | Stock: " + dto.getQuantiteStock() +
+                            (dto.getQuantiteReservee() > 0 ? " (réservé: " + dto.getQuantiteReservee() + ")" : "") +
+                            (dto.isStockFaible() ? " ⚠️ FAIBLE" : "")));
+            dernierId = page.get(page.size() - 1).getId();
+            if (page.size() < TAILLE_PAGE) {
+                return;
+            }
+            System.out.print("Entrée = page suivante, 0 = arrêter: ");
+            if ("0".equals(scanner.nextLine().trim())) {
+                return;
+            }
+        }
+    }
+
+    private void rechercherProduits() {
+        System.out.print("Mots recherchés (mot* pour un préfixe): ");
+        List<ProduitDTO> resultats = produitService.search(scanner.nextLine(), TAILLE_PAGE);
+        if (resultats.isEmpty()) {
+            System.out.println("Aucun produit trouvé.");
             return;
         }
-        list.forEach(dto -> System.out.println(
+        resultats.forEach(dto -> System.out.println(
                 "ID: " + dto.getId() +
                         " | " + dto.getName() +
                         " | " + dto.getDescription() +
-                        " | Prix: " + dto.getPrice() +
-                        " | Stock: " + dto.getQuantiteStock() +
-                        (dto.isStockFaible() ? " ⚠️ FAIBLE" : "")));
+                        " | Prix: " + Monnaie.formater(dto.getPrixCentimes())));
     }
 
     private void createProduct() {
@@ -90,7 +124,7 @@ public class ProduitView {
         String desc = scanner.nextLine();
 
         System.out.print("Prix: ");
-        double price = Double.parseDouble(scanner.nextLine());
+        long prixCentimes = Monnaie.lire(scanner.nextLine());
 
         System.out.print("Stock initial: ");
         int quantite = Integer.parseInt(scanner.nextLine());
@@ -101,7 +135,7 @@ public class ProduitView {
         ProduitDTO dto = new ProduitDTO.Builder()
                 .name(name)
                 .description(desc)
-                .price(price)
+                .prixCentimes(prixCentimes)
                 .quantiteStock(quantite)
                 .seuilAlerte(seuil)
                 .build();
@@ -124,9 +158,9 @@ public class ProduitView {
         int qte = Integer.parseInt(scanner.nextLine());
 
         stockService.setStrategy(new EntreeStockStrategy());
-        stockService.appliquerMouvement(opt.get(), qte);
+        Produit modifie = stockService.appliquerMouvement(opt.get(), qte);
 
-        System.out.println("✓ Stock mis à jour: " + opt.get().getStock());
+        System.out.println("✓ Stock mis à jour: " + modifie.getStock());
     }
 
     private void sortieStock() {
@@ -144,8 +178,8 @@ public class ProduitView {
 
         try {
             stockService.setStrategy(new SortieStockStrategy());
-            stockService.appliquerMouvement(opt.get(), qte);
-            System.out.println("✓ Stock mis à jour: " + opt.get().getStock());
+            Produit modifie = stockService.appliquerMouvement(opt.get(), qte);
+            System.out.println("✓ Stock mis à jour: " + modifie.getStock());
         } catch (Exception e) {
             System.out.println("Erreur: " + e.getMessage());
         }
@@ -184,13 +218,14 @@ public class ProduitView {
 
         String newName = name.isBlank() ? existing.getName() : name;
         String newDesc = desc.isBlank() ? existing.getDescription() : desc;
-        double newPrice = priceStr.isBlank() ? existing.getPrice() : Double.parseDouble(priceStr);
+        long newPrice = priceStr.isBlank() ? existing.getPrixCentimes() : Monnaie.lire(priceStr);
 
         ProduitDTO updated = new ProduitDTO.Builder()
                 .id(existing.getId())
+                .version(existing.getVersion())
                 .name(newName)
                 .description(newDesc)
-                .price(newPrice)
+                .prixCentimes(newPrice)
                 .quantiteStock(existing.getQuantiteStock())
                 .seuilAlerte(existing.getSeuilAlerte())
                 .build();
@@ -200,6 +235,8 @@ public class ProduitView {
             System.out.println("✓ Produit mis à jour: " + result.getName());
         } catch (ProductNotFoundException e) {
             System.out.println(e.getMessage());
+        } catch (OptimisticLockException e) {
+            System.out.println("Modifié entre-temps par un autre utilisateur, rechargez-le: " + e.getMessage());
         }
     }
 
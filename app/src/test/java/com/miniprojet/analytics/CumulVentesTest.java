@@ -0,0 +1,77 @@
+package com.miniprojet.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CumulVentesTest {
+
+    @Test
+    void cumuleParCle() {
+        CumulVentes cumul = new CumulVentes();
+        cumul.ajouter(7, 1000, 2);
+        cumul.ajouter(3, 500, 1);
+        cumul.ajouter(7, 250, 1);
+
+        assertEquals(2, cumul.taille());
+        assertEquals(List.of(new RapportVentes.Cumul(3, 500, 1), new RapportVentes.Cumul(7, 1250, 3)),
+                tries(cumul));
+    }
+
+    @Test
+    void sAgranditSansPerdreLesCumuls() {
+        CumulVentes cumul = new CumulVentes();
+        for (int tour = 0; tour < 2; tour++) {
+            for (int cle = -500; cle < 500; cle++) {
+                cumul.ajouter(cle, cle * 10L, 1);
+            }
+        }
+
+        assertEquals(1000, cumul.taille());
+        List<RapportVentes.Cumul> cumuls = tries(cumul);
+        for (int i = 0; i < cumuls.size(); i++) {
+            int cle = i - 500;
+            assertEquals(new RapportVentes.Cumul(cle, cle * 20L, 2), cumuls.get(i));
+        }
+    }
+
+    @Test
+    void laCleQuiAgranditGardeSonMontant() {
+        CumulVentes cumul = new CumulVentes(8);
+        for (int cle = 1; cle <= 13; cle++) {
+            cumul.ajouter(cle, cle, 1);
+        }
+
+        assertEquals(13, cumul.taille());
+        assertEquals(new RapportVentes.Cumul(13, 13, 1), tries(cumul).get(12));
+    }
+
+    @Test
+    void fusionneDansLePlusGrand() {
+        CumulVentes a = new CumulVentes();
+        CumulVentes b = new CumulVentes();
+        a.ajouter(1, 100, 1);
+        b.ajouter(1, 50, 2);
+        b.ajouter(2, 10, 1);
+
+        CumulVentes fusion = a.fusionner(b);
+
+        assertEquals(List.of(new RapportVentes.Cumul(1, 150, 3), new RapportVentes.Cumul(2, 10, 1)),
+                tries(fusion));
+    }
+
+    @Test
+    void refuseLaCleReservee() {
+        CumulVentes cumul = new CumulVentes();
+
+        assertThrows(IllegalArgumentException.class, () -> cumul.ajouter(Integer.MIN_VALUE, 1, 1));
+    }
+
+    private static List<RapportVentes.Cumul> tries(CumulVentes cumul) {
+        return cumul.cumuls().stream().sorted(Comparator.comparingInt(RapportVentes.Cumul::cle)).toList();
+    }
+}
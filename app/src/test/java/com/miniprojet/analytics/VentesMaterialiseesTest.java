@@ -0,0 +1,103 @@
+package com.miniprojet.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.miniprojet.model.Client;
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.LigneCommande;
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.StatutCommande;
+import com.miniprojet.repository.impl.ConcurrentCommandeRepository;
+
+class VentesMaterialiseesTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2026, 5, 4, 9, 30);
+
+    private final Client client = new Client.Builder().id(7).nom("Ba").prenom("Awa").email("awa@x.sn").build();
+    private final Produit lampe = new Produit.Builder().id(1).name("Lampe").prixCentimes(2500).build();
+    private final Produit table = new Produit.Builder().id(2).name("Table").prixCentimes(10000).build();
+
+    private ConcurrentCommandeRepository commandes;
+    private VentesMaterialisees ventes;
+
+    @BeforeEach
+    void creerVentes() {
+        commandes = new ConcurrentCommandeRepository();
+        // Commande déjà présente: comptée à la construction
+        commandes.save(commande(StatutCommande.VALIDEE, 2, 0));
+        ventes = new VentesMaterialisees(commandes);
+    }
+
+    @Test
+    void lesEcrituresEnregistreesTiennentLesCompteursAJour() {
+        Commande creee = commande(StatutCommande.EN_ATTENTE, 1, 1);
+        ventes.enregistrer(List.of(), List.of(creee), () -> commandes.save(creee));
+
+        assertEquals(5000 + 12500, ventes.getChiffreAffairesCentimes());
+        assertEquals(7500, ventes.getChiffreAffairesProduit(lampe.getId()));
+        assertEquals(10000, ventes.getChiffreAffairesProduit(table.getId()));
+        assertEquals(17500, ventes.getChiffreAffairesClient(client.getId()));
+        assertEquals(17500, ventes.getChiffreAffairesJour(DATE.toLocalDate()));
+        assertEquals(1, ventes.getNombreCommandes(StatutCommande.EN_ATTENTE));
+
+        Commande annulee = creee.copie();
+        annulee.setStatut(StatutCommande.ANNULEE);
+        ventes.enregistrer(List.of(creee), List.of(annulee), () -> commandes.update(annulee));
+
+        assertEquals(5000, ventes.getChiffreAffairesCentimes());
+        assertEquals(0, ventes.getChiffreAffairesProduit(table.getId()));
+        assertEquals(0, ventes.getNombreCommandes(StatutCommande.EN_ATTENTE));
+        assertEquals(12500, ventes.getMontantStatut(StatutCommande.ANNULEE));
+
+        assertTrue(ventes.retirer(List.of(annulee), () -> commandes.delete(annulee.getId())));
+        assertEquals(0, ventes.getNombreCommandes(StatutCommande.ANNULEE));
+
+        assertTrue(ventes.verifier());
+        assertEquals(0, ventes.getDerives());
+    }
+
+    @Test
+    void uneEcritureEchoueeNestPasComptee() {
+        Commande creee = commande(StatutCommande.EN_ATTENTE, 1, 0);
+
+        assertThrows(IllegalStateException.class, () -> ventes.enregistrer(List.of(), List.of(creee), () -> {
+            throw new IllegalStateException("Refusée");
+        }));
+
+        assertEquals(5000, ventes.getChiffreAffairesCentimes());
+        assertTrue(ventes.verifier());
+    }
+
+    @Test
+    void laVerificationCorrigeUneEcritureQuiAContourneLesCompteurs() {
+        commandes.save(commande(StatutCommande.VALIDEE, 4, 0));
+        assertEquals(5000, ventes.getChiffreAffairesCentimes());
+
+        assertFalse(ventes.verifier());
+
+        assertEquals(1, ventes.getDerives());
+        assertEquals(15000, ventes.getChiffreAffairesCentimes());
+        assertEquals(15000, ventes.getChiffreAffairesProduit(lampe.getId()));
+        assertEquals(2, ventes.getNombreCommandes(StatutCommande.VALIDEE));
+        assertTrue(ventes.verifier());
+        assertEquals(1, ventes.getDerives());
+    }
+
+    private Commande commande(StatutCommande statut, int lampes, int tables) {
+        Commande.Builder builder = new Commande.Builder().client(client).statut(statut).dateCommande(DATE)
+                .ajouterLigne(new LigneCommande(lampe, lampes));
+        if (tables > 0) {
+            builder.ajouterLigne(new LigneCommande(table, tables));
+        }
+        return builder.build();
+    }
+}
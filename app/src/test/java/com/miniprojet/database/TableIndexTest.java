@@ -0,0 +1,136 @@
+package com.miniprojet.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.miniprojet.exception.OptimisticLockException;
+import com.miniprojet.model.Client;
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.LigneCommande;
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.StatutCommande;
+
+class TableIndexTest {
+
+    private Table<Client> table;
+    private TableIndex<Client, String> parEmail;
+    private TableIndex<Client, String> parNom;
+
+    @BeforeEach
+    void creerTable() {
+        table = new Table<>("clients", 16);
+        parEmail = table.creerIndex("email", Client::getEmail, true);
+        parNom = table.creerIndexTrie("nom", Client::getNom);
+        for (String nom : List.of("Diallo", "Ba", "Sow", "Fall", "Ndiaye", "Ba")) {
+            table.inserer(client(nom, nom.toLowerCase() + table.taille() + "@x.sn"));
+        }
+    }
+
+    @Test
+    void indexUniqueRefuseUneCleDejaPriseSansRienEcrire() {
+        assertThrows(IllegalStateException.class, () -> table.inserer(client("Kane", "diallo0@x.sn")));
+        assertEquals(6, table.taille());
+
+        Client copie = table.chercherUnique(parEmail, "sow2@x.sn").orElseThrow();
+        Client modifie = new Client.Builder().id(copie.getId()).nom("Sow").prenom("p").email("ba1@x.sn").build();
+        modifie.setVersion(copie.getVersion());
+        assertThrows(IllegalStateException.class, () -> table.ecrire(modifie));
+        assertEquals("sow2@x.sn", table.get(copie.getId()).getEmail());
+    }
+
+    @Test
+    void indexUniqueRefuseUnDoublonDansUnLot() {
+        List<Client> lot = List.of(client("Kane", "kane@x.sn"), client("Kane", "kane@x.sn"));
+
+        assertThrows(IllegalStateException.class, () -> table.insererTout(lot));
+        assertEquals(6, table.taille());
+    }
+
+    @Test
+    void indexTrieSertLesIntervallesParCleCroissante() {
+        assertEquals(List.of("Ba", "Ba", "Diallo"), noms(table.chercherIntervalle(parNom, "B", "E")));
+        assertEquals(List.of("Ndiaye", "Sow"), noms(table.chercherIntervalle(parNom, "N", null)));
+        assertEquals(List.of("Ba", "Ba"), noms(table.chercherIntervalle(parNom, null, "C")));
+        assertEquals(List.of(), table.chercherIntervalle(parNom, "S", "B"));
+    }
+
+    @Test
+    void compteLesIntervallesJusquAuPlafond() {
+        assertEquals(3, table.compterIntervalle(parNom, "B", "E", Long.MAX_VALUE));
+        assertEquals(2, table.compterIntervalle(parNom, "B", "E", 2));
+        assertEquals(6, table.compterIntervalle(parNom, null, null, Long.MAX_VALUE));
+    }
+
+    @Test
+    void uneModificationEstReindexee() {
+        Client ba = table.chercher(parNom, "Ba").get(0);
+        Client renomme = new Client.Builder().id(ba.getId()).nom("Wade").prenom("p").email(ba.getEmail()).build();
+        renomme.setVersion(ba.getVersion());
+        table.ecrire(renomme);
+
+        assertEquals(1, table.compter(parNom, "Ba"));
+        assertEquals(List.of("Wade"), noms(table.chercherIntervalle(parNom, "W", null)));
+    }
+
+    @Test
+    void uneEcritureSurVersionPerimeeEstRefuseeEtNeReindexeRien() {
+        Client sow = table.chercher(parNom, "Sow").get(0);
+        Client premiere = new Client.Builder().id(sow.getId()).nom("Sy").prenom("p").email(sow.getEmail()).build();
+        premiere.setVersion(sow.getVersion());
+        Client perimee = new Client.Builder().id(sow.getId()).nom("Wade").prenom("p").email(sow.getEmail()).build();
+        perimee.setVersion(sow.getVersion());
+        table.ecrire(premiere);
+
+        assertThrows(OptimisticLockException.class, () -> table.ecrire(perimee));
+        assertEquals(sow.getVersion() + 1, table.get(sow.getId()).getVersion());
+        assertEquals("Sy", table.get(sow.getId()).getNom());
+        assertEquals(0, table.compter(parNom, "Wade"));
+    }
+
+    @Test
+    void indexEnumCompteEtChercheParConstante() {
+        Table<Commande> commandes = new Table<>("commandes", 16);
+        TableIndex<Commande, StatutCommande> parStatut = commandes.creerIndexEnum("statut",
+                StatutCommande.class, Commande::getStatut);
+        Client client = table.get(1);
+        Produit lampe = new Produit.Builder().id(1).name("Lampe").prixCentimes(2500).build();
+        for (StatutCommande statut : List.of(StatutCommande.EN_ATTENTE, StatutCommande.VALIDEE,
+                StatutCommande.EN_ATTENTE)) {
+            commandes.inserer(new Commande.Builder().client(client).statut(statut)
+                    .ajouterLigne(new LigneCommande(lampe, 1)).build());
+        }
+
+        assertEquals(2, commandes.compter(parStatut, StatutCommande.EN_ATTENTE));
+        assertEquals(List.of(2), commandes.chercher(parStatut, StatutCommande.VALIDEE).stream()
+                .map(Commande::getId).toList());
+        assertEquals(0, commandes.compter(parStatut, StatutCommande.LIVREE));
+    }
+
+    @Test
+    void lesLecturesNeSeBloquentPasEntreElles() throws Exception {
+        table.verrouiller();
+        try {
+            CompletableFuture<String> lecture = CompletableFuture.supplyAsync(() -> table.get(1).getNom());
+            assertEquals("Diallo", lecture.get(5, TimeUnit.SECONDS));
+            assertEquals(2, CompletableFuture.supplyAsync(() -> table.compter(parNom, "Ba"))
+                    .get(5, TimeUnit.SECONDS));
+        } finally {
+            table.deverrouiller();
+        }
+    }
+
+    private static Client client(String nom, String email) {
+        return new Client.Builder().nom(nom).prenom("p").email(email).build();
+    }
+
+    private static List<String> noms(List<Client> clients) {
+        return clients.stream().map(Client::getNom).toList();
+    }
+}
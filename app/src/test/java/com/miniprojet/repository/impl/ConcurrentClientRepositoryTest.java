@@ -0,0 +1,118 @@
+package com.miniprojet.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.miniprojet.model.Client;
+
+class ConcurrentClientRepositoryTest {
+
+    private static final int FILS = 8;
+
+    private ConcurrentClientRepository clients;
+    private ExecutorService executeur;
+
+    @BeforeEach
+    void creerRepository() {
+        clients = new ConcurrentClientRepository();
+        executeur = Executors.newFixedThreadPool(FILS);
+    }
+
+    @AfterEach
+    void arreterExecuteur() {
+        executeur.shutdownNow();
+    }
+
+    @Test
+    void lesEnregistrementsConcurrentsRecoiventDesIdsUniques() throws Exception {
+        CountDownLatch depart = new CountDownLatch(1);
+        List<Future<List<Integer>>> resultats = new ArrayList<>();
+        for (int fil = 0; fil < FILS; fil++) {
+            int numero = fil;
+            resultats.add(executeur.submit(() -> {
+                depart.await();
+                List<Integer> ids = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    ids.add(clients.save(client("c" + numero + "-" + i + "@x.sn")).getId());
+                }
+                // Un lot réserve un bloc d'ids contigu
+                List<Client> lot = List.of(client("l" + numero + "a@x.sn"), client("l" + numero + "b@x.sn"));
+                clients.saveAll(lot);
+                assertEquals(lot.get(0).getId() + 1, lot.get(1).getId());
+                ids.add(lot.get(0).getId());
+                ids.add(lot.get(1).getId());
+                return ids;
+            }));
+        }
+        depart.countDown();
+
+        Set<Integer> vus = new HashSet<>();
+        for (Future<List<Integer>> resultat : resultats) {
+            List<Integer> ids = resultat.get();
+            for (int i = 1; i < ids.size(); i++) {
+                assertTrue(ids.get(i) > ids.get(i - 1), "ids croissants dans un même fil");
+            }
+            vus.addAll(ids);
+        }
+        assertEquals(FILS * 102, vus.size());
+        assertEquals(FILS * 102, clients.findAll().size());
+        assertEquals(FILS * 102, (int) vus.stream().mapToInt(Integer::intValue).max().orElseThrow());
+    }
+
+    @Test
+    void unIdSupprimeNestJamaisRedonne() {
+        Client premier = clients.save(client("a@x.sn"));
+        Client second = clients.save(client("b@x.sn"));
+
+        assertTrue(clients.delete(second.getId()));
+        Client troisieme = clients.save(client("c@x.sn"));
+
+        assertEquals(second.getId() + 1, troisieme.getId());
+        assertEquals(List.of(premier.getId(), troisieme.getId()),
+                clients.findAll().stream().map(Client::getId).toList());
+    }
+
+    @Test
+    void unSeulClientGagneUnEmailDisputeEntreFils() throws Exception {
+        CountDownLatch depart = new CountDownLatch(1);
+        AtomicInteger refuses = new AtomicInteger();
+        List<Future<?>> taches = new ArrayList<>();
+        for (int fil = 0; fil < FILS; fil++) {
+            taches.add(executeur.submit(() -> {
+                depart.await();
+                try {
+                    clients.save(client("Meme@X.sn"));
+                } catch (IllegalStateException e) {
+                    refuses.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        depart.countDown();
+        for (Future<?> tache : taches) {
+            tache.get();
+        }
+
+        assertEquals(FILS - 1, refuses.get());
+        assertEquals(1, clients.findAll().size());
+        assertTrue(clients.findByEmail("meme@x.sn").isPresent());
+    }
+
+    private static Client client(String email) {
+        return new Client.Builder().nom("Diop").prenom("Awa").email(email).build();
+    }
+}
@@ -0,0 +1,103 @@
+package com.miniprojet.repository.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.miniprojet.exception.OptimisticLockException;
+import com.miniprojet.model.Produit;
+
+class ConcurrentProduitRepositoryTest {
+
+    private ConcurrentProduitRepository produits;
+    private Produit stylo;
+
+    @BeforeEach
+    void creerRepository() {
+        produits = new ConcurrentProduitRepository();
+        stylo = produits.save(new Produit.Builder().name("Stylo").prixCentimes(100).build());
+    }
+
+    @Test
+    void uneModificationIncrementeLaVersion() {
+        assertEquals(1, stylo.getVersion());
+
+        Produit copie = stylo.copie();
+        copie.setPrixCentimes(150);
+        produits.update(copie);
+
+        Produit enregistre = produits.findById(stylo.getId()).orElseThrow();
+        assertEquals(2, enregistre.getVersion());
+        assertEquals(150, enregistre.getPrixCentimes());
+    }
+
+    @Test
+    void uneCopiePerimeeEstRefuseeSansRienEcrire() {
+        Produit premiere = stylo.copie();
+        Produit seconde = stylo.copie();
+        premiere.setPrixCentimes(150);
+        produits.update(premiere);
+
+        seconde.setPrixCentimes(90);
+        OptimisticLockException conflit = assertThrows(OptimisticLockException.class,
+                () -> produits.update(seconde));
+
+        assertEquals(stylo.getId(), conflit.getId());
+        assertEquals(1, seconde.getVersion());
+        Produit enregistre = produits.findById(stylo.getId()).orElseThrow();
+        assertEquals(150, enregistre.getPrixCentimes());
+        assertEquals(2, enregistre.getVersion());
+    }
+
+    @Test
+    void aucuneModificationNestPerdueEntreFilsQuiReessaient() throws Exception {
+        int fils = 8;
+        int increments = 200;
+        ExecutorService executeur = Executors.newFixedThreadPool(fils);
+        try {
+            CountDownLatch depart = new CountDownLatch(1);
+            List<Future<?>> taches = new ArrayList<>();
+            for (int fil = 0; fil < fils; fil++) {
+                taches.add(executeur.submit(() -> {
+                    depart.await();
+                    for (int i = 0; i < increments; i++) {
+                        incrementerPrix();
+                    }
+                    return null;
+                }));
+            }
+            depart.countDown();
+            for (Future<?> tache : taches) {
+                tache.get();
+            }
+        } finally {
+            executeur.shutdownNow();
+        }
+
+        Produit enregistre = produits.findById(stylo.getId()).orElseThrow();
+        assertEquals(100 + fils * increments, enregistre.getPrixCentimes());
+        assertEquals(1 + fils * increments, enregistre.getVersion());
+    }
+
+    private void incrementerPrix() {
+        while (true) {
+            Produit copie = produits.findById(stylo.getId()).orElseThrow().copie();
+            copie.setPrixCentimes(copie.getPrixCentimes() + 1);
+            try {
+                produits.update(copie);
+                return;
+            } catch (OptimisticLockException e) {
+                // relu au tour suivant
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.miniprojet.repository.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class IntHashIndexTest {
+
+    @Test
+    void conserveLOrdreDInsertionEtLaPositionDUneCleRemplacee() {
+        IntHashIndex<String> index = new IntHashIndex<>();
+        index.put(3, "c");
+        index.put(1, "a");
+        index.put(2, "b");
+        assertEquals("c", index.put(3, "C"));
+
+        assertEquals(List.of("C", "a", "b"), index.values());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void pagineParCleCroissanteEnSautantLesSuppressions() {
+        IntHashIndex<Integer> index = new IntHashIndex<>();
+        for (int id = 1; id <= 10; id++) {
+            index.put(id, id);
+        }
+        index.remove(3);
+        index.remove(4);
+
+        assertEquals(List.of(1, 2, 5), index.page(0, 3));
+        assertEquals(List.of(5, 6), index.page(2, 2));
+        assertEquals(List.of(), index.page(10, 5));
+    }
+
+    @Test
+    void pagineAussiDesClesInsereesDansLDesordre() {
+        IntHashIndex<Integer> index = new IntHashIndex<>();
+        for (int id : new int[] { 7, 2, 9, 4, 1 }) {
+            index.put(id, id);
+        }
+
+        assertEquals(List.of(2, 4, 7), index.page(1, 3));
+    }
+
+    @Test
+    void compacteLesTrousAuLieuDAgrandir() {
+        IntHashIndex<Integer> index = new IntHashIndex<>(16);
+        for (int id = 1; id <= 16; id++) {
+            index.put(id, id);
+        }
+        for (int id = 1; id <= 12; id++) {
+            index.remove(id);
+        }
+
+        index.put(17, 17);
+
+        assertEquals(16, index.capacity());
+        assertEquals(List.of(13, 14, 15, 16, 17), index.values());
+        assertEquals(List.of(15, 16, 17), index.page(14, 10));
+        for (int id = 13; id <= 17; id++) {
+            assertEquals(id, index.get(id));
+        }
+        assertNull(index.get(5));
+    }
+
+    @Test
+    void laVueSauteLesSuppressionsSansModifierLIndex() {
+        IntHashIndex<Integer> index = new IntHashIndex<>(64);
+        for (int id = 1; id <= 10; id++) {
+            index.put(id, id);
+        }
+        index.remove(3);
+        index.remove(7);
+
+        List<Integer> vue = index.values();
+        assertEquals(8, vue.size());
+        assertEquals(4, vue.get(2));
+        assertEquals(10, vue.get(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> vue.get(8));
+        assertEquals(List.of(1, 2, 4, 5, 6, 8, 9, 10), List.copyOf(vue));
+        assertEquals(List.of(5, 6, 8), index.page(4, 3));
+    }
+
+    @Test
+    void laSuppressionCompacteAuDelaDeLaMoitieDeTrous() {
+        IntHashIndex<Integer> index = new IntHashIndex<>(64);
+        for (int id = 1; id <= 64; id++) {
+            index.put(id, id);
+        }
+        for (int id = 1; id <= 64; id += 2) {
+            index.remove(id);
+        }
+        index.remove(2);
+
+        assertEquals(31, index.size());
+        assertEquals(4, index.values().get(0));
+        assertEquals(64, index.lastKey(0));
+        for (int id = 4; id <= 64; id += 2) {
+            assertEquals(id, index.get(id));
+        }
+        assertNull(index.get(2));
+    }
+
+    @Test
+    void derniereCleVivante() {
+        IntHashIndex<String> index = new IntHashIndex<>();
+        assertEquals(0, index.lastKey(0));
+        index.put(1, "a");
+        index.put(2, "b");
+        index.remove(2);
+
+        assertEquals(1, index.lastKey(0));
+    }
+
+    @Test
+    void refuseLesValeursNullesEtLesLimitesNonPositives() {
+        IntHashIndex<String> index = new IntHashIndex<>();
+
+        assertThrows(IllegalArgumentException.class, () -> index.put(1, null));
+        assertThrows(IllegalArgumentException.class, () -> index.page(0, 0));
+    }
+}
@@ -0,0 +1,72 @@
+package com.miniprojet.repository.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void indexer() {
+        index = new InvertedIndex();
+        index.indexer(1, "Lampe design", "Lampe de bureau en laiton");
+        index.indexer(2, "Derby cuir", "Chaussure de ville");
+        index.indexer(3, "Crème brûlée", "Dessert à la vanille");
+    }
+
+    @Test
+    void normaliseAccentsEtCasse() {
+        assertEquals(List.of("creme", "brulee", "oeuvre"), InvertedIndex.termes("CRÈME Brûlée, la œuvre"));
+        assertEquals(List.of(3), ids("creme BRULEE"));
+    }
+
+    @Test
+    void exigeTousLesTermesEtIgnoreLesMotsVidesExacts() {
+        assertEquals(List.of(1), ids("lampe de bureau"));
+        assertEquals(List.of(), ids("lampe chaussure"));
+        assertEquals(List.of(), ids("de la"));
+    }
+
+    @Test
+    void prefixeGardeLeRadicalMemeSiCestUnMotVide() {
+        assertEquals(List.of(1), ids("la*"));
+        assertEquals(List.of(1, 2, 3), ids("de*").stream().sorted().toList());
+        assertEquals(List.of(1), ids("lampe de*"));
+    }
+
+    @Test
+    void leTitrePeseDavantageQueLaDescription() {
+        index.indexer(4, "Bureau", "Plateau en chêne");
+
+        assertEquals(List.of(4, 1), ids("bureau"));
+    }
+
+    @Test
+    void reindexerRemplaceLesTermesEtRetirerLesSupprime() {
+        index.indexer(1, "Applique murale", "");
+        assertEquals(List.of(), ids("lampe"));
+        assertEquals(List.of(1), ids("applique"));
+
+        index.retirer(1);
+        assertEquals(List.of(), ids("applique"));
+        assertEquals(2, index.nombreDeDocuments());
+    }
+
+    @Test
+    void limiteLeNombreDeResultats() {
+        assertEquals(1, index.rechercher("de*", 1).size());
+        assertTrue(index.rechercher("lampe", 0).isEmpty());
+    }
+
+    private List<Integer> ids(String requete) {
+        return index.rechercher(requete, 10).stream()
+                .map(InvertedIndex.Resultat::id)
+                .toList();
+    }
+}
@@ -0,0 +1,80 @@
+package com.miniprojet.repository.mapped;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProduitRecordStoreTest {
+
+    @TempDir
+    Path dossier;
+
+    private ProduitRecordStore store;
+
+    @BeforeEach
+    void ouvrir() {
+        store = new ProduitRecordStore(dossier, "produits");
+    }
+
+    @AfterEach
+    void fermer() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void ecrireSiVersionRefuseUneVersionPerimee() {
+        int id = store.reserverIds(1);
+        store.ecrire(id, 1, "Lampe", null, 25.0, true, 10, 2, 0);
+
+        assertEquals(-1, store.ecrireSiVersion(id, 1, "Lampe", null, 25.0, true, 8, 2, 3));
+        assertEquals(2, store.ecrireSiVersion(id, 1, "Lampe", null, 25.0, true, 1, 2, 0));
+        assertEquals(2, store.version(id));
+        assertEquals(8, store.quantite(id));
+        assertEquals(3, store.reserve(id));
+    }
+
+    @Test
+    void leStockProjeteEstEnLectureSeule() {
+        int id = store.reserverIds(1);
+        store.ecrire(id, 1, "Lampe", null, 25.0, true, 10, 2, 4);
+        MappedStock stock = new MappedStock(store, id);
+
+        assertEquals(6, stock.getDisponible());
+        assertThrows(UnsupportedOperationException.class, () -> stock.setQuantite(0));
+        assertThrows(UnsupportedOperationException.class, () -> stock.setReserve(0));
+        assertEquals(1, store.version(id));
+    }
+
+    @Test
+    void uneLectureDuNomNeMelangeJamaisDeuxEcritures() throws InterruptedException {
+        int id = store.reserverIds(1);
+        String court = "Lampe";
+        String detaille = "Lampe de bureau articulée en laiton brossé";
+        store.ecrire(id, 1, court, null, 25.0, false, 0, 0, 0);
+
+        AtomicBoolean fini = new AtomicBoolean();
+        Thread ecrivain = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                store.ecrire(id, 1, i % 2 == 0 ? detaille : court, null, 25.0, false, 0, 0, 0);
+            }
+            fini.set(true);
+        });
+        ecrivain.start();
+        Set<String> attendus = Set.of(court, detaille);
+        while (!fini.get()) {
+            String nom = store.nom(id);
+            assertTrue(attendus.contains(nom), nom);
+        }
+        ecrivain.join();
+    }
+}
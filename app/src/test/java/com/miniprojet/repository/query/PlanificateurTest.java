@@ -0,0 +1,112 @@
+package com.miniprojet.repository.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.miniprojet.model.Client;
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.LigneCommande;
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.StatutCommande;
+import com.miniprojet.repository.ICommandeRepository;
+import com.miniprojet.repository.impl.ConcurrentCommandeRepository;
+
+class PlanificateurTest {
+
+    private static final LocalDateTime DEBUT = LocalDateTime.of(2026, 3, 1, 10, 0);
+
+    private ConcurrentCommandeRepository commandes;
+
+    /**
+     * 40 commandes, une par jour: client (i % 4) + 1, une sur dix validée
+     */
+    @BeforeEach
+    void remplir() {
+        commandes = new ConcurrentCommandeRepository();
+        Produit lampe = new Produit.Builder().id(1).name("Lampe").prixCentimes(2500).build();
+        for (int i = 0; i < 40; i++) {
+            Client client = new Client.Builder().id(i % 4 + 1).nom("Ba").prenom("p").email("c" + i + "@x.sn").build();
+            commandes.save(new Commande.Builder()
+                    .client(client)
+                    .statut(i % 10 == 0 ? StatutCommande.VALIDEE : StatutCommande.EN_ATTENTE)
+                    .dateCommande(DEBUT.plusDays(i))
+                    .ajouterLigne(new LigneCommande(lampe, i + 1))
+                    .build());
+        }
+    }
+
+    @Test
+    void lIndexLePlusSelectifFournitLesCandidates() {
+        Query<Commande> query = new Query.Builder<Commande>()
+                .where(Critere.egal(ICommandeRepository.CLIENT, 1))
+                .where(Critere.egal(ICommandeRepository.STATUT, StatutCommande.VALIDEE))
+                .build();
+
+        Plan<Commande> plan = commandes.explain(query);
+
+        assertEquals("INDEX statut", plan.getAcces());
+        assertEquals(4, plan.getLignesEstimees());
+        assertEquals(attendu(query), ids(commandes.query(query)));
+    }
+
+    @Test
+    void unIntervalleEtroitEstPrefereAUnStatutCourant() {
+        Query<Commande> query = new Query.Builder<Commande>()
+                .where(Critere.egal(ICommandeRepository.STATUT, StatutCommande.EN_ATTENTE))
+                .where(Critere.entre(ICommandeRepository.DATE, DEBUT.plusDays(3), DEBUT.plusDays(6)))
+                .build();
+
+        Plan<Commande> plan = commandes.explain(query);
+
+        assertEquals("INDEX date", plan.getAcces());
+        assertEquals(3, plan.getLignesEstimees());
+        assertEquals(List.of(4, 5, 6), ids(commandes.query(query)));
+    }
+
+    @Test
+    void sansIndexUtilisableLaRequeteParcourtTriEtLimite() {
+        Query<Commande> query = new Query.Builder<Commande>()
+                .where(Critere.filtre("montant > 500", commande -> commande.getMontantTotalCentimes() > 50_000))
+                .orderBy(ICommandeRepository.DATE, false)
+                .limit(3)
+                .build();
+
+        assertEquals("SCAN", commandes.explain(query).getAcces());
+        assertEquals(List.of(40, 39, 38), ids(commandes.query(query)));
+        assertEquals(attendu(query), ids(commandes.query(query)));
+    }
+
+    @Test
+    void unIntervalleVideNeLitAucuneLigne() {
+        Query<Commande> query = new Query.Builder<Commande>()
+                .where(Critere.entre(ICommandeRepository.DATE, DEBUT.plusDays(5), DEBUT))
+                .build();
+
+        assertEquals("VIDE", commandes.explain(query).getAcces());
+        assertEquals(List.of(), commandes.query(query));
+    }
+
+    /**
+     * Même requête évaluée sur toutes les lignes, sans index
+     */
+    private List<Integer> attendu(Query<Commande> query) {
+        Stream<Commande> lignes = commandes.findAll().stream().filter(query::accepte);
+        if (query.comparateur() != null) {
+            lignes = lignes.sorted(query.comparateur());
+        }
+        if (query.getLimite() > 0) {
+            lignes = lignes.limit(query.getLimite());
+        }
+        return ids(lignes.toList());
+    }
+
+    private static List<Integer> ids(List<Commande> lignes) {
+        return lignes.stream().map(Commande::getId).toList();
+    }
+}
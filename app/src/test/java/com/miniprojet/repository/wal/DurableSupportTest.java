@@ -0,0 +1,98 @@
+package com.miniprojet.repository.wal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.miniprojet.model.Client;
+import com.miniprojet.repository.impl.ConcurrentClientRepository;
+
+class DurableSupportTest {
+
+    @TempDir
+    Path dossier;
+
+    private ClientsJournalises clients;
+
+    /**
+     * Même branchement que DurableClientRepository, sur un journal de test
+     */
+    private static final class ClientsJournalises extends ConcurrentClientRepository {
+        private final DurableSupport<Client> durabilite;
+
+        ClientsJournalises(WalStore<Client> store) {
+            durabilite = new DurableSupport<>(store);
+            durabilite.restaurer(this::remplacer, id -> super.delete(id));
+        }
+
+        @Override
+        public Client save(Client client) {
+            return durabilite.ecrire(() -> super.save(client), List::of);
+        }
+
+        @Override
+        protected void reindexer(int id, Client ancienne, Client nouvelle) {
+            durabilite.journaliser(id, ancienne, nouvelle, super::reindexer);
+        }
+    }
+
+    /**
+     * Refuse d'encoder les clients nommés "Panne", comme un journal en échec
+     */
+    private static final class CodecFragile implements EntityCodec<Client> {
+        private final ClientCodec codec = new ClientCodec();
+
+        @Override
+        public void ecrire(Client client, DataOutput sortie) throws IOException {
+            if ("Panne".equals(client.getNom())) {
+                throw new UncheckedIOException(new IOException("Disque plein"));
+            }
+            codec.ecrire(client, sortie);
+        }
+
+        @Override
+        public Client lire(DataInput entree) throws IOException {
+            return codec.lire(entree);
+        }
+    }
+
+    @BeforeEach
+    void ouvrir() {
+        clients = new ClientsJournalises(new WalStore<>(dossier, "clients", new CodecFragile(), Long.MAX_VALUE));
+    }
+
+    @Test
+    void unJournalEnEchecLaisseNiEntreeNiIndex() {
+        Client refuse = new Client.Builder().nom("Panne").prenom("Awa").email("awa@x.sn").build();
+
+        assertThrows(UncheckedIOException.class, () -> clients.save(refuse));
+        assertTrue(clients.findAll().isEmpty());
+        assertTrue(clients.findByEmail("awa@x.sn").isEmpty());
+
+        Client accepte = clients.save(new Client.Builder().nom("Diallo").prenom("Awa").email("awa@x.sn").build());
+        assertEquals(accepte.getId(), clients.findByEmail("AWA@x.sn").orElseThrow().getId());
+    }
+
+    @Test
+    void lesEcrituresJournaliseesSontRelues() {
+        clients.save(new Client.Builder().nom("Diallo").prenom("Awa").email("awa@x.sn").build());
+        clients.save(new Client.Builder().nom("Ba").prenom("Modou").email("modou@x.sn").build());
+
+        List<String> emails = new ArrayList<>();
+        new WalStore<>(dossier, "clients", new ClientCodec(), Long.MAX_VALUE)
+                .restaurer(client -> emails.add(client.getEmail()), id -> { });
+        assertEquals(List.of("awa@x.sn", "modou@x.sn"), emails);
+    }
+}
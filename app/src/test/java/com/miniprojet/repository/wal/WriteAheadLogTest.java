@@ -0,0 +1,115 @@
+package com.miniprojet.repository.wal;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WriteAheadLogTest {
+
+    @TempDir
+    Path dossier;
+
+    @Test
+    void relitLesEnregistrementsDansLOrdreApresLaSequenceDemandee() throws IOException {
+        try (WriteAheadLog journal = new WriteAheadLog(dossier, "produits", 0)) {
+            assertEquals(1, journal.ajouter(WriteAheadLog.ECRITURE, 10, octets("a")));
+            assertEquals(2, journal.ajouter(WriteAheadLog.ECRITURE, 11, octets("b")));
+            assertEquals(3, journal.ajouter(WriteAheadLog.SUPPRESSION, 10, new byte[0]));
+            journal.attendreDurabilite();
+        }
+
+        List<WriteAheadLog.Enregistrement> relus = new ArrayList<>();
+        long derniere = WriteAheadLog.relire(dossier, "produits", 1, relus::add);
+
+        assertEquals(3, derniere);
+        assertEquals(List.of(2L, 3L), relus.stream().map(WriteAheadLog.Enregistrement::sequence).toList());
+        assertEquals(WriteAheadLog.ECRITURE, relus.get(0).operation());
+        assertEquals(11, relus.get(0).id());
+        assertArrayEquals(octets("b"), relus.get(0).donnees());
+        assertEquals(WriteAheadLog.SUPPRESSION, relus.get(1).operation());
+    }
+
+    @Test
+    void reprendLaNumerotationEtRelitTousLesSegments() throws IOException {
+        try (WriteAheadLog journal = new WriteAheadLog(dossier, "clients", 0)) {
+            journal.ajouter(WriteAheadLog.ECRITURE, 1, octets("x"));
+            assertEquals(1, journal.basculer());
+            journal.ajouter(WriteAheadLog.ECRITURE, 2, octets("y"));
+        }
+        long derniere = WriteAheadLog.relire(dossier, "clients", 0, e -> { });
+        try (WriteAheadLog journal = new WriteAheadLog(dossier, "clients", derniere)) {
+            assertEquals(3, journal.ajouter(WriteAheadLog.ECRITURE, 3, octets("z")));
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        assertEquals(3, WriteAheadLog.relire(dossier, "clients", 0, e -> ids.add(e.id())));
+        assertEquals(List.of(1, 2, 3), ids);
+    }
+
+    @Test
+    void uneFinTronqueeArreteLaRelectureDuSegment() throws IOException {
+        try (WriteAheadLog journal = new WriteAheadLog(dossier, "commandes", 0)) {
+            journal.ajouter(WriteAheadLog.ECRITURE, 1, octets("complet"));
+            journal.ajouter(WriteAheadLog.ECRITURE, 2, octets("interrompu"));
+        }
+        Path segment = segments().get(0);
+        byte[] contenu = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(contenu, contenu.length - 3));
+
+        List<Integer> ids = new ArrayList<>();
+        assertEquals(1, WriteAheadLog.relire(dossier, "commandes", 0, e -> ids.add(e.id())));
+        assertEquals(List.of(1), ids);
+    }
+
+    @Test
+    void unEnregistrementCorrompuArreteLaRelectureDuSegment() throws IOException {
+        try (WriteAheadLog journal = new WriteAheadLog(dossier, "commandes", 0)) {
+            journal.ajouter(WriteAheadLog.ECRITURE, 1, octets("intact"));
+            journal.ajouter(WriteAheadLog.ECRITURE, 2, octets("abime"));
+        }
+        Path segment = segments().get(0);
+        byte[] contenu = Files.readAllBytes(segment);
+        contenu[contenu.length - 1] ^= 0x7F;
+        Files.write(segment, contenu);
+
+        List<Integer> ids = new ArrayList<>();
+        assertEquals(1, WriteAheadLog.relire(dossier, "commandes", 0, e -> ids.add(e.id())));
+        assertEquals(List.of(1), ids);
+    }
+
+    @Test
+    void purgeLesSegmentsCouvertsParUnSnapshot() throws IOException {
+        try (WriteAheadLog journal = new WriteAheadLog(dossier, "produits", 0)) {
+            journal.ajouter(WriteAheadLog.ECRITURE, 1, octets("a"));
+            long snapshot = journal.basculer();
+            journal.ajouter(WriteAheadLog.ECRITURE, 2, octets("b"));
+            journal.purgerJusqua(snapshot);
+        }
+
+        assertEquals(1, segments().size());
+        List<Integer> ids = new ArrayList<>();
+        WriteAheadLog.relire(dossier, "produits", 0, e -> ids.add(e.id()));
+        assertEquals(List.of(2), ids);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> fichiers = Files.list(dossier)) {
+            return fichiers.sorted().toList();
+        }
+    }
+
+    private static byte[] octets(String texte) {
+        return texte.getBytes(StandardCharsets.UTF_8);
+    }
+}
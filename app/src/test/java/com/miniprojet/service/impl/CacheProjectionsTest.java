@@ -0,0 +1,92 @@
+package com.miniprojet.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.miniprojet.model.Client;
+
+class CacheProjectionsTest {
+
+    private record Vue(int id, String nom) {
+    }
+
+    private final AtomicInteger projections = new AtomicInteger();
+    private CacheProjections<Client, Vue> cache;
+
+    @BeforeEach
+    void creerCache() {
+        cache = new CacheProjections<>(
+                c -> {
+                    projections.incrementAndGet();
+                    return new Vue(c.getId(), c.getNom());
+                },
+                (vue, c) -> vue.nom().equals(c.getNom()));
+    }
+
+    @Test
+    void partageLeDtoDUnMemeEtatMemeSiLaVersionChange() {
+        Client client = client(1, "Diallo");
+        Vue premiere = cache.projeter(client);
+        client.setVersion(client.getVersion() + 1);
+
+        assertSame(premiere, cache.projeter(client));
+        assertEquals(1, projections.get());
+    }
+
+    @Test
+    void gardeLesVariantesRecentes() {
+        Vue diallo = cache.projeter(client(1, "Diallo"));
+        Vue ba = cache.projeter(client(1, "Ba"));
+
+        assertNotSame(diallo, ba);
+        assertSame(diallo, cache.projeter(client(1, "Diallo")));
+        assertSame(ba, cache.projeter(client(1, "Ba")));
+        assertEquals(2, projections.get());
+        assertEquals(1, cache.taille());
+    }
+
+    @Test
+    void oublieLaVarianteLaPlusAncienneAuDelaDeQuatre() {
+        Vue plusAncienne = cache.projeter(client(1, "v0"));
+        for (int i = 1; i <= 4; i++) {
+            cache.projeter(client(1, "v" + i));
+        }
+
+        assertNotSame(plusAncienne, cache.projeter(client(1, "v0")));
+        assertEquals(6, projections.get());
+        cache.projeter(client(1, "v4"));
+        assertEquals(6, projections.get());
+    }
+
+    @Test
+    void neCachePasLesEntitesSansId() {
+        cache.projeter(client(0, "Nouveau"));
+        cache.projeter(client(0, "Nouveau"));
+
+        assertEquals(2, projections.get());
+        assertEquals(0, cache.taille());
+    }
+
+    @Test
+    void invaliderEtViderOublientLesProjections() {
+        Vue diallo = cache.projeter(client(1, "Diallo"));
+        cache.projeter(client(2, "Ba"));
+
+        cache.invalider(1);
+        assertEquals(1, cache.taille());
+        assertNotSame(diallo, cache.projeter(client(1, "Diallo")));
+
+        cache.vider();
+        assertEquals(0, cache.taille());
+    }
+
+    private static Client client(int id, String nom) {
+        return new Client.Builder().id(id).nom(nom).prenom("p").email(nom + "@x.sn").build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.miniprojet.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.miniprojet.analytics.VentesMaterialisees;
+import com.miniprojet.dto.ClientDTO;
+import com.miniprojet.dto.CommandeDTO;
+import com.miniprojet.dto.LigneCommandeDTO;
+import com.miniprojet.dto.ProduitDTO;
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.Stock;
+import com.miniprojet.repository.impl.ConcurrentCommandeRepository;
+import com.miniprojet.repository.impl.ConcurrentProduitRepository;
+
+class CommandeServiceTest {
+
+    private ConcurrentProduitRepository produits;
+    private ConcurrentCommandeRepository commandes;
+    private StockService stockService;
+    private Produit lampe;
+
+    @BeforeEach
+    void creerServices() {
+        produits = new ConcurrentProduitRepository();
+        commandes = new ConcurrentCommandeRepository();
+        stockService = new StockService(produits);
+        Produit produit = new Produit.Builder().name("Lampe").prixCentimes(2500).build();
+        produit.setStock(new Stock(10, 1));
+        lampe = produits.save(produit);
+    }
+
+    @Test
+    void creerReserveValiderSortLeStock() throws Exception {
+        CommandeService service = service(Duration.ofMinutes(15));
+
+        CommandeDTO creee = service.create(commande(4));
+        assertStock(10, 4);
+
+        service.validerCommande(creee.getId());
+        assertStock(6, 0);
+        assertEquals("VALIDEE", service.findById(creee.getId()).orElseThrow().getStatut());
+    }
+
+    @Test
+    void annulerLibereLaReservation() throws Exception {
+        CommandeService service = service(Duration.ofMinutes(15));
+
+        CommandeDTO creee = service.create(commande(4));
+        service.annulerCommande(creee.getId());
+
+        assertStock(10, 0);
+    }
+
+    @Test
+    void unStockInsuffisantRefuseLaCreationSansRienReserver() {
+        CommandeService service = service(Duration.ofMinutes(15));
+        service.create(commande(7));
+
+        assertThrows(IllegalStateException.class, () -> service.create(commande(4)));
+        assertStock(10, 7);
+        assertEquals(1, commandes.findAll().size());
+    }
+
+    @Test
+    void uneNouvelleCommandeValideeEstRefusee() {
+        CommandeService service = service(Duration.ofMinutes(15));
+        CommandeDTO dto = commande(4, "VALIDEE");
+
+        assertThrows(IllegalStateException.class, () -> service.create(dto));
+        assertStock(10, 0);
+        assertEquals(0, commandes.findAll().size());
+    }
+
+    @Test
+    void uneReservationExpireeRendLeStockEtLaValidationPuiseDansLeDisponible() throws Exception {
+        CommandeService service = service(Duration.ofMillis(50));
+
+        CommandeDTO creee = service.create(commande(4));
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (reserve() != 0 && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertStock(10, 0);
+
+        service.validerCommande(creee.getId());
+        assertStock(6, 0);
+    }
+
+    private CommandeService service(Duration delaiReservation) {
+        return new CommandeService(commandes, produits, stockService, new VentesMaterialisees(commandes),
+                delaiReservation);
+    }
+
+    private CommandeDTO commande(int quantite) {
+        return commande(quantite, null);
+    }
+
+    private CommandeDTO commande(int quantite, String statut) {
+        ClientDTO client = new ClientDTO.Builder().id(1).nom("Diallo").prenom("Awa").email("awa@x.sn").build();
+        ProduitDTO produit = new ProduitDTO.Builder().id(lampe.getId()).build();
+        return new CommandeDTO.Builder()
+                .client(client)
+                .lignes(List.of(new LigneCommandeDTO(produit, quantite, 2500)))
+                .statut(statut)
+                .build();
+    }
+
+    private int reserve() {
+        return produits.findById(lampe.getId()).orElseThrow().getStock().getReserve();
+    }
+
+    private void assertStock(int quantite, int reserve) {
+        Stock stock = produits.findById(lampe.getId()).orElseThrow().getStock();
+        assertEquals(quantite, stock.getQuantite());
+        assertEquals(reserve, stock.getReserve());
+    }
+}
@@ -0,0 +1,99 @@
+package com.miniprojet.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.miniprojet.analytics.VentesMaterialisees;
+import com.miniprojet.ingestion.RapportImport;
+import com.miniprojet.model.Client;
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.Stock;
+import com.miniprojet.repository.ICommandeRepository;
+import com.miniprojet.repository.impl.ConcurrentClientRepository;
+import com.miniprojet.repository.impl.ConcurrentCommandeRepository;
+import com.miniprojet.repository.impl.ConcurrentProduitRepository;
+
+class ImportCommandesServiceTest {
+
+    @TempDir
+    Path dossier;
+
+    private ConcurrentProduitRepository produits;
+    private ConcurrentClientRepository clients;
+    private Produit lampe;
+    private Client awa;
+
+    @BeforeEach
+    void creerRepositories() {
+        produits = new ConcurrentProduitRepository();
+        clients = new ConcurrentClientRepository();
+        Produit produit = new Produit.Builder().name("Lampe").prixCentimes(2500).build();
+        produit.setStock(new Stock(5, 0));
+        lampe = produits.save(produit);
+        awa = clients.save(new Client.Builder().nom("Diallo").prenom("Awa").email("awa@x.sn").build());
+    }
+
+    @Test
+    void rejetteChaqueCommandeInvalideAvecUnMotifEtImporteLesAutres() throws IOException {
+        ConcurrentCommandeRepository commandes = new ConcurrentCommandeRepository();
+        Path fichier = csv(
+                "reference,client,produit,quantite",
+                "A1,awa@x.sn," + lampe.getId() + ",3",
+                "A2,inconnu@x.sn," + lampe.getId() + ",1",
+                "A3,99999999999," + lampe.getId() + ",1",
+                "A4," + awa.getId() + ",999,1",
+                "A5," + awa.getId() + "," + lampe.getId() + ",0",
+                "A6," + awa.getId() + "," + lampe.getId() + ",3",
+                "A7,," + lampe.getId() + ",1",
+                "A8," + awa.getId() + "," + lampe.getId() + ",2");
+
+        RapportImport rapport = service(commandes).importer(fichier);
+
+        assertEquals(8, rapport.getCommandesLues());
+        assertEquals(2, rapport.getCommandesImportees());
+        assertEquals(List.of("A2", "A3", "A4", "A5", "A6", "A7"),
+                rapport.getErreurs().stream().map(RapportImport.Erreur::reference).toList());
+        assertTrue(rapport.getErreurs().get(4).message().startsWith("Stock insuffisant"));
+        assertEquals(2, commandes.findAll().size());
+        assertEquals(0, stock().getQuantite());
+    }
+
+    @Test
+    void unEnregistrementEnEchecRendLeStockSorti() throws IOException {
+        ConcurrentCommandeRepository enPanne = new ConcurrentCommandeRepository() {
+            @Override
+            public List<Commande> saveAll(List<Commande> lot) {
+                throw new IllegalStateException("Stockage indisponible");
+            }
+        };
+        Path fichier = csv("A1,awa@x.sn," + lampe.getId() + ",3");
+
+        assertThrows(IllegalStateException.class, () -> service(enPanne).importer(fichier));
+        assertEquals(5, stock().getQuantite());
+        assertEquals(0, enPanne.findAll().size());
+    }
+
+    private ImportCommandesService service(ICommandeRepository commandes) {
+        return new ImportCommandesService(commandes, produits, clients, new StockService(produits),
+                new VentesMaterialisees(commandes));
+    }
+
+    private Path csv(String... lignes) throws IOException {
+        return Files.write(dossier.resolve("commandes.csv"), List.of(lignes));
+    }
+
+    private Stock stock() {
+        return produits.findById(lampe.getId()).orElseThrow().getStock();
+    }
+}
@@ -0,0 +1,142 @@
+package com.miniprojet.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.Stock;
+import com.miniprojet.repository.impl.ConcurrentProduitRepository;
+import com.miniprojet.strategy.impl.ReservationStockStrategy;
+import com.miniprojet.strategy.impl.SortieStockStrategy;
+
+class StockServiceTest {
+
+    private static final int FILS = 8;
+
+    private ConcurrentProduitRepository produits;
+    private StockService stockService;
+    private ExecutorService executeur;
+    private Produit cahier;
+    private Produit stylo;
+
+    @BeforeEach
+    void creerService() {
+        produits = new ConcurrentProduitRepository();
+        stockService = new StockService(produits);
+        executeur = Executors.newFixedThreadPool(FILS);
+        cahier = produit("Cahier", 10);
+        stylo = produit("Stylo", 2);
+    }
+
+    @AfterEach
+    void arreterExecuteur() {
+        executeur.shutdownNow();
+    }
+
+    @Test
+    void unLotAvecUneLigneRefuseeNeModifieAucunProduit() {
+        Map<Produit, Integer> lot = new LinkedHashMap<>();
+        lot.put(cahier, 4);
+        lot.put(stylo, 3);
+
+        assertThrows(IllegalStateException.class,
+                () -> stockService.appliquerMouvements(new SortieStockStrategy(), lot));
+
+        assertEquals(10, stock(cahier).getQuantite());
+        assertEquals(2, stock(stylo).getQuantite());
+        assertEquals(1, produits.findById(cahier.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    void lesLignesDUnMemeProduitSontCumulees() {
+        Map<Produit, Integer> lot = new LinkedHashMap<>();
+        lot.put(cahier, 4);
+        lot.put(cahier.copie(), 5);
+
+        stockService.appliquerMouvements(new ReservationStockStrategy(), lot);
+
+        assertEquals(9, stock(cahier).getReserve());
+        assertEquals(10, stock(cahier).getQuantite());
+    }
+
+    @Test
+    void lesReservationsConcurrentesNeSurvendentJamais() throws Exception {
+        CountDownLatch depart = new CountDownLatch(1);
+        AtomicInteger refusees = new AtomicInteger();
+        List<Future<?>> taches = new ArrayList<>();
+        for (int fil = 0; fil < FILS; fil++) {
+            taches.add(executeur.submit(() -> {
+                depart.await();
+                for (int i = 0; i < 5; i++) {
+                    try {
+                        stockService.appliquerMouvements(new ReservationStockStrategy(),
+                                Map.of(cahier, 1, stylo, 0));
+                    } catch (IllegalStateException e) {
+                        refusees.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        depart.countDown();
+        for (Future<?> tache : taches) {
+            tache.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(10, stock(cahier).getReserve());
+        assertEquals(FILS * 5 - 10, refusees.get());
+    }
+
+    @Test
+    void deuxLotsQuiSeChevauchentNeSInterbloquentPas() throws Exception {
+        Produit bloc = produit("Bloc", 100_000);
+        Produit gomme = produit("Gomme", 100_000);
+        CountDownLatch depart = new CountDownLatch(1);
+        List<Future<?>> taches = new ArrayList<>();
+        for (int fil = 0; fil < FILS; fil++) {
+            // Moitié des fils dans un ordre, moitié dans l'autre
+            Map<Produit, Integer> lot = new LinkedHashMap<>();
+            lot.put(fil % 2 == 0 ? bloc : gomme, 1);
+            lot.put(fil % 2 == 0 ? gomme : bloc, 1);
+            taches.add(executeur.submit(() -> {
+                depart.await();
+                for (int i = 0; i < 200; i++) {
+                    stockService.appliquerMouvements(new SortieStockStrategy(), lot);
+                }
+                return null;
+            }));
+        }
+        depart.countDown();
+        for (Future<?> tache : taches) {
+            tache.get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(100_000 - FILS * 200, stock(bloc).getQuantite());
+        assertEquals(100_000 - FILS * 200, stock(gomme).getQuantite());
+    }
+
+    private Produit produit(String nom, int quantite) {
+        Produit produit = new Produit.Builder().name(nom).prixCentimes(500).build();
+        produit.setStock(new Stock(quantite, 0));
+        return produits.save(produit);
+    }
+
+    private Stock stock(Produit produit) {
+        return produits.findById(produit.getId()).orElseThrow().getStock();
+    }
+}
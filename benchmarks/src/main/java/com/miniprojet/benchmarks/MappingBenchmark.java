@@ -0,0 +1,108 @@
+package com.miniprojet.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.miniprojet.dto.ClientDTO;
+import com.miniprojet.dto.ClientDTOMapper;
+import com.miniprojet.dto.ProduitDTO;
+import com.miniprojet.dto.ProduitDTOMapper;
+import com.miniprojet.model.Client;
+import com.miniprojet.model.Commande;
+import com.miniprojet.model.LigneCommande;
+import com.miniprojet.model.Produit;
+import com.miniprojet.model.Stock;
+
+/**
+ * Coût du mapping entité -> DTO d'une commande (client + produit de chaque
+ * ligne): builders écrits à la main contre mappers générés.
+ *
+ * java -jar benchmarks/target/benchmarks.jar MappingBenchmark -prof gc
+ * (gc.alloc.rate.norm = octets alloués par commande mappée)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({ "5" })
+    private int lignes;
+
+    private Commande commande;
+
+    @Setup
+    public void preparer() {
+        Client client = new Client.Builder()
+                .id(1).nom("Diop").prenom("Awa").email("awa@exemple.sn")
+                .telephone("770000000").adresse("Dakar")
+                .build();
+        List<LigneCommande> lignesCommande = new ArrayList<>();
+        for (int i = 1; i <= lignes; i++) {
+            Produit produit = new Produit.Builder()
+                    .id(i).name("Produit " + i).description("Description " + i).price(1000 + i)
+                    .stock(new Stock(100, 5, 2))
+                    .build();
+            lignesCommande.add(new LigneCommande(produit, i));
+        }
+        commande = new Commande.Builder().id(1).client(client).lignes(lignesCommande).build();
+    }
+
+    @Benchmark
+    public void builders(Blackhole trou) {
+        trou.consume(clientParBuilder(commande.getClient()));
+        for (LigneCommande ligne : commande.getLignes()) {
+            trou.consume(produitParBuilder(ligne.getProduit()));
+        }
+    }
+
+    @Benchmark
+    public void mappersGeneres(Blackhole trou) {
+        trou.consume(ClientDTOMapper.versDTO(commande.getClient()));
+        for (LigneCommande ligne : commande.getLignes()) {
+            trou.consume(ProduitDTOMapper.versDTO(ligne.getProduit()));
+        }
+    }
+
+    // Mapping tel qu'écrit dans les services avant les mappers générés
+    private static ClientDTO clientParBuilder(Client client) {
+        return new ClientDTO.Builder()
+                .id(client.getId())
+                .version(client.getVersion())
+                .nom(client.getNom())
+                .prenom(client.getPrenom())
+                .email(client.getEmail())
+                .telephone(client.getTelephone())
+                .adresse(client.getAdresse())
+                .build();
+    }
+
+    private static ProduitDTO produitParBuilder(Produit produit) {
+        return new ProduitDTO.Builder()
+                .id(produit.getId())
+                .version(produit.getVersion())
+                .name(produit.getName())
+                .description(produit.getDescription())
+                .price(produit.getPrice())
+                .quantiteStock(produit.getStock() != null ? produit.getStock().getQuantite() : 0)
+                .quantiteReservee(produit.getStock() != null ? produit.getStock().getReserve() : 0)
+                .seuilAlerte(produit.getStock() != null ? produit.getStock().getSeuilAlerte() : 0)
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.miniprojet.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Propriété de la source lue pour ce paramètre, quand son nom diffère
+ * ("stock.quantite" = getStock().getQuantite()). Si une étape
+ * intermédiaire est null, le paramètre reçoit sa valeur par défaut.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.PARAMETER)
+public @interface Chemin {
+
+    String value();
+}
@@ -0,0 +1,24 @@
+package com.miniprojet.mapping;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Demande la génération, à la compilation, d'un mapper source -> DTO annoté
+ *
+ * Le mapper généré (classe NomDuDTOMapper, même package) appelle le
+ * constructeur non privé du DTO qui a le plus de paramètres. Chaque
+ * paramètre est lu sur la source par son getter (getNom() / isNom()), ou
+ * par le chemin donné avec @Chemin. Aucune réflexion ni objet intermédiaire.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenererMapper {
+
+    /**
+     * Classe lue par le mapper (une entité du modèle)
+     */
+    Class<?> source();
+}
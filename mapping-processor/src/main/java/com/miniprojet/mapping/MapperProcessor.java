@@ -0,0 +1,225 @@
+package com.miniprojet.mapping;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedSourceVersion;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Génère les mappers des classes annotées @GenererMapper
+ *
+ * Pour un DTO Cible(a, b, c) lu depuis Source, produit:
+ *
+ * <pre>
+ * public static Cible versDTO(Source source) {
+ *     if (source == null) return null;
+ *     X stock = source.getStock();
+ *     return new Cible(source.getA(), source.getB(), stock != null ? stock.getC() : 0);
+ * }
+ * </pre>
+ *
+ * Une propriété introuvable ou de type incompatible est une erreur de
+ * compilation signalée sur le paramètre.
+ */
+@SupportedAnnotationTypes("com.miniprojet.mapping.GenererMapper")
+@SupportedSourceVersion(SourceVersion.RELEASE_21)
+public class MapperProcessor extends AbstractProcessor {
+
+    private static final String SOURCE = "source";
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (Element element : round.getElementsAnnotatedWith(GenererMapper.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                erreur(element, "@GenererMapper s'applique à une classe");
+                continue;
+            }
+            TypeElement cible = (TypeElement) element;
+            TypeElement source = sourceDe(cible);
+            ExecutableElement constructeur = constructeur(cible);
+            if (source == null || constructeur == null) {
+                continue;
+            }
+            try {
+                generer(cible, source, constructeur);
+            } catch (IOException e) {
+                erreur(cible, "Écriture du mapper impossible: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private TypeElement sourceDe(TypeElement cible) {
+        // Lue sur le miroir: la classe source n'est pas forcément compilée
+        for (AnnotationMirror annotation : cible.getAnnotationMirrors()) {
+            if (!annotation.getAnnotationType().toString().equals(GenererMapper.class.getName())) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> valeur : annotation
+                    .getElementValues().entrySet()) {
+                if (valeur.getKey().getSimpleName().contentEquals(SOURCE)) {
+                    return (TypeElement) ((DeclaredType) valeur.getValue().getValue()).asElement();
+                }
+            }
+        }
+        erreur(cible, "@GenererMapper sans source");
+        return null;
+    }
+
+    /**
+     * Constructeur non privé ayant le plus de paramètres
+     */
+    private ExecutableElement constructeur(TypeElement cible) {
+        ExecutableElement meilleur = null;
+        for (ExecutableElement constructeur : ElementFilter.constructorsIn(cible.getEnclosedElements())) {
+            if (constructeur.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            if (meilleur == null || constructeur.getParameters().size() > meilleur.getParameters().size()) {
+                meilleur = constructeur;
+            }
+        }
+        if (meilleur == null || meilleur.getParameters().isEmpty()) {
+            erreur(cible, "Aucun constructeur non privé avec paramètres pour le mapper");
+        }
+        return meilleur;
+    }
+
+    private void generer(TypeElement cible, TypeElement source, ExecutableElement constructeur)
+            throws IOException {
+        String paquet = processingEnv.getElementUtils().getPackageOf(cible).getQualifiedName().toString();
+        String nomMapper = cible.getSimpleName() + "Mapper";
+
+        // Variables locales des étapes intermédiaires ("stock" -> source.getStock())
+        Map<String, String> locales = new LinkedHashMap<>();
+        List<String> arguments = new ArrayList<>();
+        for (VariableElement parametre : constructeur.getParameters()) {
+            String argument = lecture(source, parametre, locales);
+            if (argument == null) {
+                return;
+            }
+            arguments.add(argument);
+        }
+
+        StringBuilder code = new StringBuilder();
+        if (!paquet.isEmpty()) {
+            code.append("package ").append(paquet).append(";\n\n");
+        }
+        code.append("/**\n * Généré par ").append(MapperProcessor.class.getSimpleName())
+                .append(" depuis @GenererMapper: ne pas modifier\n */\n")
+                .append("@javax.annotation.processing.Generated(\"").append(MapperProcessor.class.getName())
+                .append("\")\n")
+                .append("public final class ").append(nomMapper).append(" {\n\n")
+                .append("    private ").append(nomMapper).append("() {\n    }\n\n")
+                .append("    public static ").append(cible.getQualifiedName()).append(" versDTO(")
+                .append(source.getQualifiedName()).append(" source) {\n")
+                .append("        if (source == null) {\n            return null;\n        }\n");
+        locales.forEach((nom, declaration) -> code.append("        ").append(declaration).append('\n'));
+        code.append("        return new ").append(cible.getQualifiedName()).append("(\n                ")
+                .append(String.join(",\n                ", arguments))
+                .append(");\n    }\n}\n");
+
+        try (Writer writer = processingEnv.getFiler()
+                .createSourceFile(paquet.isEmpty() ? nomMapper : paquet + "." + nomMapper, cible)
+                .openWriter()) {
+            writer.write(code.toString());
+        }
+    }
+
+    /**
+     * Expression lisant le paramètre sur la source, null (erreur signalée)
+     * si le chemin ne se résout pas
+     */
+    private String lecture(TypeElement source, VariableElement parametre, Map<String, String> locales) {
+        Chemin chemin = parametre.getAnnotation(Chemin.class);
+        String[] etapes = (chemin != null ? chemin.value() : parametre.getSimpleName().toString()).split("\\.");
+
+        String objet = "source";
+        TypeMirror type = source.asType();
+        for (int i = 0; i < etapes.length; i++) {
+            ExecutableElement getter = getter(type, etapes[i]);
+            if (getter == null) {
+                erreur(parametre, "Propriété introuvable sur " + type + ": " + etapes[i]);
+                return null;
+            }
+            String appel = objet + "." + getter.getSimpleName() + "()";
+            type = getter.getReturnType();
+            if (i == etapes.length - 1) {
+                if (!processingEnv.getTypeUtils().isAssignable(type, parametre.asType())) {
+                    erreur(parametre, type + " n'est pas assignable au paramètre " + parametre.asType());
+                    return null;
+                }
+                return objet.equals("source")
+                        ? appel
+                        : objet + " != null ? " + appel + " : " + defaut(parametre.asType());
+            }
+            if (type.getKind() != TypeKind.DECLARED) {
+                erreur(parametre, "Étape non navigable (" + type + "): " + etapes[i]);
+                return null;
+            }
+            // Une locale par préfixe de chemin, partagée entre paramètres
+            String locale = String.join("_", Arrays.copyOfRange(etapes, 0, i + 1));
+            if (!locales.containsKey(locale)) {
+                locales.put(locale, processingEnv.getTypeUtils().erasure(type) + " " + locale + " = "
+                        + (objet.equals("source") ? appel : objet + " != null ? " + appel + " : null") + ";");
+            }
+            objet = locale;
+        }
+        return null;
+    }
+
+    private ExecutableElement getter(TypeMirror type, String propriete) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        String suffixe = Character.toUpperCase(propriete.charAt(0)) + propriete.substring(1);
+        for (ExecutableElement methode : ElementFilter
+                .methodsIn(processingEnv.getElementUtils().getAllMembers(element))) {
+            String nom = methode.getSimpleName().toString();
+            if (methode.getModifiers().contains(Modifier.PUBLIC)
+                    && !methode.getModifiers().contains(Modifier.STATIC)
+                    && methode.getParameters().isEmpty()
+                    && (nom.equals("get" + suffixe) || nom.equals("is" + suffixe) || nom.equals(propriete))) {
+                return methode;
+            }
+        }
+        return null;
+    }
+
+    private static String defaut(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "false";
+            case CHAR -> "'\\0'";
+            case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE -> "0";
+            default -> "null";
+        };
+    }
+
+    private void erreur(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
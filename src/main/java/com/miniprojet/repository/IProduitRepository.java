@@ -1,7 +0,0 @@
-package com.miniprojet.repository;
-
-import com.miniprojet.model.Produit;
-
-public interface IProduitRepository extends IRepository<Produit> {
-
-}